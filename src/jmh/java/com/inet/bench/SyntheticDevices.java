@@ -0,0 +1,138 @@
+package com.inet.bench;
+
+import com.inet.entity.Classroom;
+import com.inet.entity.Device;
+import com.inet.entity.Manage;
+import com.inet.entity.Operator;
+import com.inet.entity.School;
+import com.inet.entity.Uid;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 장비 데이터 (DB 없이 메모리에서 생성)
+ * - 같은 seed면 항상 같은 데이터가 만들어지므로 실행 간 결과 비교 가능
+ * - 교실 약 30대당 1개, 담당자 약 50대당 1명, 세트분류는 절반 정도만 지정
+ */
+public final class SyntheticDevices {
+
+    private static final String[] TYPES = {"데스크톱", "노트북", "모니터", "프린터", "TV", "전자칠판", "태블릿", "프로젝터"};
+    private static final String[] UID_CATES = {"DW", "NB", "MO", "PR", "TV", "ED", "TB", "PJ"};
+    private static final String[] MANUFACTURERS = {"삼성전자", "LG전자", "HP", "레노버", "에이수스", "엡손"};
+    private static final String[] PURPOSES = {"교사용", "학생용", "행정용", "기타", "컴퓨터교육"};
+    private static final String[] SET_TYPES = {"교사용 세트", "학생용 세트", "전자칠판 세트"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수아", "현우", "지민"};
+    private static final String[] POSITIONS = {"교사", "정보부장", "행정실장", "주무관"};
+    private static final String[] ROOM_KINDS = {"과학실", "음악실", "미술실", "도서실", "컴퓨터실", "교무실", "행정실", "방송실"};
+
+    private SyntheticDevices() {
+    }
+
+    /**
+     * 학교 하나에 deviceCount대의 장비 생성
+     */
+    public static List<Device> generate(int deviceCount, long seed) {
+        Random random = new Random(seed);
+
+        School school = new School();
+        school.setSchoolId(1L);
+        school.setSchoolName("벤치마크초등학교");
+        school.setIp(101);
+
+        int classroomCount = Math.max(1, deviceCount / 30);
+        List<Classroom> classrooms = new ArrayList<>(classroomCount);
+        for (int i = 0; i < classroomCount; i++) {
+            Classroom classroom = new Classroom();
+            classroom.setClassroomId((long) i + 1);
+            classroom.setSchool(school);
+            classroom.setRoomName(roomName(i));
+            // 일부 교실은 순위가 없는 상태(이전 데이터)로 둠
+            classroom.setSortRank(random.nextInt(10) == 0 ? null : (long) (i + 1) << 20);
+            classrooms.add(classroom);
+        }
+
+        int operatorCount = Math.max(1, deviceCount / 50);
+        List<Operator> operators = new ArrayList<>(operatorCount);
+        for (int i = 0; i < operatorCount; i++) {
+            Operator operator = new Operator();
+            operator.setOperatorId((long) i + 1);
+            operator.setSchool(school);
+            operator.setName(FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]);
+            operator.setPosition(POSITIONS[random.nextInt(POSITIONS.length)]);
+            operators.add(operator);
+        }
+
+        List<Device> devices = new ArrayList<>(deviceCount);
+        for (int i = 0; i < deviceCount; i++) {
+            int typeIndex = random.nextInt(TYPES.length);
+
+            Uid uid = new Uid();
+            uid.setUidId((long) i + 1);
+            uid.setCate(UID_CATES[typeIndex]);
+            uid.setIdNumber((long) i + 1);
+            uid.setMfgYear(String.valueOf(15 + random.nextInt(10)));
+            uid.setDisplayUid(UID_CATES[typeIndex] + uid.getMfgYear() + String.format("%04d", i + 1));
+            uid.setSchool(school);
+
+            Manage manage = new Manage();
+            manage.setManageId((long) i + 1);
+            manage.setSchool(school);
+            manage.setManageCate("정보");
+            manage.setYear(2015 + random.nextInt(10));
+            manage.setManageNum((long) i + 1);
+
+            Device device = new Device();
+            device.setDeviceId((long) i + 1);
+            device.setSchool(school);
+            device.setType(TYPES[typeIndex]);
+            device.setManufacturer(MANUFACTURERS[random.nextInt(MANUFACTURERS.length)]);
+            device.setModelName("MD-" + (1000 + random.nextInt(9000)));
+            device.setPurchaseDate(LocalDate.of(2015 + random.nextInt(10), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            // 10.101.c.h 대역에 분산 (일부는 IP 없음)
+            if (random.nextInt(8) != 0) {
+                device.setIpAddress("10." + (100 + random.nextInt(4)) + "." + random.nextInt(8) + "." + (1 + random.nextInt(254)));
+            }
+            device.setClassroom(classrooms.get(random.nextInt(classroomCount)));
+            device.setOperator(operators.get(random.nextInt(operatorCount)));
+            device.setPurpose(PURPOSES[random.nextInt(PURPOSES.length)]);
+            device.setSetType(random.nextBoolean() ? SET_TYPES[random.nextInt(SET_TYPES.length)] : null);
+            device.setUnused(random.nextInt(20) == 0);
+            device.setNote(random.nextInt(5) == 0 ? "수리 이력 있음" : null);
+            device.setUid(uid);
+            device.setManage(manage);
+            devices.add(device);
+        }
+        return devices;
+    }
+
+    /**
+     * 평면도 장비 라벨("TV 1, DK 6" 형식) 생성
+     */
+    public static List<String> equipmentLabels(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> labels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder label = new StringBuilder();
+            int kinds = 1 + random.nextInt(6);
+            for (int k = 0; k < kinds; k++) {
+                if (k > 0) {
+                    label.append(", ");
+                }
+                label.append(UID_CATES[random.nextInt(UID_CATES.length)]).append(' ').append(1 + random.nextInt(40));
+            }
+            labels.add(label.toString());
+        }
+        return labels;
+    }
+
+    private static String roomName(int index) {
+        if (index % 4 == 3) {
+            return ROOM_KINDS[(index / 4) % ROOM_KINDS.length] + (index / 32 > 0 ? " " + (index / 32 + 1) : "");
+        }
+        return (index % 6 + 1) + "-" + (index / 6 + 1);
+    }
+}
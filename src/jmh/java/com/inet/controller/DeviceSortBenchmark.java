@@ -0,0 +1,69 @@
+package com.inet.controller;
+
+import com.inet.bench.SyntheticDevices;
+import com.inet.entity.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 장비 목록/엑셀 정렬 (교실 순서 > 세트분류 > 담당자)
+ * - 목록 화면과 같이 교실 순 정렬 후 교실별로 묶고, 교실 안에서 세트분류/담당자 순 정렬
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeviceSortBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int deviceCount;
+
+    private List<Device> shuffled;
+
+    @Setup
+    public void setUp() {
+        shuffled = SyntheticDevices.generate(deviceCount, 42L);
+        Collections.shuffle(shuffled, new Random(7L));
+    }
+
+    @Benchmark
+    public List<Device> sortByClassroom() {
+        List<Device> devices = new ArrayList<>(shuffled);
+        devices.sort(DeviceController::compareByClassroom);
+        return devices;
+    }
+
+    @Benchmark
+    public List<Device> sortListOrder() {
+        List<Device> devices = new ArrayList<>(shuffled);
+        devices.sort(DeviceController::compareByClassroom);
+
+        Map<String, List<Device>> devicesByClassroom = devices.stream()
+            .collect(Collectors.groupingBy(device ->
+                device.getClassroom() != null && device.getClassroom().getRoomName() != null ?
+                device.getClassroom().getRoomName() : "미지정 교실",
+                LinkedHashMap::new, Collectors.toList()
+            ));
+
+        List<Device> sorted = new ArrayList<>(devices.size());
+        for (List<Device> classroomDevices : devicesByClassroom.values()) {
+            classroomDevices.sort(DeviceController::compareBySetTypeAndOperator);
+            sorted.addAll(classroomDevices);
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,54 @@
+package com.inet.controller;
+
+import com.inet.bench.SyntheticDevices;
+import com.inet.entity.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * IP 목록 화면 그룹화 (두 번째 옥텟별 그룹 + 대역별 1~254 목록 생성)
+ * - 입력은 DB 조회와 같이 정수 IP 순으로 정렬된 장비
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IpGroupingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int deviceCount;
+
+    private List<Device> devices;
+
+    @Setup
+    public void setUp() {
+        devices = SyntheticDevices.generate(deviceCount, 42L).stream()
+            .filter(device -> device.getIpNumeric() != null)
+            .sorted(Comparator.comparing(Device::getIpNumeric))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<String, List<Device>> groupBySecondOctet() {
+        return IpController.groupBySecondOctet(devices);
+    }
+
+    @Benchmark
+    public void buildIpLists(Blackhole blackhole) {
+        for (List<Device> group : IpController.groupBySecondOctet(devices).values()) {
+            blackhole.consume(IpController.buildIpList(group));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.inet.service;
+
+import com.inet.bench.SyntheticDevices;
+import com.inet.entity.Device;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 장비 키워드 검색 필터 (DeviceService.searchDevices에서 DB 조회 이후 부분)
+ * - 담당자명처럼 일부만 맞는 키워드와 아무것도 맞지 않는 키워드(모든 컬럼 확인) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeviceSearchBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int deviceCount;
+
+    @Param({"김민준", "2019년", "없는키워드"})
+    String keyword;
+
+    private List<Device> devices;
+
+    @Setup
+    public void setUp() {
+        devices = SyntheticDevices.generate(deviceCount, 42L);
+    }
+
+    @Benchmark
+    public List<Device> filterByKeyword() {
+        String normalized = keyword.trim().toLowerCase();
+        return devices.stream()
+            .filter(device -> DeviceService.matchesKeyword(device, normalized))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.inet.service;
+
+import com.inet.bench.SyntheticDevices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PPT 장비 라벨 배치 (텍스트 너비 추정 + 교실 크기에 맞는 폰트/줄바꿈 탐색)
+ * - labelCount는 평면도 한 장의 교실 수에 해당
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PptLabelFitBenchmark {
+
+    // A4 슬라이드 기준 교실 텍스트 영역 (pt)
+    private static final double ROOM_TEXT_WIDTH = 42.0;
+    private static final double ROOM_TEXT_HEIGHT = 14.0;
+    private static final double REQUESTED_FONT_SIZE = 6.0;
+
+    @Param({"50", "500", "5000"})
+    int labelCount;
+
+    private List<String> labels;
+
+    @Setup
+    public void setUp() {
+        labels = SyntheticDevices.equipmentLabels(labelCount, 42L);
+    }
+
+    @Benchmark
+    public double estimateTextWidth() {
+        double total = 0;
+        for (String label : labels) {
+            total += PPTExportService.estimateTextWidth(label, REQUESTED_FONT_SIZE);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void fitEquipmentLabels(Blackhole blackhole) {
+        for (String label : labels) {
+            blackhole.consume(PPTExportService.fitEquipmentLabel(label, REQUESTED_FONT_SIZE, ROOM_TEXT_WIDTH, ROOM_TEXT_HEIGHT));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.inet.service;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR 코드 PNG 생성 (QrCodeService.generateQrCode -> QrImageRenderer)
+ * - encode: 캐시 없이 매번 인코딩 (라벨 첫 출력)
+ * - cached: 같은 내용 재출력 (캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QrCodeBenchmark {
+
+    @Param({"100", "200", "400"})
+    int size;
+
+    private QrImageRenderer renderer;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws WriterException {
+        renderer = new QrImageRenderer();
+        renderer.render(content(0), size, ErrorCorrectionLevel.H);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Benchmark
+    public byte[] encode() throws WriterException {
+        return renderer.encodePng(content(++sequence), size, ErrorCorrectionLevel.H);
+    }
+
+    @Benchmark
+    public byte[] cached() throws WriterException {
+        return renderer.render(content(0), size, ErrorCorrectionLevel.H);
+    }
+
+    private static String content(int index) {
+        return "TV24" + String.format("%05d", index % 100000);
+    }
+}
@@ -0,0 +1,350 @@
+package com.inet.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inet.entity.Feature;
+import com.inet.entity.Permission;
+import com.inet.entity.School;
+import com.inet.entity.SchoolPermission;
+import com.inet.entity.User;
+import com.inet.entity.UserRole;
+import com.inet.entity.UserStatus;
+import com.inet.repository.PermissionRepository;
+import com.inet.repository.SchoolPermissionRepository;
+import com.inet.repository.SchoolRepository;
+import com.inet.repository.UserRepository;
+import com.inet.service.SyntheticDataService;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP 부하 테스트 (./gradlew loadTest)
+ * - H2 메모리 DB에 가상 학교 데이터를 만들고 앱을 임의 포트로 띄운 뒤, 가상 스레드 사용자 N명이 정해진 시간 동안 요청 반복
+ * - 요청 구성: 목록 페이징/필터, 키워드 검색, 평면도 자동 저장, 검사 클릭, PPT/ZIP 내보내기, 엑셀 업로드
+ * - 엔드포인트별 p50/p95/p99, 처리량을 build/reports/loadtest/loadtest-*.json 으로 기록 (실행 간 비교용)
+ *
+ * 설정 (-Ploadtest.xxx=값): concurrency, duration-seconds, warmup-seconds, schools, seed
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"h2", "loadtest"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HttpLoadTest {
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest123!";
+
+    private static final String[] DEVICE_TYPES = {"데스크톱", "모니터", "프린터", "TV", "전자칠판", "태블릿"};
+    private static final String[] KEYWORDS = {"삼성", "교사용", "1-2", "김", "10.1", "프린터", "과학실", "2019년"};
+    private static final String[] INSPECTION_STATUSES = {"confirmed", "modified"};
+
+    /**
+     * 요청 종류와 비중 (합계 100)
+     */
+    private enum Action {
+        LIST_PAGE(35), SEARCH(20), INSPECTION_CLICK(20), FLOORPLAN_AUTOSAVE(15),
+        PPT_EXPORT(4), ZIP_EXPORT(3), EXCEL_UPLOAD(3);
+
+        final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+
+        static Action pick(ThreadLocalRandom random) {
+            int value = random.nextInt(100);
+            for (Action action : values()) {
+                value -= action.weight;
+                if (value < 0) {
+                    return action;
+                }
+            }
+            return LIST_PAGE;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private SchoolPermissionRepository schoolPermissionRepository;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private final int schoolCount = Integer.getInteger("loadtest.schools", 3);
+    private final long seed = Long.getLong("loadtest.seed", 20240301L);
+
+    // 조회/검사/평면도 대상 학교 (업로드 학교는 장비가 계속 늘어나므로 제외)
+    private List<Long> schoolIds;
+    private Long uploadSchoolId;
+    private final Map<Long, long[]> deviceIdsBySchool = new HashMap<>();
+    private final Map<Long, List<String>> roomNamesBySchool = new HashMap<>();
+    private final AtomicLong uploadSerial = new AtomicLong(1);
+
+    @BeforeAll
+    void prepareData() {
+        SyntheticDataService.Result result = syntheticDataService.generate(new SyntheticDataService.Options(
+            schoolCount + 1, seed, 30, 90, 4, 24, 6, "부하테스트학교"));
+        List<Long> generated = result.schoolIds();
+        schoolIds = generated.subList(0, generated.size() - 1);
+        uploadSchoolId = generated.get(generated.size() - 1);
+
+        for (Long schoolId : generated) {
+            deviceIdsBySchool.put(schoolId, jdbcTemplate.queryForList(
+                "SELECT device_id FROM device WHERE school_id = ?", Long.class, schoolId)
+                .stream().mapToLong(Long::longValue).toArray());
+            roomNamesBySchool.put(schoolId, jdbcTemplate.queryForList(
+                "SELECT room_name FROM classroom WHERE school_id = ?", String.class, schoolId));
+        }
+        createLoadTestUser(generated);
+    }
+
+    private void createLoadTestUser(List<Long> schools) {
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setName("부하테스트");
+        user.setRole(UserRole.ADMIN);
+        user.setStatus(UserStatus.APPROVED);
+        user.setBirthDate("1990-01-01");
+        user.setOrganization("부하테스트");
+        user.setPosition("테스트");
+        user.setPhoneNumber("010-0000-0000");
+        user.setEmail("loadtest@inet.local");
+        user.setSecurityQuestion("테스트");
+        user.setSecurityAnswer("테스트");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setApprovedAt(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        for (Feature feature : Feature.values()) {
+            permissionRepository.save(new Permission(user, feature));
+        }
+        for (School school : schoolRepository.findAllById(schools)) {
+            schoolPermissionRepository.save(new SchoolPermission(user, school));
+        }
+    }
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        String baseUrl = "http://localhost:" + port;
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<LoadClient> clients = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            LoadClient client = new LoadClient(baseUrl, recorder);
+            client.login(USERNAME, PASSWORD);
+            clients.add(client);
+        }
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (LoadClient client : clients) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        client.setRecording(System.nanoTime() >= warmupEnd);
+                        try {
+                            perform(client, Action.pick(ThreadLocalRandom.current()));
+                        } catch (Exception e) {
+                            // 요청 실패는 LoadClient에서 기록됨 (응답 파싱/엑셀 생성 오류만 여기로 옴)
+                        }
+                    }
+                });
+            }
+        }
+
+        Map<String, Map<String, Object>> endpoints = recorder.summarize(durationSeconds);
+        Path report = writeReport(endpoints);
+        printSummary(endpoints, report);
+
+        Map<String, Object> total = endpoints.get("total");
+        assertTrue(((Number) total.get("count")).longValue() > 0, "측정 구간에 완료된 요청이 없습니다.");
+    }
+
+    private void perform(LoadClient client, Action action) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long schoolId = schoolIds.get(random.nextInt(schoolIds.size()));
+        switch (action) {
+            case LIST_PAGE -> {
+                String type = random.nextBoolean() ? "&type=" + encode(DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)]) : "";
+                client.get("GET /device/list", "/device/list?schoolId=" + schoolId + type
+                    + "&page=" + (1 + random.nextInt(5)) + "&size=16");
+            }
+            case SEARCH -> client.get("GET /device/list?searchKeyword", "/device/list?schoolId=" + schoolId
+                + "&searchKeyword=" + encode(KEYWORDS[random.nextInt(KEYWORDS.length)]));
+            case INSPECTION_CLICK -> {
+                long[] deviceIds = deviceIdsBySchool.get(schoolId);
+                Map<String, Object> body = Map.of(
+                    "deviceId", deviceIds[random.nextInt(deviceIds.length)],
+                    "schoolId", schoolId,
+                    "status", INSPECTION_STATUSES[random.nextInt(INSPECTION_STATUSES.length)]);
+                client.postJson("POST /device/inspection/status/save", "/device/inspection/status/save",
+                    objectMapper.writeValueAsString(body));
+            }
+            case FLOORPLAN_AUTOSAVE -> autosaveFloorPlan(client, schoolId, 1 + random.nextInt(4));
+            case PPT_EXPORT -> client.get("GET /floorplan/export/ppt", "/floorplan/export/ppt?schoolId=" + schoolId
+                + "&mode=" + (random.nextBoolean() ? "equipment" : "wireless-ap"));
+            case ZIP_EXPORT -> client.postJson("POST /file-download/download", "/file-download/download",
+                objectMapper.writeValueAsString(Map.of(
+                    "schoolId", schoolId,
+                    "types", List.of("device-ledger", "ip-ledger", "device-floorplan"))));
+            case EXCEL_UPLOAD -> client.upload("POST /device/upload", "/device/upload", "devices.xlsx",
+                uploadWorkbook(uploadSchoolId, 50), "schoolId", String.valueOf(uploadSchoolId));
+        }
+    }
+
+    /**
+     * 평면도 자동 저장: 현재 평면도를 읽어 한 페이지의 요소를 조금 옮긴 뒤 페이지 단위로 저장
+     */
+    @SuppressWarnings("unchecked")
+    private void autosaveFloorPlan(LoadClient client, Long schoolId, int page) throws IOException {
+        HttpResponse<byte[]> response = client.get("GET /floorplan/api/schools/{id}", "/floorplan/api/schools/" + schoolId);
+        if (response == null || response.statusCode() != 200) {
+            return;
+        }
+        Map<String, Object> loaded = objectMapper.readValue(response.body(), Map.class);
+        Map<String, Object> data = (Map<String, Object>) loaded.get("data");
+        if (data == null) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        if (data.get("floorPlan") instanceof Map<?, ?> floorPlan) {
+            payload.putAll((Map<String, Object>) floorPlan);
+        }
+        List<Map<String, Object>> elements = new ArrayList<>();
+        for (Map<String, Object> element : (List<Map<String, Object>>) data.getOrDefault("elements", List.of())) {
+            Object pageNumber = element.get("pageNumber");
+            if (pageNumber instanceof Number number && number.intValue() == page) {
+                Map<String, Object> moved = new LinkedHashMap<>(element);
+                if (moved.get("xCoordinate") instanceof Number x) {
+                    moved.put("xCoordinate", x.doubleValue() + ThreadLocalRandom.current().nextInt(-5, 6));
+                }
+                elements.add(moved);
+            }
+        }
+        payload.put("elements", elements);
+        payload.put("currentPage", page);
+        client.putJson("PUT /floorplan/api/schools/{id}", "/floorplan/api/schools/" + schoolId,
+            objectMapper.writeValueAsString(payload));
+    }
+
+    /**
+     * 장비 업로드 엑셀 (헤더 없음, 열 순서: 고유번호, 관리번호, 장비구분, 직위, 취급자, 제조사, 모델명, 도입일자, IP, 교실, 용도, 세트분류, 비고)
+     */
+    private byte[] uploadWorkbook(Long schoolId, int rows) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> roomNames = roomNamesBySchool.get(schoolId);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("장비");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            for (int i = 0; i < rows; i++) {
+                long serial = uploadSerial.getAndIncrement();
+                Row row = sheet.createRow(i);
+                row.createCell(1).setCellValue("업로드-" + (2020 + random.nextInt(5)) + "-" + serial);
+                row.createCell(2).setCellValue(DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)]);
+                row.createCell(3).setCellValue("교사");
+                row.createCell(4).setCellValue("부하테스트");
+                row.createCell(5).setCellValue("삼성전자");
+                row.createCell(6).setCellValue("LT-" + serial);
+                row.createCell(7).setCellValue(LocalDate.of(2020 + random.nextInt(5), 3, 2));
+                row.getCell(7).setCellStyle(dateStyle);
+                row.createCell(8).setCellValue("10.99." + (serial / 254 % 256) + "." + (serial % 254 + 1));
+                row.createCell(9).setCellValue(roomNames.get(random.nextInt(roomNames.size())));
+                row.createCell(10).setCellValue("교사용");
+                row.createCell(11).setCellValue("교사용 세트");
+                row.createCell(12).setCellValue("부하테스트 업로드");
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private Path writeReport(Map<String, Map<String, Object>> endpoints) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().minusSeconds(durationSeconds + warmupSeconds).toString());
+        report.put("concurrency", concurrency);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("durationSeconds", durationSeconds);
+        report.put("schools", schoolCount);
+        report.put("devices", deviceIdsBySchool.entrySet().stream()
+            .filter(entry -> !entry.getKey().equals(uploadSchoolId))
+            .mapToInt(entry -> entry.getValue().length).sum());
+        report.put("seed", seed);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("endpoints", endpoints);
+
+        Path dir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private void printSummary(Map<String, Map<String, Object>> endpoints, Path report) {
+        System.out.printf("%n%-40s %8s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)");
+        endpoints.forEach((endpoint, stats) -> System.out.printf("%-40s %8s %7s %9s %9s %9s %9s%n", endpoint,
+            stats.get("count"), stats.get("errors"), stats.get("throughputPerSec"),
+            stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms")));
+        System.out.println("report: " + report);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package com.inet.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 (측정 구간 동안의 모든 요청을 보관하여 정확한 백분위 계산)
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * 엔드포인트별 요약 (이름순) + 전체("total")
+     */
+    public Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        Samples total = new Samples();
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(samplesByEndpoint).entrySet()) {
+            summary.put(entry.getKey(), entry.getValue().summarize(elapsedSeconds));
+            total.addAll(entry.getValue());
+        }
+        summary.put("total", total.summarize(elapsedSeconds));
+        return summary;
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    add(other.nanos[i], true);
+                }
+                errors += other.errors;
+            }
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("errors", errors);
+            result.put("throughputPerSec", round(count / Math.max(elapsedSeconds, 0.001)));
+            result.put("meanMs", round(count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0));
+            result.put("p50Ms", percentile(sorted, 50));
+            result.put("p95Ms", percentile(sorted, 95));
+            result.put("p99Ms", percentile(sorted, 99));
+            result.put("maxMs", count == 0 ? 0 : round(sorted[count - 1] / 1_000_000.0));
+            return result;
+        }
+
+        // nearest-rank 백분위 (ms)
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return round(sorted[Math.max(0, rank - 1)] / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
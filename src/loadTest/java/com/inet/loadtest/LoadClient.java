@@ -0,0 +1,119 @@
+package com.inet.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 가상 사용자 하나의 HTTP 클라이언트 (사용자마다 세션 쿠키 분리, 리다이렉트는 따라가지 않음)
+ * - 요청마다 응답 시간과 성공 여부를 LatencyRecorder에 기록
+ */
+public class LoadClient {
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient;
+
+    // 측정 구간 밖(준비 단계)에서는 기록하지 않음
+    private volatile boolean recording;
+
+    public LoadClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * 폼 로그인 (성공 시 "/" 등으로 302, 실패 시 /login 으로 302)
+     */
+    public void login(String username, String password) throws IOException, InterruptedException {
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+            + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("/login")) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + location);
+        }
+    }
+
+    public HttpResponse<byte[]> get(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(), false);
+    }
+
+    public HttpResponse<byte[]> postJson(String endpoint, String path, String json) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build(), false);
+    }
+
+    public HttpResponse<byte[]> putJson(String endpoint, String path, String json) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(json))
+            .build(), false);
+    }
+
+    /**
+     * multipart/form-data 업로드 (처리 후 302 리다이렉트가 정상 응답)
+     */
+    public HttpResponse<byte[]> upload(String endpoint, String path, String fileName, byte[] content,
+                                       String fieldName, String fieldValue) {
+        String boundary = "----inet" + UUID.randomUUID().toString().replace("-", "");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeAscii(body, "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + fieldName + "\"\r\n\r\n" + fieldValue + "\r\n");
+        writeAscii(body, "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+            + "Content-Type: application/vnd.openxmlformats-officedocument.spreadsheetml.sheet\r\n\r\n");
+        body.writeBytes(content);
+        writeAscii(body, "\r\n--" + boundary + "--\r\n");
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+            .build(), true);
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, boolean redirectExpected) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // 연결 오류는 실패로 기록
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - start;
+        boolean success = response != null
+            && (redirectExpected ? response.statusCode() == 302 : response.statusCode() == 200);
+        if (recording) {
+            recorder.record(endpoint, elapsed, success);
+        }
+        return response;
+    }
+
+    private static void writeAscii(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.inet;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
@@ -11,7 +12,10 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 public class INETApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(INETApplication.class, args);
+		SpringApplication application = new SpringApplication(INETApplication.class);
+		// 시작 단계별 소요 시간 기록 (StartupTimingReporter 로그, /actuator/startup)
+		application.setApplicationStartup(new BufferingApplicationStartup(10_000));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,18 @@
+package com.inet.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 무거운 내보내기 작업 (ExportExecutionAspect가 동시 실행 수가 제한된 내보내기 전용 스레드에서 실행)
+ * - 요청 스레드는 작업이 끝날 때까지 대기, 대기열이 가득 차면 503
+ * - 내보내기 작업 안에서 다시 호출되면 같은 스레드에서 바로 실행
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExportTask {
+    // 작업 이름 (로그/메트릭 태그, 예: ppt)
+    String value();
+}
@@ -0,0 +1,24 @@
+package com.inet.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 실행 시간 측정 대상 (MetricsAspect에서 Micrometer 타이머로 기록)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MonitoredOperation {
+    // 메트릭 이름 (예: inet.device.search)
+    String value();
+    // 학교 규모 태그를 계산할 학교 ID 파라미터 이름
+    String schoolParam() default "schoolId";
+    // mode 태그로 쓸 파라미터 이름 (비어 있으면 태그 없음)
+    String modeParam() default "";
+    // mode 태그 허용 값 (그 외 값은 other)
+    String[] modes() default {};
+    // 진행 중인 내보내기 수 게이지(inet.exports.active)에 포함 여부
+    boolean export() default false;
+}
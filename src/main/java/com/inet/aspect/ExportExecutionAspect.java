@@ -0,0 +1,40 @@
+package com.inet.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.inet.annotation.ExportTask;
+import com.inet.service.ExportExecutor;
+
+/**
+ * @ExportTask 메서드를 ExportExecutor에서 실행
+ * - 가장 바깥에서 적용되어 트랜잭션과 메트릭(MetricsAspect)은 내보내기 스레드에서 시작됨
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ExportExecutionAspect {
+
+    private final ExportExecutor exportExecutor;
+
+    public ExportExecutionAspect(ExportExecutor exportExecutor) {
+        this.exportExecutor = exportExecutor;
+    }
+
+    @Around("@annotation(exportTask)")
+    public Object runOnExportExecutor(ProceedingJoinPoint joinPoint, ExportTask exportTask) throws Throwable {
+        return exportExecutor.execute(exportTask.value(), () -> {
+            try {
+                return joinPoint.proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.inet.aspect;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import com.inet.annotation.MonitoredOperation;
+import com.inet.service.SchoolSizeBucketService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @MonitoredOperation 메서드 실행 시간 기록
+ * - 태그: school_size(학교 규모 구간), mode(허용 값만), outcome(success/error)
+ * - export = true 이면 실행 중인 동안 inet.exports.active 게이지에 포함
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private static final String ACTIVE_EXPORTS = "inet.exports.active";
+
+    private final MeterRegistry meterRegistry;
+    private final SchoolSizeBucketService schoolSizeBucketService;
+    private final Map<String, AtomicInteger> activeExports = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry, SchoolSizeBucketService schoolSizeBucketService) {
+        this.meterRegistry = meterRegistry;
+        this.schoolSizeBucketService = schoolSizeBucketService;
+    }
+
+    @Around("@annotation(operation)")
+    public Object time(ProceedingJoinPoint joinPoint, MonitoredOperation operation) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String[] paramNames = signature.getParameterNames();
+        Object[] args = joinPoint.getArgs();
+
+        Tags tags = Tags.of("school_size", schoolSizeTag(operation, paramNames, args));
+        if (!operation.modeParam().isEmpty()) {
+            tags = tags.and("mode", modeTag(operation, paramNames, args));
+        }
+
+        AtomicInteger active = operation.export() ? activeExports.computeIfAbsent(operation.value(),
+            name -> meterRegistry.gauge(ACTIVE_EXPORTS, Tags.of("operation", name), new AtomicInteger())) : null;
+        if (active != null) {
+            active.incrementAndGet();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            if (active != null) {
+                active.decrementAndGet();
+            }
+            sample.stop(Timer.builder(operation.value())
+                .tags(tags.and(Tag.of("outcome", outcome)))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    private String schoolSizeTag(MonitoredOperation operation, String[] paramNames, Object[] args) {
+        Object value = argument(operation.schoolParam(), paramNames, args);
+        if (!(value instanceof Long schoolId)) {
+            return SchoolSizeBucketService.UNKNOWN;
+        }
+        try {
+            return schoolSizeBucketService.bucketOf(schoolId);
+        } catch (RuntimeException e) {
+            // 메트릭 태그 계산 실패로 본 작업이 실패하지 않도록 함
+            return SchoolSizeBucketService.UNKNOWN;
+        }
+    }
+
+    private String modeTag(MonitoredOperation operation, String[] paramNames, Object[] args) {
+        Object value = argument(operation.modeParam(), paramNames, args);
+        if (value == null) {
+            return "none";
+        }
+        String mode = value.toString();
+        return Arrays.asList(operation.modes()).contains(mode) ? mode : "other";
+    }
+
+    private Object argument(String name, String[] paramNames, Object[] args) {
+        if (name.isEmpty() || paramNames == null) {
+            return null;
+        }
+        for (int i = 0; i < paramNames.length; i++) {
+            if (paramNames[i].equals(name)) {
+                return args[i];
+            }
+        }
+        return null;
+    }
+}
@@ -80,6 +80,9 @@ public class PermissionAspect {
             }
             
             if (school != null) {
+                if (school.isDeleting()) {
+                    throw new RuntimeException("데이터 삭제가 진행 중인 학교입니다.");
+                }
                 boolean hasSchoolPermission = schoolPermissionService.hasSchoolPermission(user, school);
                 if (!hasSchoolPermission) {
                     throw new RuntimeException("해당 학교에 대한 접근 권한이 없습니다.");
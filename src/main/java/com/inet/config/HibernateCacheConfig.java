@@ -0,0 +1,79 @@
+package com.inet.config;
+
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.jcache.ExtendedMutableConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 (cache2k JCache)
+ * - 자주 다시 읽는 기준 엔티티(학교, 교실, 담당자, 관리번호, 고유번호)와 드롭다운 조회 쿼리 결과를 캐시
+ * - 영역별 최대 개수와 유지 시간은 아래 region() 설정으로 제한
+ * - 영역 이름은 엔티티의 @Cache(region = ...)와 일치해야 함 (없는 영역은 시작 시 오류)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String SCHOOL_REGION = "school";
+    public static final String SCHOOL_CLASSROOMS_REGION = "school.classrooms";
+    public static final String SCHOOL_OPERATORS_REGION = "school.operators";
+    public static final String CLASSROOM_REGION = "classroom";
+    public static final String OPERATOR_REGION = "operator";
+    public static final String MANAGE_REGION = "manage";
+    public static final String UID_REGION = "uid";
+
+    // Hibernate 기본 쿼리 캐시 영역
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(
+            "org.cache2k.jcache.provider.JCacheProvider", HibernateCacheConfig.class.getClassLoader());
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("hibernate-l2"), HibernateCacheConfig.class.getClassLoader());
+
+        region(cacheManager, SCHOOL_REGION, 1_000, 60);
+        region(cacheManager, SCHOOL_CLASSROOMS_REGION, 1_000, 30);
+        region(cacheManager, SCHOOL_OPERATORS_REGION, 1_000, 30);
+        region(cacheManager, CLASSROOM_REGION, 50_000, 30);
+        region(cacheManager, OPERATOR_REGION, 20_000, 30);
+        region(cacheManager, MANAGE_REGION, 20_000, 30);
+        region(cacheManager, UID_REGION, 50_000, 30);
+        region(cacheManager, QUERY_RESULTS_REGION, 5_000, 10);
+        // 테이블별 마지막 변경 시각 (쿼리 결과보다 먼저 만료되면 안 되므로 만료 없음)
+        region(cacheManager, UPDATE_TIMESTAMPS_REGION, 10_000, 0);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * 캐시 영역 생성 (expireMinutes가 0이면 만료 없음)
+     */
+    private static void region(CacheManager cacheManager, String name, long capacity, long expireMinutes) {
+        Cache2kBuilder<Object, Object> builder = Cache2kBuilder.of(Object.class, Object.class)
+            .entryCapacity(capacity);
+        if (expireMinutes > 0) {
+            builder.expireAfterWrite(expireMinutes, TimeUnit.MINUTES);
+        } else {
+            builder.eternal(true);
+        }
+        ExtendedMutableConfiguration<Object, Object> configuration = ExtendedMutableConfiguration.of(builder);
+        // Hibernate 캐시 항목은 불변이므로 직렬화 복사 없이 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -90,22 +90,40 @@ public class PermissionHelper {
      * @return 권한이 있으면 User 객체, 없으면 null
      */
     public User checkSchoolPermission(User user, Feature feature, Long schoolId, RedirectAttributes redirectAttributes) {
+        return checkSchoolPermission(user, feature, schoolId, false, redirectAttributes);
+    }
+    
+    /**
+     * 삭제 진행 중인 학교도 허용하는 권한 체크 (학교 데이터 삭제/진행 상황 조회용)
+     */
+    public User checkSchoolPermissionIncludingDeleting(User user, Feature feature, Long schoolId, RedirectAttributes redirectAttributes) {
+        return checkSchoolPermission(user, feature, schoolId, true, redirectAttributes);
+    }
+    
+    private User checkSchoolPermission(User user, Feature feature, Long schoolId, boolean includeDeleting,
+                                       RedirectAttributes redirectAttributes) {
         // 1. 기능 권한 체크
         if (!permissionService.hasPermission(user, feature)) {
-            redirectAttributes.addFlashAttribute("error", getPermissionDeniedMessage(feature));
+            flashError(redirectAttributes, getPermissionDeniedMessage(feature));
             return null;
         }
         
         // 2. 학교 권한 체크 (schoolId가 있는 경우만)
         if (schoolId != null) {
-            School school = schoolService.getSchoolById(schoolId).orElse(null);
+            School school = schoolService.getSchoolIncludingDeleting(schoolId).orElse(null);
             if (school == null) {
-                redirectAttributes.addFlashAttribute("error", "존재하지 않는 학교입니다.");
+                flashError(redirectAttributes, "존재하지 않는 학교입니다.");
+                return null;
+            }
+            
+            // 삭제 진행 중인 학교는 조회/변경 불가
+            if (school.isDeleting() && !includeDeleting) {
+                flashError(redirectAttributes, "데이터 삭제가 진행 중인 학교입니다.");
                 return null;
             }
             
             if (!schoolPermissionService.hasSchoolPermission(user, school)) {
-                redirectAttributes.addFlashAttribute("error", "해당 학교에 대한 권한이 없습니다. 관리자에게 문의하세요.");
+                flashError(redirectAttributes, "해당 학교에 대한 권한이 없습니다. 관리자에게 문의하세요.");
                 return null;
             }
         }
@@ -127,4 +145,11 @@ public class PermissionHelper {
         }
         return user;
     }
+    
+    // 호출하는 쪽에서 redirectAttributes 없이(null) 체크하는 경우가 있음
+    private void flashError(RedirectAttributes redirectAttributes, String message) {
+        if (redirectAttributes != null) {
+            redirectAttributes.addFlashAttribute("error", message);
+        }
+    }
 }
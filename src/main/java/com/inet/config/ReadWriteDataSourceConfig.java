@@ -0,0 +1,120 @@
+package com.inet.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기/쓰기 DB 분리 (inet.datasource.replica.url 설정 시에만 사용)
+ * - 기본 DB는 spring.datasource.*, 복제 DB는 inet.datasource.replica.* (풀 설정은 .hikari.*)
+ * - @Transactional(readOnly = true)와 내보내기 작업은 복제 DB, 나머지는 기본 DB
+ * - 복제 지연은 check-interval-seconds마다 확인 (ReadWriteRoutingDataSource)
+ * - 읽기 전용 트랜잭션은 Hibernate 2차/쿼리 캐시를 채우지 않음 (ReplicaCacheModeJpaDialect)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inet.datasource.replica", name = "url")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("inet.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${inet.datasource.replica.url}") String url,
+                                              @Value("${inet.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${inet.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        // 복제 DB에는 쓰지 않음
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       HikariDataSource replicaDataSource,
+                                                       MeterRegistry meterRegistry,
+                                                       @Value("${inet.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                                       @Value("${inet.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, lagQuery, maxLagSeconds);
+        routingDataSource.checkReplica();
+
+        Gauge.builder("inet.datasource.replica.available", routingDataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+            .register(meterRegistry);
+        Gauge.builder("inet.datasource.replica.lag", routingDataSource, ReadWriteRoutingDataSource::getReplicaLagSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        return routingDataSource;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService replicaLagChecker(ReadWriteRoutingDataSource routingDataSource,
+                                                     @Value("${inet.datasource.replica.check-interval-seconds:10}") long intervalSeconds) {
+        ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(routingDataSource::checkReplica, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        return checker;
+    }
+
+    /**
+     * 복제 DB에서 읽은 엔티티/쿼리 결과가 2차 캐시에 들어가지 않도록 JPA 트랜잭션 처리 교체
+     * - EntityManagerFactory 초기화 전에 지정해야 하므로 BeanPostProcessor (static)
+     */
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * JPA/JDBC가 사용하는 DataSource
+     * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로 실제 연결은 첫 SQL 실행 때 가져옴
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,138 @@
+package com.inet.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB, 그 외는 기본 DB로 연결
+ * - 트랜잭션 시작 후 첫 SQL 시점에 판단해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 복제 지연이 maxLagSeconds를 넘거나, 지연 조회/연결에 실패하면 다음 확인까지 기본 DB 사용
+ * - 지연 조회(lagQuery)가 비어 있으면 연결 확인만 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public enum Target { PRIMARY, REPLICA }
+
+    // MySQL 8.0.22 이전 버전은 Seconds_Behind_Master
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable;
+    private volatile long replicaLagSeconds = -1;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, String lagQuery, long maxLagSeconds) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markUnavailable("연결 실패: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * 복제 DB 상태 확인 (주기적으로 호출, 결과에 따라 읽기 전용 트랜잭션 연결 대상 변경)
+     */
+    public boolean checkReplica() {
+        try (Connection connection = replica.getConnection()) {
+            long lag = queryLagSeconds(connection);
+            replicaLagSeconds = lag;
+            if (lag > maxLagSeconds) {
+                markUnavailable("복제 지연 " + lag + "초 (허용 " + maxLagSeconds + "초)");
+            } else if (!replicaAvailable) {
+                replicaAvailable = true;
+                log.info("복제 DB 사용 - 지연 {}초", lag);
+            }
+        } catch (SQLException | IllegalStateException e) {
+            replicaLagSeconds = -1;
+            markUnavailable(e.getMessage());
+        }
+        return replicaAvailable;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연 (초, 확인 실패 시 -1)
+     */
+    public long getReplicaLagSeconds() {
+        return replicaLagSeconds;
+    }
+
+    private long queryLagSeconds(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            if (!connection.isValid(5)) {
+                throw new IllegalStateException("복제 DB 연결 확인 실패");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("복제 상태 없음 (복제가 설정되지 않은 DB)");
+            }
+            long lag = resultSet.getLong(lagColumnIndex(resultSet.getMetaData()));
+            if (resultSet.wasNull()) {
+                throw new IllegalStateException("복제 지연 알 수 없음 (복제 중지 상태)");
+            }
+            return lag;
+        }
+    }
+
+    // SHOW REPLICA STATUS 결과면 지연 컬럼, 그 외 조회는 첫 번째 컬럼
+    private static int lagColumnIndex(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String column : LAG_COLUMNS) {
+                if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private void markUnavailable(String reason) {
+        if (replicaAvailable) {
+            replicaAvailable = false;
+            log.warn("복제 DB 사용 중지, 기본 DB로 읽기 - {}", reason);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.inet.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 DB 분리 시 읽기 전용 트랜잭션은 2차 캐시/쿼리 캐시를 읽기만 함 (CacheMode.GET)
+ * - 읽기 전용 트랜잭션은 복제 DB에서 읽으므로 지연된 행이 캐시에 들어가 만료 시까지 기본 DB 대신 쓰이는 것을 막음
+ * - 캐시는 기본 DB를 쓰는 읽기/쓰기 트랜잭션에서만 채워지고, 조회는 모든 트랜잭션에서 캐시 우선
+ * - 트랜잭션 종료 시 세션의 원래 캐시 모드로 되돌림 (open-in-view로 세션이 이어지는 경우)
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+        throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            transactionData = readOnly.delegate();
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
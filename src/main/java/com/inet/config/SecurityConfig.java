@@ -31,6 +31,10 @@ public class SecurityConfig {
                 .requestMatchers("/", "/login", "/signup", "/find-id", "/find-password", "/get-security-question", "/css/**", "/js/**", "/images/**", 
                                "/main.css", "/navbar.css", "/favicon.ico").permitAll()
                 
+                // 상태 확인 및 지표 수집 (관리 포트에서만 노출)
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                
                 // 관리자만 접근 가능한 페이지들
                 .requestMatchers("/admin/**", "/user/approve/**", "/user/reject/**", "/user/suspend/**").hasRole("ADMIN")
                 
@@ -0,0 +1,121 @@
+package com.inet.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * 요청별 SQL 문 수/DB 시간 집계
+ * - 기준(inet.sql.warn-threshold)을 넘으면 엔드포인트와 함께 경고 로그
+ * - inet.sql.server-timing=true 이면 응답 본문을 쓰기 직전까지의 값을 Server-Timing 헤더로 내보냄 (운영 프로필은 끔)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    @Value("${inet.sql.warn-threshold:50}")
+    private int warnThreshold;
+
+    @Value("${inet.sql.server-timing:true}")
+    private boolean serverTimingEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.begin(false)) {
+            ServerTimingResponse timingResponse = serverTimingEnabled ? new ServerTimingResponse(response, scope) : null;
+            try {
+                filterChain.doFilter(request, timingResponse != null ? timingResponse : response);
+            } finally {
+                if (timingResponse != null) {
+                    timingResponse.addServerTiming();
+                }
+                if (scope.getStatementCount() > warnThreshold) {
+                    log.warn("SQL 문 과다 - {} {}: {}건, DB {}ms", request.getMethod(), endpoint(request),
+                        scope.getStatementCount(), Math.round(scope.getDbTimeMillis()));
+                }
+            }
+        }
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    /**
+     * 본문 쓰기가 시작되기 직전에 Server-Timing 헤더를 한 번 추가
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats.Scope scope;
+        private boolean headerAdded;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStatementStats.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        void addServerTiming() {
+            if (headerAdded || isCommitted()) {
+                return;
+            }
+            headerAdded = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT, "db;desc=\"%d queries\";dur=%.1f",
+                scope.getStatementCount(), scope.getDbTimeMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+    }
+}
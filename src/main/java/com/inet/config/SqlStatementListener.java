@@ -0,0 +1,32 @@
+package com.inet.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션별 JDBC 실행 시간 집계 (hibernate.session.events.auto 로 세션마다 생성)
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.recordExecution(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.recordExecution(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,109 @@
+package com.inet.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드의 SQL 문 수와 DB 실행 시간 집계
+ * - SqlStatementInspector(문 수)와 SqlStatementListener(실행 시간)가 기록
+ * - begin()으로 연 범위가 겹치면 바깥 범위에도 함께 더해짐
+ */
+public final class SqlStatementStats {
+
+    // SQL 기록 시 보관할 최대 문 수
+    private static final int MAX_RECORDED_STATEMENTS = 200;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * 집계 범위 (try-with-resources로 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final List<String> statements;
+        private int statementCount;
+        private long dbNanos;
+
+        private Scope(Scope parent, boolean recordSql) {
+            this.parent = parent;
+            this.statements = recordSql ? new ArrayList<>() : null;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public double getDbTimeMillis() {
+            return dbNanos / 1_000_000.0;
+        }
+
+        /**
+         * 기록한 SQL (begin(true)로 연 범위만, 최대 MAX_RECORDED_STATEMENTS건)
+         */
+        public List<String> getStatements() {
+            return statements != null ? Collections.unmodifiableList(statements) : List.of();
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+
+    public static Scope begin(boolean recordSql) {
+        Scope scope = new Scope(CURRENT.get(), recordSql);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 다른 스레드에서 실행할 작업의 SQL도 호출 스레드의 현재 범위에 집계되도록 감쌈
+     * - 호출 스레드가 작업 완료를 기다리는 동안에만 사용 (범위 값은 동기화하지 않음)
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Scope caller = CURRENT.get();
+        if (caller == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(caller);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    static void recordStatement(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            if (scope.statements != null && scope.statements.size() < MAX_RECORDED_STATEMENTS) {
+                scope.statements.add(sql);
+            }
+        }
+    }
+
+    static void recordExecution(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.dbNanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.inet.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작 시간 기록 (배포/재시작 후 서비스 불가 구간 추적)
+ * - 시작 완료 시 JVM 시작 후 경과 시간, AOT/CDS 사용 여부, 오래 걸린 빈 생성 단계 로그
+ * - 첫 요청 처리 완료 시점을 inet.startup.first-request (JVM 시작 기준)로 기록
+ * - 전체 시작 단계는 /actuator/startup (INETApplication의 BufferingApplicationStartup)
+ */
+@Component
+public class StartupTimingReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    // 로그에 남길 오래 걸린 빈 생성 단계 수
+    private static final int SLOWEST_STEPS = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean();
+    private final AtomicLong firstRequestMillis = new AtomicLong();
+
+    public StartupTimingReporter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        log.info("시작 완료 - JVM 시작 후 {}ms (AOT: {}, CDS: {})",
+            ManagementFactory.getRuntimeMXBean().getUptime(), AotDetector.useGeneratedArtifacts(), isCdsArchiveUsed());
+
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            // 빈 생성 시간은 의존 빈 생성 시간을 포함
+            startup.getBufferedTimeline().getEvents().stream()
+                .filter(timelineEvent -> "spring.beans.instantiate".equals(timelineEvent.getStartupStep().getName()))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .forEach(timelineEvent -> log.info("  빈 생성 {}ms - {}",
+                    timelineEvent.getDuration().toMillis(), beanName(timelineEvent.getStartupStep())));
+        }
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!firstRequestHandled.compareAndSet(false, true)) {
+            return;
+        }
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        firstRequestMillis.set(uptime);
+        TimeGauge.builder("inet.startup.first-request", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("JVM 시작부터 첫 요청 처리 완료까지")
+            .register(meterRegistry);
+        log.info("첫 요청 처리 완료 - JVM 시작 후 {}ms ({} {})", uptime, event.getMethod(), event.getRequestUrl());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static boolean isCdsArchiveUsed() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile="));
+    }
+}
@@ -0,0 +1,29 @@
+package com.inet.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 조회(엑셀 내보내기, 학교 스냅샷)의 JDBC fetch size
+ * - MySQL(Connector/J): Integer.MIN_VALUE 이면 결과를 한 행씩 스트리밍
+ * - 그 외 DB(h2 프로필 등): 음수 fetch size를 허용하지 않으므로 FALLBACK_FETCH_SIZE
+ */
+@Component
+public class StreamingFetchSize {
+
+    private static final int FALLBACK_FETCH_SIZE = 500;
+
+    private final int value;
+
+    public StreamingFetchSize(EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.value = sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect
+            ? Integer.MIN_VALUE : FALLBACK_FETCH_SIZE;
+    }
+
+    public int value() {
+        return value;
+    }
+}
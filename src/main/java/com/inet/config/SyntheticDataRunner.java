@@ -0,0 +1,73 @@
+package com.inet.config;
+
+import com.inet.service.SyntheticDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필로 실행 시 가상 학교 데이터 생성
+ * 예) ./gradlew bootRun --args='--spring.profiles.active=h2,seed --inet.seed.schools=20'
+ * - inet.seed.exit=true(기본)이면 생성 후 종료, false면 생성한 데이터로 그대로 서비스
+ */
+@Component
+@Profile("seed")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    private final SyntheticDataService syntheticDataService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${inet.seed.schools:10}")
+    private int schools;
+
+    @Value("${inet.seed.seed:20240301}")
+    private long seed;
+
+    @Value("${inet.seed.min-classrooms:30}")
+    private int minClassrooms;
+
+    @Value("${inet.seed.max-classrooms:90}")
+    private int maxClassrooms;
+
+    @Value("${inet.seed.floor-plan-pages:4}")
+    private int floorPlanPages;
+
+    @Value("${inet.seed.elements-per-room:24}")
+    private int elementsPerRoom;
+
+    @Value("${inet.seed.history-months:6}")
+    private int historyMonths;
+
+    @Value("${inet.seed.school-name-prefix:가상학교}")
+    private String schoolNamePrefix;
+
+    @Value("${inet.seed.exit:true}")
+    private boolean exitAfterSeed;
+
+    public SyntheticDataRunner(SyntheticDataService syntheticDataService, ConfigurableApplicationContext applicationContext) {
+        this.syntheticDataService = syntheticDataService;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SyntheticDataService.Result result = syntheticDataService.generate(new SyntheticDataService.Options(
+            schools, seed, minClassrooms, maxClassrooms, floorPlanPages, elementsPerRoom, historyMonths, schoolNamePrefix));
+
+        result.rowsByTable().forEach((table, rows) -> logger.info("  {}: {}건", table, rows));
+        logger.info("가상 데이터 생성 완료 - 학교 {}개, 전체 {}건, {}ms",
+            result.schoolIds().size(), result.getTotalRows(), result.elapsedMillis());
+
+        if (exitAfterSeed) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.inet.controller;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -43,6 +49,9 @@ public class AdminController {
     @Autowired
     private PermissionHelper permissionHelper;
     
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
 
     
     // 관리자 대시보드
@@ -212,5 +221,33 @@ public class AdminController {
         }
     }
     
-
-} 
\ No newline at end of file
+    // Hibernate 2차 캐시 적중/실패 통계 (JSON API)
+    @GetMapping("/api/cache-stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hits", region.getHitCount());
+            regionStats.put("misses", region.getMissCount());
+            regionStats.put("puts", region.getPutCount());
+            regionStats.put("elements", region.getElementCountInMemory());
+            regions.put(regionName, regionStats);
+        }
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", statistics.isStatisticsEnabled());
+        response.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        response.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        response.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        response.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        response.put("regions", regions);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -8,9 +8,11 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
 import com.inet.entity.Classroom;
 import com.inet.entity.School;
 import com.inet.service.ClassroomService;
+import com.inet.service.ClassroomSimilarityService;
 import com.inet.service.SchoolService;
 import com.inet.config.Views;
 import org.slf4j.Logger;
@@ -44,6 +46,7 @@ public class ClassroomController {
     private final SchoolPermissionService schoolPermissionService;
     private final UserService userService;
     private final PermissionHelper permissionHelper;
+    private final ClassroomSimilarityService classroomSimilarityService;
 
     private static final Logger log = LoggerFactory.getLogger(ClassroomController.class);
 
@@ -55,13 +58,15 @@ public class ClassroomController {
 
     public ClassroomController(ClassroomService classroomService, SchoolService schoolService, 
                              PermissionService permissionService, SchoolPermissionService schoolPermissionService, 
-                             UserService userService, PermissionHelper permissionHelper) {
+                             UserService userService, PermissionHelper permissionHelper,
+                             ClassroomSimilarityService classroomSimilarityService) {
         this.classroomService = classroomService;
         this.schoolService = schoolService;
         this.permissionService = permissionService;
         this.schoolPermissionService = schoolPermissionService;
         this.userService = userService;
         this.permissionHelper = permissionHelper;
+        this.classroomSimilarityService = classroomSimilarityService;
     }
 
     // 권한 체크 메서드
@@ -388,7 +393,7 @@ public class ClassroomController {
         }
         
         try {
-            classroomService.mergeClassrooms(targetId, sourceIds, newRoomName);
+            classroomService.mergeClassrooms(targetId, sourceIds, newRoomName, user);
             
             // 병합 후 임시 그룹 정리
             String tempSessionKey = "tempDuplicateGroup_" + schoolId;
@@ -452,6 +457,54 @@ public class ClassroomController {
         return classroomService.findDuplicateClassrooms(schoolId);
     }
 
+    /**
+     * 유사 교실명 검사 시작 API (편집 거리 기준, 백그라운드 처리)
+     */
+    @PostMapping("/api/duplicates/{schoolId}/similar")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> startSimilarClassroomScan(@PathVariable Long schoolId,
+                                                                        @RequestParam(defaultValue = "1") int maxDistance) {
+        User user = checkSchoolPermission(Feature.CLASSROOM_MANAGEMENT, schoolId, new RedirectAttributesModelMap());
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("success", false, "message", "해당 학교에 대한 교실 관리 권한이 없습니다."));
+        }
+        
+        log.info("유사 교실명 검사 요청 - 학교 ID: {}, 최대 편집 거리: {}", schoolId, maxDistance);
+        return ResponseEntity.ok(similarityScanResponse(classroomSimilarityService.startScan(schoolId, maxDistance)));
+    }
+    
+    /**
+     * 유사 교실명 검사 상태/결과 조회 API
+     */
+    @GetMapping("/api/duplicates/{schoolId}/similar")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getSimilarClassroomScan(@PathVariable Long schoolId) {
+        User user = checkSchoolPermission(Feature.CLASSROOM_MANAGEMENT, schoolId, new RedirectAttributesModelMap());
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("success", false, "message", "해당 학교에 대한 교실 관리 권한이 없습니다."));
+        }
+        
+        ClassroomSimilarityService.SimilarityScan scan = classroomSimilarityService.getScan(schoolId);
+        if (scan == null) {
+            return ResponseEntity.ok(Map.of("success", true, "status", "NONE"));
+        }
+        return ResponseEntity.ok(similarityScanResponse(scan));
+    }
+    
+    private Map<String, Object> similarityScanResponse(ClassroomSimilarityService.SimilarityScan scan) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", scan.status() != ClassroomSimilarityService.Status.FAILED);
+        response.put("status", scan.status().name());
+        response.put("maxDistance", scan.maxDistance());
+        response.put("groups", scan.groups());
+        if (scan.errorMessage() != null) {
+            response.put("message", scan.errorMessage());
+        }
+        return response;
+    }
+
     /**
      * 중복 그룹을 세션에서 제외하는 API
      */
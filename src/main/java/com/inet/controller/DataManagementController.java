@@ -1,6 +1,16 @@
 package com.inet.controller;
 
 import com.inet.service.DataManagementService;
+import com.inet.service.SchoolDeletionService;
+import com.inet.service.SchoolSnapshotService;
+import com.inet.entity.UserRole;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import com.inet.service.SchoolService;
 import com.inet.entity.School;
 import org.springframework.stereotype.Controller;
@@ -9,10 +19,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import com.inet.entity.Feature;
 import com.inet.entity.User;
 import com.inet.service.PermissionService;
@@ -36,17 +52,22 @@ public class DataManagementController {
     private final SchoolPermissionService schoolPermissionService;
     private final UserService userService;
     private final PermissionHelper permissionHelper;
+    private final SchoolDeletionService schoolDeletionService;
+    private final SchoolSnapshotService schoolSnapshotService;
 
     @Autowired
     public DataManagementController(SchoolService schoolService, DataManagementService dataManagementService,
                                   PermissionService permissionService, SchoolPermissionService schoolPermissionService,
-                                  UserService userService, PermissionHelper permissionHelper) {
+                                  UserService userService, PermissionHelper permissionHelper,
+                                  SchoolDeletionService schoolDeletionService, SchoolSnapshotService schoolSnapshotService) {
         this.schoolService = schoolService;
         this.dataManagementService = dataManagementService;
         this.permissionService = permissionService;
         this.schoolPermissionService = schoolPermissionService;
         this.userService = userService;
         this.permissionHelper = permissionHelper;
+        this.schoolDeletionService = schoolDeletionService;
+        this.schoolSnapshotService = schoolSnapshotService;
     }
 
     // 권한 체크 메서드
@@ -128,7 +149,7 @@ public class DataManagementController {
         
         // 선택된 학교들에 대한 권한 체크
         for (Long schoolId : schoolIds) {
-            User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DATA_DELETE, schoolId, null);
+            User checkedUser = permissionHelper.checkSchoolPermissionIncludingDeleting(user, Feature.DATA_DELETE, schoolId, new RedirectAttributesModelMap());
             if (checkedUser == null) {
                 redirectAttributes.addFlashAttribute("error", "ID가 " + schoolId + "인 학교에 대한 권한이 없습니다.");
                 return "redirect:/data/delete";
@@ -143,12 +164,13 @@ public class DataManagementController {
         try {
             List<String> schoolNames = new ArrayList<>();
             for (Long schoolId : schoolIds) {
-                School school = schoolService.getSchoolById(schoolId)
+                School school = schoolService.getSchoolIncludingDeleting(schoolId)
                     .orElseThrow(() -> new IllegalArgumentException("ID가 " + schoolId + "인 학교를 찾을 수 없습니다."));
                 schoolNames.add(school.getSchoolName());
 
                 if ("all".equals(deleteType)) {
-                    dataManagementService.deleteSchoolData(schoolId);
+                    // 전체 삭제는 백그라운드에서 구간 단위로 진행 (진행 상황: /data/delete/status)
+                    schoolDeletionService.startDeletion(schoolId);
                 } else if ("selective".equals(deleteType)) {
                     // 그룹 선택 시 단독 선택도 함께 처리
                     boolean finalDeleteDeviceHistory = deleteDeviceHistory || deleteDeviceHistoryOnly;
@@ -165,7 +187,7 @@ public class DataManagementController {
             String schoolsStr = String.join(", ", schoolNames);
 
             if ("all".equals(deleteType)) {
-                message = schoolsStr + "의 모든 데이터가 성공적으로 삭제되었습니다.";
+                message = schoolsStr + "의 전체 데이터 삭제를 시작했습니다. 삭제가 끝날 때까지 해당 학교는 목록에 표시되지 않습니다.";
             } else if ("selective".equals(deleteType)) {
                 if (!deleteDevices && !deleteWirelessAps && !deleteClassrooms && 
                     !deleteOperators && !deleteManages && !deleteUids && !deleteDeviceHistory && !deleteWirelessApHistory && !deleteFloorPlans) {
@@ -203,4 +225,130 @@ public class DataManagementController {
         }
         return "redirect:/data/delete";
     }
-} 
\ No newline at end of file
+
+    /**
+     * 백그라운드 학교 데이터 삭제 진행 상황 조회
+     * schoolId가 없으면 권한이 있는 학교의 모든 삭제 작업을 반환
+     */
+    @GetMapping("/delete/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getDeletionStatus(@RequestParam(value = "schoolId", required = false) Long schoolId) {
+        Map<String, Object> response = new HashMap<>();
+        
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        User user = userService.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            response.put("success", false);
+            response.put("message", "사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        
+        // 권한 없음 메시지는 사용하지 않으므로 임시 RedirectAttributes 사용
+        RedirectAttributesModelMap dummyAttributes = new RedirectAttributesModelMap();
+        if (schoolId != null) {
+            if (permissionHelper.checkSchoolPermissionIncludingDeleting(user, Feature.DATA_DELETE, schoolId, dummyAttributes) == null) {
+                response.put("success", false);
+                response.put("message", "해당 학교에 대한 권한이 없습니다.");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+            response.put("success", true);
+            response.put("progress", schoolDeletionService.getProgress(schoolId));
+            return ResponseEntity.ok(response);
+        }
+        
+        List<SchoolDeletionService.DeletionProgress> jobs = new ArrayList<>();
+        for (SchoolDeletionService.DeletionProgress progress : schoolDeletionService.getAllProgress()) {
+            if (permissionHelper.checkSchoolPermissionIncludingDeleting(user, Feature.DATA_DELETE, progress.schoolId(), dummyAttributes) != null) {
+                jobs.add(progress);
+            }
+        }
+        response.put("success", true);
+        response.put("jobs", jobs);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 학교 스냅샷 내보내기 (관리자 전용, gzip NDJSON, 응답으로 바로 스트리밍)
+     */
+    @GetMapping("/snapshot/export")
+    public void exportSnapshot(@RequestParam("schoolId") Long schoolId, HttpServletResponse response) throws IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        User user = (auth != null && auth.isAuthenticated()) ? userService.findByUsername(auth.getName()).orElse(null) : null;
+        if (user == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        // 스냅샷에는 학교 전체 데이터가 들어가므로 복원과 같이 관리자만 허용
+        if (user.getRole() != UserRole.ADMIN) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        
+        // 파일명 생성 (영문만 사용)
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String fileName = String.format("School_Snapshot_%d_%s.ndjson.gz", schoolId, timestamp);
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        
+        try {
+            long rows = schoolSnapshotService.exportSnapshot(schoolId, response.getOutputStream());
+            logger.info("School snapshot download completed - schoolId: {}, rows: {}", schoolId, rows);
+        } catch (Exception e) {
+            logger.error("School snapshot export failed - schoolId: {}", schoolId, e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+    
+    /**
+     * 학교 스냅샷 복원 (관리자 전용, 항상 새 학교로 생성)
+     */
+    @PostMapping("/snapshot/restore")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> restoreSnapshot(@RequestParam("file") MultipartFile file,
+                                                               @RequestParam(value = "schoolName", required = false) String schoolName) {
+        Map<String, Object> response = new HashMap<>();
+        
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        User user = (auth != null && auth.isAuthenticated()) ? userService.findByUsername(auth.getName()).orElse(null) : null;
+        if (user == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        if (user.getRole() != UserRole.ADMIN) {
+            response.put("success", false);
+            response.put("message", "관리자만 스냅샷을 복원할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        if (file == null || file.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "복원할 스냅샷 파일을 선택해주세요.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        
+        try (InputStream inputStream = file.getInputStream()) {
+            SchoolSnapshotService.RestoreResult result = schoolSnapshotService.restoreSnapshot(inputStream, schoolName, user);
+            response.put("success", true);
+            response.put("message", result.schoolName() + " 학교로 " + result.totalRows() + "건을 복원했습니다.");
+            response.put("result", result);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            logger.error("School snapshot restore failed", e);
+            response.put("success", false);
+            response.put("message", "스냅샷 복원 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+}
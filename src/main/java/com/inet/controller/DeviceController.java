@@ -8,6 +8,8 @@ import com.inet.entity.Operator;
 import com.inet.entity.School;
 import com.inet.entity.Classroom;
 import com.inet.service.DeviceService;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
 import com.inet.service.SchoolService;
 import com.inet.service.OperatorService;
 import com.inet.service.ClassroomService;
@@ -49,9 +51,11 @@ import com.inet.service.DeviceInspectionStatusService;
 import com.inet.config.PermissionHelper;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inet.entity.DeviceInspectionHistory;
+import com.inet.entity.DeviceInspectionStatus;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +85,7 @@ public class DeviceController {
     private final PermissionHelper permissionHelper;
     private final DeviceInspectionHistoryService deviceInspectionHistoryService;
     private final DeviceInspectionStatusService deviceInspectionStatusService;
+    private final ExportJobService exportJobService;
 
     public DeviceController(DeviceService deviceService, SchoolService schoolService, 
                           OperatorService operatorService, ClassroomService classroomService, 
@@ -88,7 +93,8 @@ public class DeviceController {
                           PermissionService permissionService, SchoolPermissionService schoolPermissionService, 
                           UserService userService, PermissionHelper permissionHelper,
                           DeviceInspectionHistoryService deviceInspectionHistoryService,
-                          DeviceInspectionStatusService deviceInspectionStatusService) {
+                          DeviceInspectionStatusService deviceInspectionStatusService,
+                          ExportJobService exportJobService) {
         this.deviceService = deviceService;
         this.schoolService = schoolService;
         this.operatorService = operatorService;
@@ -101,6 +107,7 @@ public class DeviceController {
         this.permissionHelper = permissionHelper;
         this.deviceInspectionHistoryService = deviceInspectionHistoryService;
         this.deviceInspectionStatusService = deviceInspectionStatusService;
+        this.exportJobService = exportJobService;
     }
 
     // 권한 체크 메서드
@@ -303,7 +310,7 @@ public class DeviceController {
             }
         } else {
             // 기존 정렬 (교실 순서 기준, 순서가 없으면 교실명 기준)
-            allDevices.sort((d1, d2) -> compareByClassroom(d1, d2));
+            allDevices.sort(DeviceController::compareByClassroom);
             
             // 교실별로 그룹화
             devicesByClassroom = allDevices.stream()
@@ -316,27 +323,7 @@ public class DeviceController {
         
         // 각 교실 내에서 세트타입 > 담당자 순으로 정렬
         for (List<Device> devices : devicesByClassroom.values()) {
-            devices.sort((d1, d2) -> {
-                // 세트타입 기준 정렬 (있으면 우선)
-                boolean hasSetType1 = d1.getSetType() != null && !d1.getSetType().trim().isEmpty();
-                boolean hasSetType2 = d2.getSetType() != null && !d2.getSetType().trim().isEmpty();
-                
-                if (hasSetType1 && hasSetType2) {
-                    int setTypeCompare = d1.getSetType().compareTo(d2.getSetType());
-                    if (setTypeCompare != 0) return setTypeCompare;
-                } else if (hasSetType1) {
-                    return -1; // d1만 세트타입이 있으면 앞으로
-                } else if (hasSetType2) {
-                    return 1;  // d2만 세트타입이 있으면 앞으로
-                }
-                
-                // 담당자 기준 정렬
-                String operator1 = d1.getOperator() != null && d1.getOperator().getName() != null ? 
-                                 d1.getOperator().getName() : "미지정 담당자";
-                String operator2 = d2.getOperator() != null && d2.getOperator().getName() != null ? 
-                                 d2.getOperator().getName() : "미지정 담당자";
-                return operator1.compareTo(operator2);
-            });
+            devices.sort(DeviceController::compareBySetTypeAndOperator);
         }
         
         // 교실별 그룹을 페이징 처리를 위한 단일 리스트로 변환
@@ -787,7 +774,7 @@ public class DeviceController {
     /**
      * 교실 기준으로 비교
      */
-    private int compareByClassroom(Device d1, Device d2) {
+    static int compareByClassroom(Device d1, Device d2) {
         Classroom classroom1 = d1.getClassroom();
         Classroom classroom2 = d2.getClassroom();
         
@@ -802,32 +789,57 @@ public class DeviceController {
             return -1; // 교실이 없는 장비는 뒤로
         }
         
-        // 교실 순서 비교
-        Integer order1 = classroom1.getDisplayOrder();
-        Integer order2 = classroom2.getDisplayOrder();
+        // 교실 순위 비교 (DB 정렬과 동일)
+        Long rank1 = classroom1.getSortRank();
+        Long rank2 = classroom2.getSortRank();
         
-        // 둘 다 순서가 있는 경우
-        if (order1 != null && order2 != null) {
-            int orderCompare = order1.compareTo(order2);
-            if (orderCompare != 0) {
-                return orderCompare;
+        // 둘 다 순위가 있는 경우
+        if (rank1 != null && rank2 != null) {
+            int rankCompare = rank1.compareTo(rank2);
+            if (rankCompare != 0) {
+                return rankCompare;
             }
         }
-        // c1만 순서가 있는 경우
-        else if (order1 != null) {
+        // c1만 순위가 있는 경우
+        else if (rank1 != null) {
             return -1;
         }
-        // c2만 순서가 있는 경우
-        else if (order2 != null) {
+        // c2만 순위가 있는 경우
+        else if (rank2 != null) {
             return 1;
         }
         
-        // 둘 다 순서가 없는 경우 교실명 기준 정렬
+        // 순위가 같거나 없는 경우 교실명 기준 정렬
         String name1 = classroom1.getRoomName() != null ? classroom1.getRoomName() : "";
         String name2 = classroom2.getRoomName() != null ? classroom2.getRoomName() : "";
         return name1.compareTo(name2);
     }
 
+    /**
+     * 같은 교실 안에서 세트타입 > 담당자 순으로 비교
+     */
+    static int compareBySetTypeAndOperator(Device d1, Device d2) {
+        // 세트타입 기준 정렬 (있으면 우선)
+        boolean hasSetType1 = d1.getSetType() != null && !d1.getSetType().trim().isEmpty();
+        boolean hasSetType2 = d2.getSetType() != null && !d2.getSetType().trim().isEmpty();
+        
+        if (hasSetType1 && hasSetType2) {
+            int setTypeCompare = d1.getSetType().compareTo(d2.getSetType());
+            if (setTypeCompare != 0) return setTypeCompare;
+        } else if (hasSetType1) {
+            return -1; // d1만 세트타입이 있으면 앞으로
+        } else if (hasSetType2) {
+            return 1;  // d2만 세트타입이 있으면 앞으로
+        }
+        
+        // 담당자 기준 정렬
+        String operator1 = d1.getOperator() != null && d1.getOperator().getName() != null ? 
+                         d1.getOperator().getName() : "미지정 담당자";
+        String operator2 = d2.getOperator() != null && d2.getOperator().getName() != null ? 
+                         d2.getOperator().getName() : "미지정 담당자";
+        return operator1.compareTo(operator2);
+    }
+
     @GetMapping("/excel")
     public void downloadExcel(
             @RequestParam(required = false) Long schoolId,
@@ -867,11 +879,11 @@ public class DeviceController {
         if (schoolId != null && type != null && !type.isEmpty() && classroomId != null) {
             devices = deviceService.findBySchoolAndTypeAndClassroom(schoolId, type, classroomId);
         } else if (schoolId != null && type != null && !type.isEmpty()) {
-            devices = deviceService.findBySchoolAndType(schoolId, type);
+            devices = deviceService.findBySchoolInClassroomOrder(schoolId, type);
         } else if (schoolId != null && classroomId != null) {
             devices = deviceService.findBySchoolAndClassroom(schoolId, classroomId);
         } else if (schoolId != null) {
-            devices = deviceService.findBySchool(schoolId);
+            devices = deviceService.findBySchoolInClassroomOrder(schoolId, null);
         } else if (type != null && !type.isEmpty()) {
             devices = deviceService.findByType(type);
         } else if (classroomId != null) {
@@ -923,33 +935,13 @@ public class DeviceController {
                 
                 for (Map.Entry<String, List<Device>> entry : sortedClassrooms) {
                     // 각 교실 내에서 세트타입 > 담당자 순으로 정렬
-                    entry.getValue().sort((d1, d2) -> {
-                        // 세트타입 기준 정렬 (있으면 우선)
-                        boolean hasSetType1 = d1.getSetType() != null && !d1.getSetType().trim().isEmpty();
-                        boolean hasSetType2 = d2.getSetType() != null && !d2.getSetType().trim().isEmpty();
-                        
-                        if (hasSetType1 && hasSetType2) {
-                            int setTypeCompare = d1.getSetType().compareTo(d2.getSetType());
-                            if (setTypeCompare != 0) return setTypeCompare;
-                        } else if (hasSetType1) {
-                            return -1; // d1만 세트타입이 있으면 앞으로
-                        } else if (hasSetType2) {
-                            return 1;  // d2만 세트타입이 있으면 앞으로
-                        }
-                        
-                        // 담당자 기준 정렬
-                        String operator1 = d1.getOperator() != null && d1.getOperator().getName() != null ? 
-                                         d1.getOperator().getName() : "미지정 담당자";
-                        String operator2 = d2.getOperator() != null && d2.getOperator().getName() != null ? 
-                                         d2.getOperator().getName() : "미지정 담당자";
-                        return operator1.compareTo(operator2);
-                    });
+                    entry.getValue().sort(DeviceController::compareBySetTypeAndOperator);
                     sortedDevices.addAll(entry.getValue());
                 }
             }
         } else {
             // 기존 정렬 (교실 순서 기준, 순서가 없으면 교실명 기준)
-            sortedDevices.sort((d1, d2) -> compareByClassroom(d1, d2));
+            sortedDevices.sort(DeviceController::compareByClassroom);
             
             // 각 교실 내에서 세트타입 > 담당자 순으로 정렬
             Map<String, List<Device>> devicesByClassroom = sortedDevices.stream()
@@ -961,27 +953,7 @@ public class DeviceController {
             
             sortedDevices = new ArrayList<>();
             for (List<Device> classroomDevices : devicesByClassroom.values()) {
-                classroomDevices.sort((d1, d2) -> {
-                    // 세트타입 기준 정렬 (있으면 우선)
-                    boolean hasSetType1 = d1.getSetType() != null && !d1.getSetType().trim().isEmpty();
-                    boolean hasSetType2 = d2.getSetType() != null && !d2.getSetType().trim().isEmpty();
-                    
-                    if (hasSetType1 && hasSetType2) {
-                        int setTypeCompare = d1.getSetType().compareTo(d2.getSetType());
-                        if (setTypeCompare != 0) return setTypeCompare;
-                    } else if (hasSetType1) {
-                        return -1; // d1만 세트타입이 있으면 앞으로
-                    } else if (hasSetType2) {
-                        return 1;  // d2만 세트타입이 있으면 앞으로
-                    }
-                    
-                    // 담당자 기준 정렬
-                    String operator1 = d1.getOperator() != null && d1.getOperator().getName() != null ? 
-                                     d1.getOperator().getName() : "미지정 담당자";
-                    String operator2 = d2.getOperator() != null && d2.getOperator().getName() != null ? 
-                                     d2.getOperator().getName() : "미지정 담당자";
-                    return operator1.compareTo(operator2);
-                });
+                classroomDevices.sort(DeviceController::compareBySetTypeAndOperator);
                 sortedDevices.addAll(classroomDevices);
             }
         }
@@ -993,7 +965,9 @@ public class DeviceController {
         Map<Long, String> inspectionStatuses = null;
         // TODO: 세션에서 검사 데이터를 가져오는 로직 추가
         
-        deviceService.exportToExcel(sortedDevices, response.getOutputStream(), inspectionStatuses);
+        List<Device> exportDevices = sortedDevices;
+        sendExcelExport(user, "device-excel", "devices.xlsx",
+            out -> deviceService.exportToExcel(exportDevices, out, inspectionStatuses), response);
     }
     
     // 검사 데이터를 포함한 엑셀 다운로드
@@ -1069,11 +1043,11 @@ public class DeviceController {
         if (schoolId != null && type != null && !type.isEmpty() && classroomId != null) {
             devices = deviceService.findBySchoolAndTypeAndClassroom(schoolId, type, classroomId);
         } else if (schoolId != null && type != null && !type.isEmpty()) {
-            devices = deviceService.findBySchoolAndType(schoolId, type);
+            devices = deviceService.findBySchoolInClassroomOrder(schoolId, type);
         } else if (schoolId != null && classroomId != null) {
             devices = deviceService.findBySchoolAndClassroom(schoolId, classroomId);
         } else if (schoolId != null) {
-            devices = deviceService.findBySchool(schoolId);
+            devices = deviceService.findBySchoolInClassroomOrder(schoolId, null);
         } else if (type != null && !type.isEmpty()) {
             devices = deviceService.findByType(type);
         } else if (classroomId != null) {
@@ -1116,7 +1090,27 @@ public class DeviceController {
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         response.setHeader("Content-Disposition", "attachment; filename=devices_with_inspection.xlsx");
         
-        deviceService.exportToExcel(devices, response.getOutputStream(), inspectionStatuses);
+        sendExcelExport(user, "device-excel", "devices_with_inspection.xlsx",
+            out -> deviceService.exportToExcel(devices, out, inspectionStatuses), response);
+    }
+
+    /**
+     * 엑셀 생성을 내보내기 작업으로 실행하고 결과 파일을 응답으로 전송 (요청이 몰리면 429/503)
+     */
+    private void sendExcelExport(User user, String type, String fileName, ExportJobService.ExportWriter writer,
+                                 HttpServletResponse response) throws IOException {
+        try {
+            ExportJob job = exportJobService.run(user.getId(), type, fileName,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", writer);
+            exportJobService.copyResult(job, response.getOutputStream());
+        } catch (ResponseStatusException e) {
+            response.reset();
+            response.sendError(e.getStatusCode().value(), e.getReason());
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @GetMapping("/map")
@@ -1176,6 +1170,66 @@ public class DeviceController {
         return ResponseEntity.ok(response);
     }
     
+    // 검사 상태 일괄 저장 (클라이언트에서 모아둔 변경분을 주기적으로 전송)
+    // 요청 형식: {"schoolId": 1, "statuses": {"5965": "confirmed", "5966": "modified", ...}}
+    @PostMapping("/inspection/status/save-batch")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> saveInspectionStatusBatch(@RequestBody Map<String, Object> batchData) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            // 권한 체크
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated()) {
+                response.put("success", false);
+                response.put("message", "로그인이 필요합니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            User user = userService.findByUsername(auth.getName()).orElse(null);
+            if (user == null) {
+                response.put("success", false);
+                response.put("message", "사용자를 찾을 수 없습니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            Long schoolId = Long.valueOf(batchData.get("schoolId").toString());
+            
+            // 권한 체크
+            User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DEVICE_INSPECTION, schoolId, null);
+            if (checkedUser == null) {
+                response.put("success", false);
+                response.put("message", "해당 학교에 대한 장비검사 권한이 없습니다.");
+                return ResponseEntity.status(403).body(response);
+            }
+            
+            Map<Long, String> statuses = new HashMap<>();
+            if (batchData.get("statuses") instanceof Map<?, ?> rawStatuses) {
+                for (Map.Entry<?, ?> entry : rawStatuses.entrySet()) {
+                    try {
+                        statuses.put(Long.valueOf(entry.getKey().toString()), String.valueOf(entry.getValue()));
+                    } catch (NumberFormatException e) {
+                        log.warn("잘못된 장비 ID 형식: {}", entry.getKey());
+                    }
+                }
+            }
+            
+            // 검사 상태 일괄 저장
+            int savedCount = deviceInspectionStatusService.saveInspectionStatuses(schoolId, user.getId(), statuses);
+            
+            response.put("success", true);
+            response.put("savedCount", savedCount);
+            response.put("message", "검사 상태가 저장되었습니다.");
+            
+        } catch (Exception e) {
+            log.error("검사 상태 일괄 저장 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", "저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/inspection/status/load")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> loadInspectionStatuses(@RequestParam Long schoolId) {
@@ -1220,6 +1274,153 @@ public class DeviceController {
         return ResponseEntity.ok(response);
     }
     
+    // 검사 진행 현황 (학교/교실별 확인·수정·미확인 건수, 서버 집계)
+    @GetMapping("/inspection/progress")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getInspectionProgress(@RequestParam Long schoolId,
+                                                                     @RequestParam(required = false) Long inspectorId) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            // 권한 체크
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated()) {
+                response.put("success", false);
+                response.put("message", "로그인이 필요합니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            User user = userService.findByUsername(auth.getName()).orElse(null);
+            if (user == null) {
+                response.put("success", false);
+                response.put("message", "사용자를 찾을 수 없습니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            // 권한 체크
+            User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DEVICE_INSPECTION, schoolId, null);
+            if (checkedUser == null) {
+                response.put("success", false);
+                response.put("message", "해당 학교에 대한 장비검사 권한이 없습니다.");
+                return ResponseEntity.status(403).body(response);
+            }
+            
+            // 검사자를 지정하지 않으면 본인의 진행 현황
+            Long targetInspectorId = inspectorId != null ? inspectorId : user.getId();
+            
+            response.put("success", true);
+            response.put("progress", deviceInspectionStatusService.getInspectionProgress(schoolId, targetInspectorId));
+            
+        } catch (Exception e) {
+            log.error("검사 진행 현황 조회 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", "조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // 검사 이력의 장비별 검사 결과 조회
+    @GetMapping("/inspection/history/{historyId}/results")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getInspectionResults(@PathVariable Long historyId) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            // 권한 체크
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated()) {
+                response.put("success", false);
+                response.put("message", "로그인이 필요합니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            User user = userService.findByUsername(auth.getName()).orElse(null);
+            if (user == null) {
+                response.put("success", false);
+                response.put("message", "사용자를 찾을 수 없습니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            DeviceInspectionHistory history = deviceInspectionHistoryService.findById(historyId).orElse(null);
+            if (history == null) {
+                response.put("success", false);
+                response.put("message", "검사 이력을 찾을 수 없습니다.");
+                return ResponseEntity.status(404).body(response);
+            }
+            
+            // 권한 체크
+            User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DEVICE_INSPECTION, history.getSchoolId(), null);
+            if (checkedUser == null) {
+                response.put("success", false);
+                response.put("message", "해당 학교에 대한 장비검사 권한이 없습니다.");
+                return ResponseEntity.status(403).body(response);
+            }
+            
+            response.put("success", true);
+            response.put("statuses", deviceInspectionHistoryService.getInspectionResults(historyId));
+            
+        } catch (Exception e) {
+            log.error("검사 결과 조회 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", "조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // 장비의 마지막 검사일 조회 (확인/수정 상태별)
+    @GetMapping("/inspection/last")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getLastInspection(@RequestParam Long deviceId) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            // 권한 체크
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated()) {
+                response.put("success", false);
+                response.put("message", "로그인이 필요합니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            User user = userService.findByUsername(auth.getName()).orElse(null);
+            if (user == null) {
+                response.put("success", false);
+                response.put("message", "사용자를 찾을 수 없습니다.");
+                return ResponseEntity.status(401).body(response);
+            }
+            
+            Device device = deviceService.getDeviceById(deviceId).orElse(null);
+            if (device == null || device.getSchool() == null) {
+                response.put("success", false);
+                response.put("message", "장비를 찾을 수 없습니다.");
+                return ResponseEntity.status(404).body(response);
+            }
+            
+            // 권한 체크
+            User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DEVICE_INSPECTION, device.getSchool().getSchoolId(), null);
+            if (checkedUser == null) {
+                response.put("success", false);
+                response.put("message", "해당 학교에 대한 장비검사 권한이 없습니다.");
+                return ResponseEntity.status(403).body(response);
+            }
+            
+            response.put("success", true);
+            response.put("lastConfirmedAt", deviceInspectionHistoryService
+                .getLastInspectedAt(deviceId, DeviceInspectionStatus.InspectionStatus.CONFIRMED).orElse(null));
+            response.put("lastModifiedAt", deviceInspectionHistoryService
+                .getLastInspectedAt(deviceId, DeviceInspectionStatus.InspectionStatus.MODIFIED).orElse(null));
+            
+        } catch (Exception e) {
+            log.error("장비 마지막 검사일 조회 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", "조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/api/schools")
     @ResponseBody
     public ResponseEntity<List<Map<String, Object>>> getSchools() {
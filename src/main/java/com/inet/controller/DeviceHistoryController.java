@@ -4,30 +4,34 @@ import com.inet.entity.DeviceHistory;
 import com.inet.entity.School;
 import com.inet.entity.User;
 import com.inet.service.DeviceHistoryService;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
+import com.inet.service.HistoryExcelExportService;
 import com.inet.service.SchoolService;
 import com.inet.service.UserService;
 import com.inet.config.PermissionHelper;
 import com.inet.entity.Feature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.ByteArrayOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Controller
 @RequestMapping("/device/history")
@@ -38,15 +42,21 @@ public class DeviceHistoryController {
     private final SchoolService schoolService;
     private final UserService userService;
     private final PermissionHelper permissionHelper;
+    private final HistoryExcelExportService historyExcelExportService;
+    private final ExportJobService exportJobService;
     
     public DeviceHistoryController(DeviceHistoryService deviceHistoryService, 
                                  SchoolService schoolService, 
                                  UserService userService, 
-                                 PermissionHelper permissionHelper) {
+                                 PermissionHelper permissionHelper,
+                                 @Lazy HistoryExcelExportService historyExcelExportService,
+                                 ExportJobService exportJobService) {
         this.deviceHistoryService = deviceHistoryService;
         this.schoolService = schoolService;
         this.userService = userService;
         this.permissionHelper = permissionHelper;
+        this.historyExcelExportService = historyExcelExportService;
+        this.exportJobService = exportJobService;
     }
     
     /**
@@ -117,75 +127,69 @@ public class DeviceHistoryController {
     }
     
     /**
-     * 장비수정내역 엑셀 다운로드
+     * 장비수정내역 엑셀 다운로드 (건수 제한 없음, 내보내기 작업으로 임시 파일에 기록한 뒤 응답으로 전송)
      */
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> downloadExcel(@RequestParam(required = false) Long schoolId,
-                                               @RequestParam(required = false) String searchType,
-                                               @RequestParam(required = false) String searchKeyword,
-                                               RedirectAttributes redirectAttributes) {
+    public void downloadExcel(@RequestParam(required = false) Long schoolId,
+                              @RequestParam(required = false) String searchType,
+                              @RequestParam(required = false) String searchKeyword,
+                              RedirectAttributes redirectAttributes,
+                              HttpServletResponse response) throws IOException {
         
         log.info("장비수정내역 엑셀 다운로드 - schoolId: {}, searchType: {}, searchKeyword: {}", schoolId, searchType, searchKeyword);
         
+        // 권한 체크 (학교별 권한 체크는 schoolId가 있을 때만)
+        User user;
+        if (schoolId != null) {
+            user = checkSchoolPermission(Feature.DEVICE_LIST, schoolId, redirectAttributes);
+        } else {
+            user = checkPermission(Feature.DEVICE_LIST, redirectAttributes);
+        }
+        if (user == null) {
+            log.warn("권한이 없는 사용자의 엑셀 다운로드 시도");
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        
+        // 학교가 선택되지 않은 경우
+        if (schoolId == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        
+        // 학교 정보 조회
+        School school = schoolService.getSchoolById(schoolId).orElse(null);
+        if (school == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        // 파일명 생성 (영문만 사용)
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String fileName = String.format("Device_History_%s.xlsx", timestamp);
+        
+        // HTTP 헤더 설정
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate, post-check=0, pre-check=0");
+        
         try {
-            // 권한 체크 (학교별 권한 체크는 schoolId가 있을 때만)
-            User user;
-            if (schoolId != null) {
-                user = checkSchoolPermission(Feature.DEVICE_LIST, schoolId, redirectAttributes);
-            } else {
-                user = checkPermission(Feature.DEVICE_LIST, redirectAttributes);
-            }
-            if (user == null) {
-                log.warn("권한이 없는 사용자의 엑셀 다운로드 시도");
-                return ResponseEntity.status(403).build();
-            }
-            
-            // 학교가 선택되지 않은 경우
-            if (schoolId == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // 학교 정보 조회
-            School school = schoolService.getSchoolById(schoolId).orElse(null);
-            if (school == null) {
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 수정내역 조회 (페이징 없이 전체)
-            List<DeviceHistory> histories;
-            if (searchType != null && !searchType.isEmpty() || 
-                searchKeyword != null && !searchKeyword.trim().isEmpty()) {
-                // 검색 조건이 있는 경우 - 전체 결과를 가져오기 위해 큰 페이지 사이즈 사용
-                Page<DeviceHistory> historyPage = deviceHistoryService.getDeviceHistoryBySchoolAndSearch(
-                    schoolId, searchType, searchKeyword, 1, 10000);
-                histories = historyPage.getContent();
-            } else {
-                // 검색 조건이 없는 경우
-                histories = deviceHistoryService.getAllDeviceHistoryBySchool(schoolId);
-            }
-            
-            // 엑셀 파일 생성
-            byte[] excelBytes = createExcelFile(histories, school.getSchoolName(), searchKeyword);
-            
-            // 파일명 생성 (영문만 사용)
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = String.format("Device_History_%s.xlsx", timestamp);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.set("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
-            headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-            
-            log.info("장비수정내역 엑셀 다운로드 완료 - {}건", histories.size());
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelBytes);
-                    
+            AtomicInteger count = new AtomicInteger();
+            ExportJob job = exportJobService.run(user.getId(), "device-history-excel", fileName,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                out -> count.set(historyExcelExportService.writeDeviceHistoryExcel(
+                    schoolId, school.getSchoolName(), searchType, searchKeyword, out)));
+            exportJobService.copyResult(job, response.getOutputStream());
+            log.info("장비수정내역 엑셀 다운로드 완료 - {}건", count.get());
+        } catch (ResponseStatusException e) {
+            response.reset();
+            response.sendError(e.getStatusCode().value(), e.getReason());
         } catch (Exception e) {
             log.error("장비수정내역 엑셀 다운로드 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
         }
     }
     
@@ -230,214 +234,4 @@ public class DeviceHistoryController {
         
         return permissionHelper.checkSchoolPermission(user, feature, schoolId, redirectAttributes);
     }
-    
-    /**
-     * 엑셀 파일 생성
-     */
-    private byte[] createExcelFile(List<DeviceHistory> histories, String schoolName, String searchKeyword) throws IOException {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("장비수정내역");
-        
-        // 스타일 생성
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        CellStyle dataStyle = createDataStyle(workbook);
-        
-        int rowNum = 0;
-        
-        // 제목 행
-        Row titleRow = sheet.createRow(rowNum++);
-        Cell titleCell = titleRow.createCell(0);
-        titleCell.setCellValue((schoolName != null ? schoolName : "") + " 장비 수정목록");
-        titleCell.setCellStyle(headerStyle);
-        sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(0, 0, 0, 8));
-        
-        // 검색 키워드 행 (검색이 있는 경우)
-        if (searchKeyword != null && !searchKeyword.trim().isEmpty()) {
-            Row keywordRow = sheet.createRow(rowNum++);
-            Cell keywordCell = keywordRow.createCell(0);
-            keywordCell.setCellValue("검색 키워드: " + searchKeyword.trim());
-            keywordCell.setCellStyle(dataStyle);
-        }
-        
-        // 빈 행
-        rowNum++;
-        
-        // 헤더 행
-        Row headerRow = sheet.createRow(rowNum++);
-        String[] headers = {"수정일시", "장비구분", "제조사", "모델명", "IP주소", "수정필드", "이전값", "변경값", "수정자"};
-        
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-        
-        // 데이터 행
-        for (DeviceHistory history : histories) {
-            Row dataRow = sheet.createRow(rowNum++);
-            
-            // 수정일시
-            Cell dateCell = dataRow.createCell(0);
-            dateCell.setCellValue(history.getModifiedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            dateCell.setCellStyle(dataStyle);
-            
-            // 장비구분
-            Cell typeCell = dataRow.createCell(1);
-            String deviceType = "미지정";
-            if (history.getDevice() != null && history.getDevice().getType() != null) {
-                deviceType = history.getDevice().getType();
-            }
-            typeCell.setCellValue(deviceType);
-            typeCell.setCellStyle(dataStyle);
-            
-            // 제조사
-            Cell manufacturerCell = dataRow.createCell(2);
-            String manufacturer = "미지정";
-            if (history.getDevice() != null && history.getDevice().getManufacturer() != null) {
-                manufacturer = history.getDevice().getManufacturer();
-            }
-            manufacturerCell.setCellValue(manufacturer);
-            manufacturerCell.setCellStyle(dataStyle);
-            
-            // 모델명
-            Cell modelCell = dataRow.createCell(3);
-            String model = "미지정";
-            if (history.getDevice() != null && history.getDevice().getModelName() != null) {
-                model = history.getDevice().getModelName();
-            }
-            modelCell.setCellValue(model);
-            modelCell.setCellStyle(dataStyle);
-            
-            // IP주소
-            Cell ipCell = dataRow.createCell(4);
-            String ipAddress = "미지정";
-            if (history.getDevice() != null && history.getDevice().getIpAddress() != null) {
-                ipAddress = history.getDevice().getIpAddress();
-            }
-            ipCell.setCellValue(ipAddress);
-            ipCell.setCellStyle(dataStyle);
-            
-            // 수정필드 (한글 변환)
-            Cell fieldCell = dataRow.createCell(5);
-            fieldCell.setCellValue(deviceHistoryService.getFieldNameInKorean(history.getFieldName()));
-            fieldCell.setCellStyle(dataStyle);
-            
-            // 이전값
-            Cell beforeCell = dataRow.createCell(6);
-            beforeCell.setCellValue(history.getBeforeValue() != null ? history.getBeforeValue() : "-");
-            beforeCell.setCellStyle(dataStyle);
-            
-            // 변경값
-            Cell afterCell = dataRow.createCell(7);
-            afterCell.setCellValue(history.getAfterValue() != null ? history.getAfterValue() : "-");
-            afterCell.setCellStyle(dataStyle);
-            
-            // 수정자
-            Cell userCell = dataRow.createCell(8);
-            String userName = "미지정";
-            if (history.getModifiedBy() != null && history.getModifiedBy().getName() != null) {
-                userName = history.getModifiedBy().getName();
-            }
-            userCell.setCellValue(userName);
-            userCell.setCellStyle(dataStyle);
-        }
-        
-        // 컬럼 너비 자동 조정 (데이터 값에 비례)
-        for (int i = 0; i < headers.length; i++) {
-            int maxLength = headers[i].length(); // 헤더 길이로 시작
-            
-            // 해당 컬럼의 모든 셀 값 확인하여 최대 길이 찾기
-            for (int rowIdx = 0; rowIdx <= rowNum - 1; rowIdx++) {
-                Row row = sheet.getRow(rowIdx);
-                if (row != null) {
-                    Cell cell = row.getCell(i);
-                    if (cell != null) {
-                        String cellValue = "";
-                        switch (cell.getCellType()) {
-                            case STRING:
-                                cellValue = cell.getStringCellValue();
-                                break;
-                            case NUMERIC:
-                                cellValue = String.valueOf(cell.getNumericCellValue());
-                                break;
-                            case BOOLEAN:
-                                cellValue = String.valueOf(cell.getBooleanCellValue());
-                                break;
-                            case FORMULA:
-                                cellValue = cell.getCellFormula();
-                                break;
-                        }
-                        // 한글 문자는 영문보다 더 넓으므로 가중치 적용
-                        int weightedLength = calculateWeightedLength(cellValue);
-                        if (weightedLength > maxLength) {
-                            maxLength = weightedLength;
-                        }
-                    }
-                }
-            }
-            
-            // 너비 계산: 한글 기준으로 더 넓게 설정
-            int columnWidth = (int) (maxLength * 256 * 1.5) + 1000; // 여유 공간 추가
-            if (columnWidth < 2500) {
-                columnWidth = 2500; // 최소 너비
-            }
-            sheet.setColumnWidth(i, columnWidth);
-        }
-        
-        // 바이트 배열로 변환
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-        
-        return outputStream.toByteArray();
-    }
-    
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 12);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        return style;
-    }
-    
-    private CellStyle createDataStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
-        return style;
-    }
-    
-    /**
-     * 한글 문자를 고려한 가중치 길이 계산
-     */
-    private int calculateWeightedLength(String text) {
-        if (text == null) {
-            return 0;
-        }
-        int length = 0;
-        for (char c : text.toCharArray()) {
-            // 한글, 한자, 일본어 등은 2배 가중치
-            if ((c >= 0xAC00 && c <= 0xD7A3) || // 한글
-                (c >= 0x4E00 && c <= 0x9FFF) || // 한자
-                (c >= 0x3040 && c <= 0x309F) || // 히라가나
-                (c >= 0x30A0 && c <= 0x30FF)) { // 가타카나
-                length += 2;
-            } else {
-                length += 1;
-            }
-        }
-        return length;
-    }
-}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.inet.controller;
+
+import com.inet.entity.User;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
+import com.inet.service.UserService;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 내보내기 작업 상태 조회/결과 파일 다운로드 (본인 작업만)
+ */
+@Controller
+@RequestMapping("/export-jobs")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+    private final UserService userService;
+
+    public ExportJobController(ExportJobService exportJobService, UserService userService) {
+        this.exportJobService = exportJobService;
+        this.userService = userService;
+    }
+
+    @GetMapping
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> list() {
+        User user = getAuthenticatedUser();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("jobs", exportJobService.getJobs(user.getId()));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> status(@PathVariable String jobId) {
+        User user = getAuthenticatedUser();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Map<String, Object> response = new HashMap<>();
+        ExportJob job = exportJobService.getJob(jobId, user.getId());
+        if (job == null) {
+            response.put("success", false);
+            response.put("message", "내보내기 작업을 찾을 수 없습니다. (보관 기간이 지났을 수 있습니다)");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        response.put("success", true);
+        response.put("job", job);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> download(@PathVariable String jobId) {
+        User user = getAuthenticatedUser();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ExportJob job = exportJobService.getJob(jobId, user.getId());
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.status() != ExportJobService.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return attachment(job, exportJobService.getResult(job));
+    }
+
+    /**
+     * 완료된 작업 결과를 첨부 파일 응답으로 (동기 다운로드 엔드포인트에서도 사용)
+     */
+    static ResponseEntity<Resource> attachment(ExportJob job, Resource resource) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment()
+            .filename(job.fileName(), StandardCharsets.UTF_8)
+            .build());
+        return ResponseEntity.ok()
+            .headers(headers)
+            .contentType(MediaType.parseMediaType(job.contentType()))
+            .contentLength(job.sizeBytes())
+            .body(resource);
+    }
+
+    private User getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() ||
+                authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return userService.findByUsername(authentication.getName()).orElse(null);
+    }
+}
@@ -3,6 +3,8 @@ package com.inet.controller;
 import com.inet.config.PermissionHelper;
 import com.inet.entity.Feature;
 import com.inet.entity.User;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
 import com.inet.service.FileDownloadService;
 import com.inet.service.FileDownloadService.AvailabilityResponse;
 import com.inet.service.FileDownloadService.DownloadFileType;
@@ -11,7 +13,7 @@ import com.inet.service.SchoolPermissionService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.http.HttpHeaders;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -29,7 +31,9 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,17 +44,20 @@ public class FileDownloadController {
     private final FileDownloadService fileDownloadService;
     private final PermissionHelper permissionHelper;
     private final SchoolPermissionService schoolPermissionService;
+    private final ExportJobService exportJobService;
 
     public FileDownloadController(
             UserService userService,
-            FileDownloadService fileDownloadService,
+            @Lazy FileDownloadService fileDownloadService,
             PermissionHelper permissionHelper,
-            SchoolPermissionService schoolPermissionService
+            SchoolPermissionService schoolPermissionService,
+            ExportJobService exportJobService
     ) {
         this.userService = userService;
         this.fileDownloadService = fileDownloadService;
         this.permissionHelper = permissionHelper;
         this.schoolPermissionService = schoolPermissionService;
+        this.exportJobService = exportJobService;
     }
 
     @GetMapping("/file-download")
@@ -82,8 +89,13 @@ public class FileDownloadController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 선택 파일 ZIP 다운로드
+     * - async=true: 내보내기 작업으로 등록하고 작업 정보 반환 (202, 화면에서 /export-jobs/{jobId} 조회 후 파일 받음)
+     * - 그 외: 작업이 끝날 때까지 기다렸다가 바로 파일 응답
+     */
     @PostMapping("/file-download/download")
-    public ResponseEntity<byte[]> download(@RequestBody DownloadRequest requestBody) {
+    public ResponseEntity<?> download(@RequestBody DownloadRequest requestBody) throws Exception {
         User user = getAuthenticatedUser();
         if (!hasSchoolPermission(user, requestBody.getSchoolId())) {
             return ResponseEntity.status(403).build();
@@ -99,20 +111,22 @@ public class FileDownloadController {
                 .map(DownloadFileType::fromCode)
                 .collect(Collectors.toList());
 
-        byte[] archive = fileDownloadService.createArchive(requestBody.getSchoolId(), downloadTypes, requestBody.getEquipmentFontSize());
-
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         String filename = "파일_다운로드_" + timestamp + ".zip";
-        String encodedFilename = org.springframework.web.util.UriUtils.encode(filename, java.nio.charset.StandardCharsets.UTF_8);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename);
-        headers.setContentLength(archive.length);
+        ExportJobService.ExportWriter writer = out -> fileDownloadService.writeArchive(
+                requestBody.getSchoolId(), downloadTypes, requestBody.getEquipmentFontSize(), out);
+
+        if (requestBody.isAsync()) {
+            ExportJob job = exportJobService.submit(user.getId(), "zip", filename, "application/zip", writer);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("job", job);
+            return ResponseEntity.accepted().body(response);
+        }
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(archive);
+        ExportJob job = exportJobService.run(user.getId(), "zip", filename,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE, writer);
+        return ExportJobController.attachment(job, exportJobService.takeResult(job));
     }
 
     private boolean hasSchoolPermission(User user, Long schoolId) {
@@ -138,6 +152,7 @@ public class FileDownloadController {
         private Long schoolId;
         private List<String> types;
         private Integer equipmentFontSize; // 장비보기 폰트 크기
+        private boolean async; // 내보내기 작업으로 등록 후 바로 응답
     }
 }
 
@@ -9,12 +9,15 @@ import com.inet.service.PermissionService;
 import com.inet.service.SchoolPermissionService;
 import com.inet.service.UserService;
 import com.inet.service.PPTExportService;
+import com.inet.service.ExportJobService;
 import com.inet.config.PermissionHelper;
 import com.inet.entity.School;
 import com.inet.entity.Device;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -70,8 +73,12 @@ public class FloorPlanController {
     private PermissionHelper permissionHelper;
     
     @Autowired
+    @Lazy
     private PPTExportService pptExportService;
     
+    @Autowired
+    private ExportJobService exportJobService;
+    
     /**
      * 평면도 메인 페이지
      */
@@ -444,15 +451,17 @@ public class FloorPlanController {
     }
     
     /**
-     * PPT 내보내기
+     * PPT 내보내기 (내보내기 작업으로 실행)
      * GET /floorplan/export/ppt?schoolId={schoolId}&mode={mode}
+     * - async=true 이면 작업 정보만 반환 (202, /export-jobs/{jobId} 조회 후 파일 받음)
      */
     @GetMapping("/export/ppt")
     @ResponseBody
-    public ResponseEntity<byte[]> exportToPPT(
+    public ResponseEntity<?> exportToPPT(
             @RequestParam Long schoolId,
             @RequestParam(defaultValue = "design") String mode,
-            @RequestParam(required = false) Integer equipmentFontSize) {
+            @RequestParam(required = false) Integer equipmentFontSize,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
             User user = getCurrentUser();
             if (user == null || !hasSchoolPermission(user, schoolId)) {
@@ -468,28 +477,29 @@ public class FloorPlanController {
             
             School school = schoolOpt.get();
             
-            java.io.ByteArrayOutputStream pptStream = pptExportService.exportFloorPlanToPPT(schoolId, mode, equipmentFontSize);
-            byte[] pptBytes = pptStream.toByteArray();
-            
             String fileName = String.format("평면도_%s_%s.pptx", 
                 school.getSchoolName(),
                 java.time.LocalDateTime.now().format(
                     java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))
             );
+            String contentType = "application/vnd.openxmlformats-officedocument.presentationml.presentation";
+            ExportJobService.ExportWriter writer = out ->
+                pptExportService.exportFloorPlanToPPT(schoolId, mode, equipmentFontSize).writeTo(out);
             
-            String encodedFileName = java.net.URLEncoder.encode(fileName, "UTF-8")
-                .replaceAll("\\+", "%20");
-            
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.parseMediaType(
-                "application/vnd.openxmlformats-officedocument.presentationml.presentation"));
-            headers.setContentDispositionFormData("attachment", encodedFileName);
-            headers.setContentLength(pptBytes.length);
+            if (async) {
+                ExportJobService.ExportJob job = exportJobService.submit(user.getId(), "ppt", fileName, contentType, writer);
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("job", job);
+                return ResponseEntity.accepted().body(response);
+            }
             
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(pptBytes);
+            ExportJobService.ExportJob job = exportJobService.run(user.getId(), "ppt", fileName, contentType, writer);
+            return ExportJobController.attachment(job, exportJobService.takeResult(job));
                 
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                .body(e.getReason().getBytes());
         } catch (Exception e) {
             logger.error("PPT 내보내기 실패 - schoolId: {}", schoolId, e);
             String errorMessage = "PPT 파일 생성 중 오류가 발생했습니다: " + e.getMessage();
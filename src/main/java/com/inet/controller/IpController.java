@@ -6,11 +6,15 @@ import com.inet.entity.Manage;
 import com.inet.entity.Feature;
 import com.inet.entity.User;
 import com.inet.service.DeviceService;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
 import com.inet.service.SchoolService;
 import com.inet.service.PermissionService;
 import com.inet.service.SchoolPermissionService;
 import com.inet.service.UserService;
+import com.inet.service.IpOccupancyService;
 import com.inet.config.PermissionHelper;
+import com.inet.util.IpAddressUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -18,6 +22,10 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +35,7 @@ import org.apache.poi.ss.util.CellRangeAddress;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -39,6 +48,8 @@ import java.util.Set;
 import java.util.Objects;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import lombok.RequiredArgsConstructor;
 
 @Controller
@@ -47,6 +58,7 @@ import lombok.RequiredArgsConstructor;
 public class IpController {
 
     private static final Logger logger = LoggerFactory.getLogger(IpController.class);
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
     private final DeviceService deviceService;
     private final SchoolService schoolService;
     private final PermissionService permissionService;
@@ -54,6 +66,8 @@ public class IpController {
     private final UserService userService;
     private final PermissionHelper permissionHelper;
     private final com.inet.service.DeviceHistoryService deviceHistoryService;
+    private final IpOccupancyService ipOccupancyService;
+    private final ExportJobService exportJobService;
     
     // 권한 체크 메서드
     private User checkPermission(Feature feature, RedirectAttributes redirectAttributes) {
@@ -91,43 +105,47 @@ public class IpController {
         return permissionHelper.checkSchoolPermission(user, feature, schoolId, redirectAttributes);
     }
 
-    // IP 주소 유효성 검사 메서드
-    private boolean isValidIpAddress(String ipAddress) {
-        if (ipAddress == null || ipAddress.isEmpty()) {
-            return false;
-        }
-        
-        // 10.으로 시작하는지 확인
-        if (!ipAddress.startsWith("10.")) {
-            return false;
-        }
-        
-        // IP 주소 형식 검사
-        String ipPattern = "^10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}$";
-        if (!ipAddress.matches(ipPattern)) {
-            return false;
-        }
-        
-        // 한글이나 특수문자 포함 여부 검사
-        if (ipAddress.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*") || 
-            ipAddress.toLowerCase().contains("usb")) {
-            return false;
-        }
-        
-        // IP 주소의 각 부분이 올바른 범위인지 검사
-        String[] parts = ipAddress.split("\\.");
+    // 정수 IP 기준 10.0.0.0 ~ 10.255.255.255
+    private static final long IP_RANGE_FROM = IpAddressUtils.of(10, 0, 0, 0);
+    private static final long IP_RANGE_TO = IpAddressUtils.of(10, 255, 255, 255);
+
+    static Integer parseOctet(String octet) {
         try {
-            for (int i = 1; i < parts.length; i++) {
-                int part = Integer.parseInt(parts[i]);
-                if (part < 0 || part > 255) {
-                    return false;
-                }
-            }
+            int value = Integer.parseInt(octet.trim());
+            return value >= 0 && value <= 255 ? value : null;
         } catch (NumberFormatException e) {
-            return false;
+            return null;
         }
-        
-        return true;
+    }
+
+    // 정수 IP 순으로 정렬된 장비를 두 번째 옥텟별로 그룹화
+    static Map<String, List<Device>> groupBySecondOctet(List<Device> devices) {
+        return devices.stream()
+            .collect(Collectors.groupingBy(d -> String.valueOf(IpAddressUtils.secondOctet(d.getIpNumeric())),
+                LinkedHashMap::new, Collectors.toList()));
+    }
+
+    // 호스트 번호(마지막 옥텟)별 장비 매핑 (같은 번호가 여러 개면 먼저 조회된 장비)
+    static Map<Integer, Device> mapByHostOctet(List<Device> devices) {
+        return devices.stream()
+            .collect(Collectors.toMap(
+                d -> IpAddressUtils.hostOctet(d.getIpNumeric()),
+                d -> d,
+                (existing, replacement) -> existing
+            ));
+    }
+
+    // 1-254 IP 목록 생성
+    static List<Map<String, Object>> buildIpList(List<Device> devices) {
+        Map<Integer, Device> deviceMap = mapByHostOctet(devices);
+        return IntStream.rangeClosed(1, 254)
+            .mapToObj(i -> {
+                Map<String, Object> map = new HashMap<>();
+                map.put("number", i);
+                map.put("device", deviceMap.get(i));
+                return map;
+            })
+            .collect(Collectors.toList());
     }
 
     @GetMapping("/iplist")
@@ -158,72 +176,36 @@ public class IpController {
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
             model.addAttribute("selectedSchool", selectedSchool);
 
-            // 해당 학교의 모든 장비 조회 및 유효한 IP 주소만 필터링
-            List<Device> devices = deviceService.findDevicesBySchool(selectedSchool).stream()
-                .filter(d -> isValidIpAddress(d.getIpAddress()))
-                .collect(Collectors.toList());
-            
-            // IP 주소의 두 번째 옥텟 목록 추출
-            Set<String> secondOctets = devices.stream()
-                .map(d -> d.getIpAddress().split("\\.")[1])
-                .collect(Collectors.toSet());
+            // IP 대역(10.0.0.0/8)의 두 번째 옥텟 목록 (IP 사용 현황 캐시)
+            Set<String> secondOctets = ipOccupancyService.getOccupancy(schoolId).getSecondOctets().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
             
             model.addAttribute("secondOctets", secondOctets);
             model.addAttribute("selectedSecondOctet", secondOctet);
 
             // secondOctet이 null이거나 비어있으면 "all"로 처리
             if (secondOctet == null || secondOctet.isEmpty() || "all".equals(secondOctet)) {
-                // IP 대역별로 장비 그룹화
-                Map<String, List<Map<String, Object>>> ipListByOctet = new HashMap<>();
-                Map<String, List<Device>> devicesByOctet = devices.stream()
-                    .collect(Collectors.groupingBy(d -> d.getIpAddress().split("\\.")[1]));
+                // IP 대역별로 장비 그룹화 (정수 IP 순으로 조회되므로 대역 순서 유지)
+                Map<String, List<Map<String, Object>>> ipListByOctet = new LinkedHashMap<>();
+                Map<String, List<Device>> devicesByOctet = groupBySecondOctet(
+                    deviceService.findDevicesBySchoolAndIpRange(schoolId, IP_RANGE_FROM, IP_RANGE_TO));
 
                 // 각 IP 대역별로 1-254 IP 목록 생성
-                devicesByOctet.forEach((octet, deviceList) -> {
-                    Map<Integer, Device> deviceMap = deviceList.stream()
-                        .collect(Collectors.toMap(
-                            d -> Integer.parseInt(d.getIpAddress().split("\\.")[3]),
-                            d -> d,
-                            (existing, replacement) -> existing
-                        ));
-
-                    List<Map<String, Object>> ipList = IntStream.rangeClosed(1, 254)
-                        .mapToObj(i -> {
-                            Map<String, Object> map = new HashMap<>();
-                            map.put("number", i);
-                            Device device = deviceMap.getOrDefault(i, null);
-                            map.put("device", device);
-                            return map;
-                        })
-                        .collect(Collectors.toList());
-
-                    ipListByOctet.put(octet, ipList);
-                });
+                devicesByOctet.forEach((octet, deviceList) -> ipListByOctet.put(octet, buildIpList(deviceList)));
 
                 model.addAttribute("ipListByOctet", ipListByOctet);
                 model.addAttribute("isAllView", true);
             } else {
-                // 기존 단일 IP 대역 로직
-                Map<Integer, Device> deviceMap = devices.stream()
-                    .filter(d -> {
-                        String[] parts = d.getIpAddress().split("\\.");
-                        return parts[1].equals(secondOctet);
-                    })
-                    .collect(Collectors.toMap(
-                        d -> Integer.parseInt(d.getIpAddress().split("\\.")[3]),
-                        d -> d,
-                        (existing, replacement) -> existing
-                    ));
-
-                List<Map<String, Object>> ipList = IntStream.rangeClosed(1, 254)
-                    .mapToObj(i -> {
-                        Map<String, Object> map = new HashMap<>();
-                        map.put("number", i);
-                        Device device = deviceMap.getOrDefault(i, null);
-                        map.put("device", device);
-                        return map;
-                    })
-                    .collect(Collectors.toList());
+                // 단일 IP 대역 (10.X.0.0 ~ 10.X.255.255 범위 조회)
+                List<Device> devices = new ArrayList<>();
+                Integer octet = parseOctet(secondOctet);
+                if (octet != null && ipOccupancyService.getOccupancy(schoolId).getSecondOctets().contains(octet)) {
+                    devices = deviceService.findDevicesBySchoolAndIpRange(schoolId,
+                        IpAddressUtils.of(10, octet, 0, 0), IpAddressUtils.of(10, octet, 255, 255));
+                }
+
+                List<Map<String, Object>> ipList = buildIpList(devices);
 
                 model.addAttribute("ipList", ipList);
                 model.addAttribute("isAllView", false);
@@ -239,6 +221,66 @@ public class IpController {
         return "ip/iplist";
     }
 
+    /**
+     * 대역(10.x.y.0/24)에서 가장 낮은 빈 IP 조회 (장비 등록/수정 화면용)
+     * @param subnet 앞 세 옥텟 (예: 10.101.36), 전체 IP를 넘겨도 앞 세 옥텟만 사용
+     * @param deviceId 수정 중인 장비 ID (해당 장비가 쓰는 IP는 빈 것으로 간주)
+     */
+    @GetMapping("/api/next-free")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> nextFreeIp(@RequestParam Long schoolId,
+                                                          @RequestParam String subnet,
+                                                          @RequestParam(required = false) Long deviceId) {
+        Map<String, Object> response = new HashMap<>();
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(401).body(response);
+        }
+
+        User user = userService.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            response.put("success", false);
+            response.put("message", "사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(401).body(response);
+        }
+
+        User checkedUser = permissionHelper.checkSchoolPermission(user, Feature.DEVICE_MANAGEMENT, schoolId,
+            new RedirectAttributesModelMap());
+        if (checkedUser == null) {
+            response.put("success", false);
+            response.put("message", "해당 학교에 대한 장비 관리 권한이 없습니다.");
+            return ResponseEntity.status(403).body(response);
+        }
+
+        // "10.101.36", "10.101.36.", "10.101.36.15" 모두 허용
+        String[] parts = subnet.trim().split("\\.");
+        Long network = parts.length >= 3 ? IpAddressUtils.toNumeric(parts[0] + "." + parts[1] + "." + parts[2] + ".0") : null;
+        if (network == null) {
+            response.put("success", false);
+            response.put("message", "IP 대역 형식이 올바르지 않습니다. (예: 10.101.36)");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        int a = (int) ((network >> 24) & 0xFF);
+        int b = IpAddressUtils.secondOctet(network);
+        int c = (int) ((network >> 8) & 0xFF);
+        String ip = ipOccupancyService.findNextFreeIp(schoolId, a, b, c, deviceId);
+        IpOccupancyService.Subnet occupied = ipOccupancyService.getOccupancy(schoolId).getSubnet(a, b, c);
+
+        response.put("success", ip != null);
+        response.put("subnet", a + "." + b + "." + c);
+        response.put("ip", ip);
+        response.put("freeCount", occupied != null ? occupied.getFreeCount()
+            : IpOccupancyService.LAST_HOST - IpOccupancyService.FIRST_HOST + 1);
+        if (ip == null) {
+            response.put("message", "해당 대역에 빈 IP가 없습니다.");
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/download")
     public void downloadExcel(@RequestParam Long schoolId, @RequestParam(required = false) String secondOctet, 
                             HttpServletResponse response) throws IOException {
@@ -264,14 +306,11 @@ public class IpController {
         School school = schoolService.getSchoolById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
 
-        // 모든 장비 가져오기
-        List<Device> allDevices = deviceService.findBySchool(schoolId).stream()
-            .filter(d -> isValidIpAddress(d.getIpAddress()))
-            .collect(Collectors.toList());
+        // 10.x 대역 장비 가져오기 (ip_numeric 인덱스 범위 조회)
+        List<Device> allDevices = deviceService.findDevicesBySchoolAndIpRange(schoolId, IP_RANGE_FROM, IP_RANGE_TO);
 
         // IP 대역별로 장비 그룹화
-        Map<String, List<Device>> devicesByOctet = allDevices.stream()
-            .collect(Collectors.groupingBy(d -> d.getIpAddress().split("\\.")[1]));
+        Map<String, List<Device>> devicesByOctet = groupBySecondOctet(allDevices);
 
         // 학교 전체의 IP 수정일자 조회 (모든 시트에 동일한 시간 표시)
         java.time.LocalDateTime lastIpModifiedDateTime = null;
@@ -292,6 +331,30 @@ public class IpController {
             dateStr = java.time.LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
         }
 
+        // 파일 다운로드 설정
+        response.setContentType(XLSX_CONTENT_TYPE);
+        String fileName = String.format("IP대장업무용(10.%s.36.001-254).xlsx",
+            "all".equalsIgnoreCase(secondOctet) ? "ALL" : 
+            (secondOctet != null ? secondOctet : "ALL"));
+        response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
+
+        // 엑셀 생성은 내보내기 작업으로 실행 (동시 실행 수 제한), 완료 후 파일 전송
+        try {
+            ExportJob job = exportJobService.run(user.getId(), "ip-ledger-excel", fileName, XLSX_CONTENT_TYPE,
+                out -> writeIpLedger(devicesByOctet, secondOctet, dateStr, out));
+            exportJobService.copyResult(job, response.getOutputStream());
+        } catch (ResponseStatusException e) {
+            response.reset();
+            response.sendError(e.getStatusCode().value(), e.getReason());
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeIpLedger(Map<String, List<Device>> devicesByOctet, String secondOctet, String dateStr,
+                               OutputStream outputStream) throws IOException {
         // 엑셀 워크북 생성
         try (Workbook workbook = new XSSFWorkbook()) {
             // 스타일 설정
@@ -317,15 +380,8 @@ public class IpController {
                                                 dateStr, titleStyle, headerStyle, dataStyle, warningStyle));
             }
 
-            // 파일 다운로드 설정
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-            String fileName = String.format("IP대장업무용(10.%s.36.001-254).xlsx",
-                "all".equalsIgnoreCase(secondOctet) ? "ALL" : 
-                (secondOctet != null ? secondOctet : "ALL"));
-            response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
-
             // 파일 쓰기
-            workbook.write(response.getOutputStream());
+            workbook.write(outputStream);
         }
     }
 
@@ -491,12 +547,7 @@ public class IpController {
             sheet.addMergedRegion(new CellRangeAddress(currentRow - 1, currentRow - 1, 0, 15));
 
             // IP 대역별 데이터 매핑
-            Map<Integer, Device> deviceMap = devicesByOctet.get(octet).stream()
-                .collect(Collectors.toMap(
-                    d -> Integer.parseInt(d.getIpAddress().split("\\.")[3]),
-                    d -> d,
-                    (existing, replacement) -> existing
-                ));
+            Map<Integer, Device> deviceMap = mapByHostOctet(devicesByOctet.get(octet));
 
             // 데이터 행 채우기 (1-256 범위: 254 + 2행 빈 데이터셀)
             int rowsPerGroup = 64;
@@ -600,12 +651,7 @@ public class IpController {
         Sheet sheet = workbook.createSheet(secondOctet);
 
         // IP 번호로 매핑
-        Map<Integer, Device> deviceMap = devices.stream()
-            .collect(Collectors.toMap(
-                d -> Integer.parseInt(d.getIpAddress().split("\\.")[3]),
-                d -> d,
-                (existing, replacement) -> existing
-            ));
+        Map<Integer, Device> deviceMap = mapByHostOctet(devices);
 
         // 제목 행 (1행)
         Row titleRow = sheet.createRow(0);
@@ -3,12 +3,15 @@ package com.inet.controller;
 import com.inet.entity.Feature;
 import com.inet.entity.School;
 import com.inet.entity.User;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
 import com.inet.service.QrCodeService;
 import com.inet.service.SchoolService;
 import com.inet.service.UserService;
 import com.inet.config.PermissionHelper;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,17 +20,30 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.google.zxing.WriterException;
 
 @Controller
 @RequestMapping("/qr-code")
 public class QrCodeController {
     
+    private static final Logger log = LoggerFactory.getLogger(QrCodeController.class);
+    
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    
     @Autowired
+    @Lazy
     private QrCodeService qrCodeService;
     
     @Autowired
@@ -39,6 +55,9 @@ public class QrCodeController {
     @Autowired
     private PermissionHelper permissionHelper;
     
+    @Autowired
+    private ExportJobService exportJobService;
+    
     /**
      * QR 코드 생성 페이지를 표시합니다.
      */
@@ -64,7 +83,7 @@ public class QrCodeController {
      * 선택된 학교의 QR 코드 엑셀 파일을 생성하고 다운로드합니다.
      */
     @PostMapping("/download")
-    public ResponseEntity<ByteArrayResource> downloadQrCodeExcel(
+    public ResponseEntity<Resource> downloadQrCodeExcel(
             @RequestParam Long schoolId,
             @RequestParam(value = "infoLines", required = false) List<String> infoLines,
             RedirectAttributes redirectAttributes) throws IOException, WriterException {
@@ -73,18 +92,18 @@ public class QrCodeController {
             School school = schoolService.findById(schoolId)
                     .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
             
-            byte[] excelBytes = qrCodeService.generateQrCodeExcel(schoolId, infoLines);
-            
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
-            
             String filename = school.getSchoolName() + "_QR코드.xlsx";
+            ExportJob job = exportJobService.run(currentUserId(), "qr-excel", filename, XLSX_CONTENT_TYPE,
+                    out -> out.write(qrCodeService.generateQrCodeExcel(schoolId, infoLines)));
             
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelBytes.length)
-                    .body(resource);
+                    .contentType(MediaType.parseMediaType(XLSX_CONTENT_TYPE))
+                    .contentLength(job.sizeBytes())
+                    .body(exportJobService.takeResult(job));
                     
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "QR 코드 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -95,7 +114,7 @@ public class QrCodeController {
      * 선택된 학교의 데이터 엑셀 파일을 생성하고 다운로드합니다 (A~D열에 설정 순서대로).
      */
     @PostMapping("/download-data")
-    public ResponseEntity<ByteArrayResource> downloadDataExcel(
+    public ResponseEntity<Resource> downloadDataExcel(
             @RequestParam Long schoolId,
             @RequestParam(value = "infoLines", required = false) List<String> infoLines,
             RedirectAttributes redirectAttributes) throws IOException {
@@ -104,18 +123,18 @@ public class QrCodeController {
             School school = schoolService.findById(schoolId)
                     .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
             
-            byte[] excelBytes = qrCodeService.generateDataExcel(schoolId, infoLines);
-            
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
-            
             String filename = school.getSchoolName() + "_데이터.xlsx";
+            ExportJob job = exportJobService.run(currentUserId(), "qr-data-excel", filename, XLSX_CONTENT_TYPE,
+                    out -> out.write(qrCodeService.generateDataExcel(schoolId, infoLines)));
             
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelBytes.length)
-                    .body(resource);
+                    .contentType(MediaType.parseMediaType(XLSX_CONTENT_TYPE))
+                    .contentLength(job.sizeBytes())
+                    .body(exportJobService.takeResult(job));
                     
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "데이터 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -126,7 +145,7 @@ public class QrCodeController {
      * 필터링된 장비들의 QR 코드 엑셀 파일을 생성하고 다운로드합니다.
      */
     @PostMapping("/download-filtered")
-    public ResponseEntity<ByteArrayResource> downloadQrCodeExcelFiltered(
+    public ResponseEntity<Resource> downloadQrCodeExcelFiltered(
             @RequestParam Long schoolId,
             @RequestParam(value = "type", required = false) String type,
             @RequestParam(value = "classroomId", required = false) Long classroomId,
@@ -138,18 +157,18 @@ public class QrCodeController {
             School school = schoolService.findById(schoolId)
                     .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
             
-            byte[] excelBytes = qrCodeService.generateQrCodeExcelFiltered(schoolId, type, classroomId, searchKeyword, infoLines);
-            
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
-            
             String filename = school.getSchoolName() + "_QR코드.xlsx";
+            ExportJob job = exportJobService.run(currentUserId(), "qr-excel", filename, XLSX_CONTENT_TYPE,
+                    out -> out.write(qrCodeService.generateQrCodeExcelFiltered(schoolId, type, classroomId, searchKeyword, infoLines)));
             
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelBytes.length)
-                    .body(resource);
+                    .contentType(MediaType.parseMediaType(XLSX_CONTENT_TYPE))
+                    .contentLength(job.sizeBytes())
+                    .body(exportJobService.takeResult(job));
                     
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "QR 코드 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -160,7 +179,7 @@ public class QrCodeController {
      * 필터링된 장비들의 데이터 엑셀 파일을 생성하고 다운로드합니다 (A~D열에 설정 순서대로).
      */
     @PostMapping("/download-data-filtered")
-    public ResponseEntity<ByteArrayResource> downloadDataExcelFiltered(
+    public ResponseEntity<Resource> downloadDataExcelFiltered(
             @RequestParam Long schoolId,
             @RequestParam(value = "type", required = false) String type,
             @RequestParam(value = "classroomId", required = false) Long classroomId,
@@ -172,24 +191,78 @@ public class QrCodeController {
             School school = schoolService.findById(schoolId)
                     .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
             
-            byte[] excelBytes = qrCodeService.generateDataExcelFiltered(schoolId, type, classroomId, searchKeyword, infoLines);
-            
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
-            
             String filename = school.getSchoolName() + "_데이터.xlsx";
+            ExportJob job = exportJobService.run(currentUserId(), "qr-data-excel", filename, XLSX_CONTENT_TYPE,
+                    out -> out.write(qrCodeService.generateDataExcelFiltered(schoolId, type, classroomId, searchKeyword, infoLines)));
             
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(excelBytes.length)
-                    .body(resource);
+                    .contentType(MediaType.parseMediaType(XLSX_CONTENT_TYPE))
+                    .contentLength(job.sizeBytes())
+                    .body(exportJobService.takeResult(job));
                     
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "데이터 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
     
+    /**
+     * QR 라벨을 벡터(SVG) 인쇄용 문서로 생성하여 바로 응답 스트림에 기록합니다.
+     * 필터 조건(type, classroomId, searchKeyword)이 없으면 학교 전체 라벨을 출력합니다.
+     */
+    @PostMapping("/download-vector")
+    public void downloadQrCodeVector(
+            @RequestParam Long schoolId,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "classroomId", required = false) Long classroomId,
+            @RequestParam(value = "searchKeyword", required = false) String searchKeyword,
+            @RequestParam(value = "infoLines", required = false) List<String> infoLines,
+            HttpServletResponse response) throws IOException {
+        
+        if (schoolService.findById(schoolId).isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        // 파일명 생성 (영문만 사용)
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String filename = String.format("QR_Labels_%d_%s.html", schoolId, timestamp);
+        
+        response.setContentType("text/html;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        
+        try {
+            AtomicInteger count = new AtomicInteger();
+            ExportJob job = exportJobService.run(currentUserId(), "qr-vector", filename, "text/html;charset=UTF-8",
+                    out -> count.set(qrCodeService.writeQrCodeVectorSheet(schoolId, type, classroomId, searchKeyword,
+                            infoLines, out)));
+            exportJobService.copyResult(job, response.getOutputStream());
+            log.info("QR 라벨 벡터 출력 완료 - schoolId: {}, {}건", schoolId, count.get());
+        } catch (ResponseStatusException e) {
+            response.reset();
+            response.sendError(e.getStatusCode().value(), e.getReason());
+        } catch (Exception e) {
+            log.error("QR 라벨 벡터 출력 중 오류 발생", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+    
+    /**
+     * 내보내기 작업 소유자 (로그인 사용자)
+     */
+    private Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return userService.findByUsername(auth.getName())
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+    }
+    
     /**
      * 권한 체크 메서드
      */
@@ -7,6 +7,8 @@ import com.inet.entity.WirelessAp;
 import com.inet.entity.Classroom;
 import com.inet.entity.School;
 import com.inet.service.WirelessApService;
+import com.inet.service.ExportJobService;
+import com.inet.service.ExportJobService.ExportJob;
 import com.inet.service.ClassroomService;
 import com.inet.service.SchoolService;
 import com.inet.config.Views;
@@ -23,12 +25,12 @@ import com.inet.service.UserService;
 import com.inet.config.PermissionHelper;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.core.io.ByteArrayResource;
-import java.io.ByteArrayOutputStream;
+import org.springframework.core.io.Resource;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.*;
 import jakarta.servlet.http.HttpServletResponse;
@@ -56,6 +58,7 @@ public class WirelessApController {
     private final SchoolPermissionService schoolPermissionService;
     private final UserService userService;
     private final PermissionHelper permissionHelper;
+    private final ExportJobService exportJobService;
     private final com.inet.service.WirelessApHistoryService wirelessApHistoryService;
 
     // 권한 체크 메서드
@@ -320,7 +323,7 @@ public class WirelessApController {
 
     // 엑셀 다운로드
     @GetMapping("/excel")
-    public ResponseEntity<ByteArrayResource> downloadExcel(
+    public ResponseEntity<Resource> downloadExcel(
             @RequestParam(value = "schoolId", required = false) Long schoolId,
             @RequestParam(value = "classroomId", required = false) Long classroomId,
             RedirectAttributes redirectAttributes) {
@@ -355,128 +358,12 @@ public class WirelessApController {
 
             fileName += "_" + LocalDate.now() + ".xlsx";
 
-            // 엑셀 파일 생성
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            Workbook workbook = new XSSFWorkbook();
-            
-            // 첫 번째 시트: 총괄표
-            createSummarySheet(workbook, wirelessAps);
-            
-            // 두 번째 시트: 무선AP 목록
-            Sheet sheet = workbook.createSheet("무선AP 목록");
-
-            // 헤더 스타일
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerFont.setFontHeightInPoints((short) 12);
-            headerStyle.setFont(headerFont);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            headerStyle.setBorderTop(BorderStyle.THIN);
-            headerStyle.setBorderBottom(BorderStyle.THIN);
-            headerStyle.setBorderLeft(BorderStyle.THIN);
-            headerStyle.setBorderRight(BorderStyle.THIN);
-
-            // 데이터 스타일
-            CellStyle dataStyle = workbook.createCellStyle();
-            dataStyle.setAlignment(HorizontalAlignment.CENTER);
-            dataStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            dataStyle.setBorderTop(BorderStyle.THIN);
-            dataStyle.setBorderBottom(BorderStyle.THIN);
-            dataStyle.setBorderLeft(BorderStyle.THIN);
-            dataStyle.setBorderRight(BorderStyle.THIN);
-
-            // 1행: 학교이름 + "무선 AP 현황" 표기
-            String schoolName = "";
-            if (!wirelessAps.isEmpty() && wirelessAps.get(0).getSchool() != null) {
-                schoolName = wirelessAps.get(0).getSchool().getSchoolName();
-            }
-            Row titleRow = sheet.createRow(0);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue(schoolName + " 무선 AP 현황");
-            titleCell.setCellStyle(headerStyle);
-            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 10)); // A1:K1 병합
-
-            // 2행: AP 정보의 마지막 수정일자 표기 (A2에만 표시)
-            // AP 정보의 마지막 수정일자 조회 (모든 AP 중 가장 최근 수정일자)
-            java.time.LocalDateTime lastModifiedDateTime = null;
-            for (WirelessAp ap : wirelessAps) {
-                Optional<java.time.LocalDateTime> lastModified = wirelessApHistoryService.getLastModifiedDate(ap);
-                if (lastModified.isPresent()) {
-                    if (lastModifiedDateTime == null || lastModified.get().isAfter(lastModifiedDateTime)) {
-                        lastModifiedDateTime = lastModified.get();
-                    }
-                }
-            }
-            
-            // 작성일자: 마지막 수정일자가 있으면 그것을 사용, 없으면 현재 날짜
-            String dateStr;
-            if (lastModifiedDateTime != null) {
-                dateStr = lastModifiedDateTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            } else {
-                dateStr = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            }
-            
-            // 작성일자 스타일 생성 (배경색 없음)
-            CellStyle dateStyle = workbook.createCellStyle();
-            dateStyle.setAlignment(HorizontalAlignment.RIGHT);
-            Font dateFont = workbook.createFont();
-            dateFont.setBold(true);
-            dateStyle.setFont(dateFont);
-            // 배경색 제거 (기본 스타일 유지)
-            
-            // 두번째 행: 작성일자 (오른쪽 끝에 배치)
-            int lastCol = 10; // K열 (마지막 컬럼)
-            Row dateRow = sheet.createRow(1);
-            Cell dateLabelCell = dateRow.createCell(lastCol - 1); // 마지막 컬럼에서 두 번째
-            dateLabelCell.setCellValue("작성일자");
-            dateLabelCell.setCellStyle(dateStyle);
-            
-            Cell dateValueCell = dateRow.createCell(lastCol); // 마지막 컬럼
-            dateValueCell.setCellValue(dateStr);
-            dateValueCell.setCellStyle(dateStyle);
-
-            // 세번째 행: 헤더 (학교컬럼 제거)
-            Row headerRow = sheet.createRow(2);
-            String[] headers = {"현위치", "교실구분", "신규라벨번호", "장비번호", "도입년도", "제조사", "모델", "MAC주소", "기존위치", "기존라벨번호", "속도"};
-            
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-                sheet.setColumnWidth(i, 4000);
-            }
-
-            // 데이터 행 생성 (3행부터 시작)
-            int rowNum = 3;
-            for (WirelessAp ap : wirelessAps) {
-                Row row = sheet.createRow(rowNum++);
-                
-                row.createCell(0).setCellValue(ap.getLocation() != null ? ap.getLocation().getRoomName() : "");
-                row.createCell(1).setCellValue(ap.getClassroomType() != null ? ap.getClassroomType() : "");
-                row.createCell(2).setCellValue(ap.getNewLabelNumber() != null ? ap.getNewLabelNumber() : "");
-                row.createCell(3).setCellValue(ap.getDeviceNumber() != null ? ap.getDeviceNumber() : "");
-                row.createCell(4).setCellValue(ap.getAPYear() != null ? String.valueOf(ap.getAPYear().getYear()) : "");
-                row.createCell(5).setCellValue(ap.getManufacturer() != null ? ap.getManufacturer() : "");
-                row.createCell(6).setCellValue(ap.getModel() != null ? ap.getModel() : "");
-                row.createCell(7).setCellValue(ap.getMacAddress() != null ? ap.getMacAddress() : "");
-                row.createCell(8).setCellValue(ap.getPrevLocation() != null ? ap.getPrevLocation() : "");
-                row.createCell(9).setCellValue(ap.getPrevLabelNumber() != null ? ap.getPrevLabelNumber() : "");
-                row.createCell(10).setCellValue(ap.getSpeed() != null ? ap.getSpeed() : "");
-                
-                // 모든 셀에 스타일 적용
-                for (int i = 0; i < 11; i++) {
-                    row.getCell(i).setCellStyle(dataStyle);
-                }
-            }
-
-            workbook.write(outputStream);
-            workbook.close();
-
-            ByteArrayResource resource = new ByteArrayResource(outputStream.toByteArray());
+            // 엑셀 파일 생성 (내보내기 작업으로 실행, 완료 후 임시 파일 전송)
+            List<WirelessAp> exportAps = wirelessAps;
+            ExportJob job = exportJobService.run(user.getId(), "wireless-ap-excel", fileName,
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                    out -> writeExcel(exportAps, out));
+            Resource resource = exportJobService.takeResult(job);
 
             HttpHeaders headers_response = new HttpHeaders();
             headers_response.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
@@ -487,14 +374,138 @@ public class WirelessApController {
             return ResponseEntity.ok()
                     .headers(headers_response)
                     .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                    .contentLength(job.sizeBytes())
                     .body(resource);
 
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).build();
         } catch (Exception e) {
             log.error("Error generating Excel file: ", e);
             return ResponseEntity.status(500).build();
         }
     }
 
+    private void writeExcel(List<WirelessAp> wirelessAps, OutputStream outputStream) throws IOException {
+        Workbook workbook = new XSSFWorkbook();
+        
+        // 첫 번째 시트: 총괄표
+        createSummarySheet(workbook, wirelessAps);
+        
+        // 두 번째 시트: 무선AP 목록
+        Sheet sheet = workbook.createSheet("무선AP 목록");
+
+        // 헤더 스타일
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerFont.setFontHeightInPoints((short) 12);
+        headerStyle.setFont(headerFont);
+        headerStyle.setAlignment(HorizontalAlignment.CENTER);
+        headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        headerStyle.setBorderTop(BorderStyle.THIN);
+        headerStyle.setBorderBottom(BorderStyle.THIN);
+        headerStyle.setBorderLeft(BorderStyle.THIN);
+        headerStyle.setBorderRight(BorderStyle.THIN);
+
+        // 데이터 스타일
+        CellStyle dataStyle = workbook.createCellStyle();
+        dataStyle.setAlignment(HorizontalAlignment.CENTER);
+        dataStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        dataStyle.setBorderTop(BorderStyle.THIN);
+        dataStyle.setBorderBottom(BorderStyle.THIN);
+        dataStyle.setBorderLeft(BorderStyle.THIN);
+        dataStyle.setBorderRight(BorderStyle.THIN);
+
+        // 1행: 학교이름 + "무선 AP 현황" 표기
+        String schoolName = "";
+        if (!wirelessAps.isEmpty() && wirelessAps.get(0).getSchool() != null) {
+            schoolName = wirelessAps.get(0).getSchool().getSchoolName();
+        }
+        Row titleRow = sheet.createRow(0);
+        Cell titleCell = titleRow.createCell(0);
+        titleCell.setCellValue(schoolName + " 무선 AP 현황");
+        titleCell.setCellStyle(headerStyle);
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 10)); // A1:K1 병합
+
+        // 2행: AP 정보의 마지막 수정일자 표기 (A2에만 표시)
+        // AP 정보의 마지막 수정일자 조회 (모든 AP 중 가장 최근 수정일자)
+        java.time.LocalDateTime lastModifiedDateTime = null;
+        for (WirelessAp ap : wirelessAps) {
+            Optional<java.time.LocalDateTime> lastModified = wirelessApHistoryService.getLastModifiedDate(ap);
+            if (lastModified.isPresent()) {
+                if (lastModifiedDateTime == null || lastModified.get().isAfter(lastModifiedDateTime)) {
+                    lastModifiedDateTime = lastModified.get();
+                }
+            }
+        }
+        
+        // 작성일자: 마지막 수정일자가 있으면 그것을 사용, 없으면 현재 날짜
+        String dateStr;
+        if (lastModifiedDateTime != null) {
+            dateStr = lastModifiedDateTime.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } else {
+            dateStr = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        }
+        
+        // 작성일자 스타일 생성 (배경색 없음)
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setAlignment(HorizontalAlignment.RIGHT);
+        Font dateFont = workbook.createFont();
+        dateFont.setBold(true);
+        dateStyle.setFont(dateFont);
+        // 배경색 제거 (기본 스타일 유지)
+        
+        // 두번째 행: 작성일자 (오른쪽 끝에 배치)
+        int lastCol = 10; // K열 (마지막 컬럼)
+        Row dateRow = sheet.createRow(1);
+        Cell dateLabelCell = dateRow.createCell(lastCol - 1); // 마지막 컬럼에서 두 번째
+        dateLabelCell.setCellValue("작성일자");
+        dateLabelCell.setCellStyle(dateStyle);
+        
+        Cell dateValueCell = dateRow.createCell(lastCol); // 마지막 컬럼
+        dateValueCell.setCellValue(dateStr);
+        dateValueCell.setCellStyle(dateStyle);
+
+        // 세번째 행: 헤더 (학교컬럼 제거)
+        Row headerRow = sheet.createRow(2);
+        String[] headers = {"현위치", "교실구분", "신규라벨번호", "장비번호", "도입년도", "제조사", "모델", "MAC주소", "기존위치", "기존라벨번호", "속도"};
+        
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, 4000);
+        }
+
+        // 데이터 행 생성 (3행부터 시작)
+        int rowNum = 3;
+        for (WirelessAp ap : wirelessAps) {
+            Row row = sheet.createRow(rowNum++);
+            
+            row.createCell(0).setCellValue(ap.getLocation() != null ? ap.getLocation().getRoomName() : "");
+            row.createCell(1).setCellValue(ap.getClassroomType() != null ? ap.getClassroomType() : "");
+            row.createCell(2).setCellValue(ap.getNewLabelNumber() != null ? ap.getNewLabelNumber() : "");
+            row.createCell(3).setCellValue(ap.getDeviceNumber() != null ? ap.getDeviceNumber() : "");
+            row.createCell(4).setCellValue(ap.getAPYear() != null ? String.valueOf(ap.getAPYear().getYear()) : "");
+            row.createCell(5).setCellValue(ap.getManufacturer() != null ? ap.getManufacturer() : "");
+            row.createCell(6).setCellValue(ap.getModel() != null ? ap.getModel() : "");
+            row.createCell(7).setCellValue(ap.getMacAddress() != null ? ap.getMacAddress() : "");
+            row.createCell(8).setCellValue(ap.getPrevLocation() != null ? ap.getPrevLocation() : "");
+            row.createCell(9).setCellValue(ap.getPrevLabelNumber() != null ? ap.getPrevLabelNumber() : "");
+            row.createCell(10).setCellValue(ap.getSpeed() != null ? ap.getSpeed() : "");
+            
+            // 모든 셀에 스타일 적용
+            for (int i = 0; i < 11; i++) {
+                row.getCell(i).setCellStyle(dataStyle);
+            }
+        }
+
+        workbook.write(outputStream);
+        workbook.close();
+    }
+
     private void createSummarySheet(Workbook workbook, List<WirelessAp> wirelessAps) {
         Sheet summarySheet = workbook.createSheet("총괄표");
         
@@ -1,6 +1,8 @@
 package com.inet.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -12,9 +14,15 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.inet.config.Views;
+import com.inet.util.ClassroomNameUtils;
 
 @Entity
-@Table(name = "classroom")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "classroom")
+@Table(name = "classroom", indexes = {
+    @Index(name = "idx_classroom_school_normalized_name", columnList = "school_id,normalized_name"),
+    @Index(name = "idx_classroom_school_sort_rank", columnList = "school_id,sort_rank")
+})
 @Getter
 @Setter
 @ToString(exclude = {"devices"})
@@ -32,6 +40,10 @@ public class Classroom {
     @JsonView(Views.Summary.class)
     private String roomName;
 
+    // 중복 검사용 정규화 교실명 (저장 시 room_name으로부터 자동 갱신)
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
     @Column(name = "x_coordinate")
     @JsonProperty("xCoordinate")
     @JsonView(Views.Summary.class)
@@ -50,10 +62,17 @@ public class Classroom {
     @JsonView(Views.Summary.class)
     private Integer height = 100;
 
+    // 이전 순서 번호 (sort_rank 채우기에만 사용)
     @Column(name = "display_order")
     @JsonView(Views.Summary.class)
     private Integer displayOrder;
 
+    // 학교 내 정렬 키 (간격을 두고 부여하여 순서 변경 시 해당 교실 한 행만 갱신)
+    // 생성 시에만 저장하고 이후에는 ClassroomRankService만 변경 (분리된 엔티티 저장이 이전 순위로 덮어쓰지 않도록)
+    @Column(name = "sort_rank", updatable = false)
+    @JsonView(Views.Summary.class)
+    private Long sortRank;
+
     @ManyToOne
     @JoinColumn(name = "school_id")
     @JsonView(Views.Detail.class)
@@ -64,6 +83,12 @@ public class Classroom {
     @JsonView(Views.Detail.class)
     private List<Device> devices;
 
+    @PrePersist
+    @PreUpdate
+    public void syncNormalizedName() {
+        this.normalizedName = ClassroomNameUtils.normalize(this.roomName);
+    }
+
     // Explicit getter methods
     public Long getClassroomId() {
         return this.classroomId;
@@ -84,6 +109,19 @@ public class Classroom {
     // Manual setter methods for WirelessApService
     public void setRoomName(String roomName) {
         this.roomName = roomName;
+        this.normalizedName = ClassroomNameUtils.normalize(roomName);
+    }
+
+    public String getNormalizedName() {
+        return this.normalizedName;
+    }
+
+    public Long getSortRank() {
+        return this.sortRank;
+    }
+
+    public void setSortRank(Long sortRank) {
+        this.sortRank = sortRank;
     }
 
     public void setSchool(School school) {
@@ -9,16 +9,27 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import com.inet.util.IpAddressUtils;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "device")
+@Table(name = "device", indexes = {
+    @Index(name = "idx_device_ip_numeric", columnList = "ip_numeric"),
+    @Index(name = "idx_device_school_ip_numeric", columnList = "school_id,ip_numeric"),
+    @Index(name = "idx_device_school_type", columnList = "school_id,type"),
+    @Index(name = "idx_device_classroom", columnList = "classroom_id"),
+    @Index(name = "idx_device_ip_address", columnList = "ip_address")
+})
 @Getter
 @Setter
 @ToString(exclude = {"classroom"})
@@ -43,6 +54,10 @@ public class Device {
     @Column(name = "ip_address")
     private String ipAddress;
     
+    // ip_address를 정수로 변환한 값 (저장 시 자동 갱신, 올바른 IPv4가 아니면 null)
+    @Column(name = "ip_numeric")
+    private Long ipNumeric;
+    
     @ManyToOne
     @JoinColumn(name = "classroom_id")
     @JsonBackReference
@@ -74,6 +89,12 @@ public class Device {
     @JoinColumn(name = "uid_id")
     private Uid uid;
 
+    @PrePersist
+    @PreUpdate
+    void syncIpNumeric() {
+        this.ipNumeric = IpAddressUtils.toNumeric(this.ipAddress);
+    }
+
     // Explicit getter methods
     public String getIpAddress() {
         return this.ipAddress;
@@ -178,6 +199,11 @@ public class Device {
     
     public void setIpAddress(String ipAddress) {
         this.ipAddress = ipAddress;
+        this.ipNumeric = IpAddressUtils.toNumeric(ipAddress);
+    }
+    
+    public Long getIpNumeric() {
+        return this.ipNumeric;
     }
     
     public void setUnused(Boolean unused) {
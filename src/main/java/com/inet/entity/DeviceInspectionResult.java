@@ -0,0 +1,43 @@
+package com.inet.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검사 이력별 장비 검사 결과 (DeviceInspectionHistory의 자식 행)
+ */
+@Entity
+@Table(name = "device_inspection_result", indexes = {
+    @Index(name = "idx_inspection_result_history", columnList = "history_id"),
+    @Index(name = "idx_inspection_result_device", columnList = "device_id,inspection_status,inspected_at"),
+    @Index(name = "idx_inspection_result_school", columnList = "school_id,device_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceInspectionResult {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "history_id", nullable = false)
+    private Long historyId;
+    
+    @Column(name = "device_id", nullable = false)
+    private Long deviceId;
+    
+    @Column(name = "school_id", nullable = false)
+    private Long schoolId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "inspection_status", nullable = false, length = 20)
+    private DeviceInspectionStatus.InspectionStatus inspectionStatus;
+    
+    @Column(name = "inspected_at", nullable = false)
+    private LocalDateTime inspectedAt; // 검사 이력의 inspection_date (장비별 최근 검사일 조회용)
+}
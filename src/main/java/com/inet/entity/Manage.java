@@ -4,15 +4,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Cacheable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 
 @Entity
-@Table(name = "manage")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manage")
+@Table(name = "manage", indexes = {
+    @Index(name = "idx_manage_school_cate_year_num", columnList = "school_id,manage_cate,year,manage_num")
+})
 @Data
 public class Manage {
     
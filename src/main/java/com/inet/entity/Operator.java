@@ -4,17 +4,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Cacheable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "operator")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "operator")
+@Table(name = "operator", indexes = {
+    @Index(name = "idx_operator_school_name_position", columnList = "school_id,name,position")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -6,6 +6,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
+import jakarta.persistence.Cacheable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -14,6 +17,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "school")
 @Table(name = "school")
 @Getter
 @Setter
@@ -30,11 +35,17 @@ public class School {
     
     private Integer ip;
 
+    // 백그라운드 데이터 삭제 진행 중 여부 (진행 중인 학교는 목록 조회에서 제외)
+    @Column(name = "deleting", nullable = false)
+    private boolean deleting = false;
+
     @OneToMany(mappedBy = "school")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "school.classrooms")
     @JsonIgnore  // 순환 참조 방지
     private List<Classroom> classrooms;
 
     @OneToMany(mappedBy = "school")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "school.operators")
     @JsonIgnore  // 순환 참조 방지
     private List<Operator> operators;
 
@@ -51,6 +62,10 @@ public class School {
         return this.ip;
     }
 
+    public boolean isDeleting() {
+        return this.deleting;
+    }
+
     public List<Classroom> getClassrooms() {
         return this.classrooms;
     }
@@ -70,4 +85,8 @@ public class School {
     public void setIp(Integer ip) {
         this.ip = ip;
     }
+    
+    public void setDeleting(boolean deleting) {
+        this.deleting = deleting;
+    }
 } 
\ No newline at end of file
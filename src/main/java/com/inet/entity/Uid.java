@@ -5,16 +5,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Cacheable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "uid")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "uid")
+@Table(name = "uid", indexes = {
+    @Index(name = "idx_uid_school_cate_year_number", columnList = "school_id,cate,mfg_year,id_number")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
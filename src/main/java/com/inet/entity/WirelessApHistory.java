@@ -7,11 +7,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 @Entity
-@Table(name = "wireless_ap_history")
+@Table(name = "wireless_ap_history", indexes = {
+    @Index(name = "idx_ap_modified_at", columnList = "ap_id,modified_at")
+})
 public class WirelessApHistory {
     
     @Id
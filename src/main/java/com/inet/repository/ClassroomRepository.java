@@ -2,10 +2,12 @@ package com.inet.repository;
 
 import com.inet.entity.Classroom;
 import com.inet.entity.School;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,4 +33,82 @@ public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
     
     @Query("SELECT c FROM Classroom c WHERE c.school.schoolId = :schoolId ORDER BY c.roomName ASC")
     List<Classroom> findBySchoolSchoolIdOrderByRoomNameAsc(Long schoolId);
-} 
\ No newline at end of file
+    
+    // 교실 순서 (순위 순, 순위가 없는 교실은 뒤에 교실명 순)
+    @Query("SELECT c FROM Classroom c WHERE c.school.schoolId = :schoolId " +
+           "ORDER BY CASE WHEN c.sortRank IS NULL THEN 1 ELSE 0 END, c.sortRank, c.roomName, c.classroomId")
+    List<Classroom> findBySchoolSchoolIdOrderBySortRank(Long schoolId);
+    
+    // 순서 변경용 (ID, 순위만 조회, 정렬은 위와 동일)
+    interface RankRow {
+        Long getClassroomId();
+        Long getSortRank();
+    }
+    
+    @Query("SELECT c.classroomId AS classroomId, c.sortRank AS sortRank FROM Classroom c WHERE c.school.schoolId = :schoolId " +
+           "ORDER BY CASE WHEN c.sortRank IS NULL THEN 1 ELSE 0 END, c.sortRank, c.roomName, c.classroomId")
+    List<RankRow> findRankRowsBySchoolSchoolId(Long schoolId);
+    
+    // 순위가 없는 교실 (이전 순서 번호 > 교실명 순)
+    @Query("SELECT c.classroomId AS classroomId, c.sortRank AS sortRank FROM Classroom c " +
+           "WHERE c.school.schoolId = :schoolId AND c.sortRank IS NULL " +
+           "ORDER BY CASE WHEN c.displayOrder IS NULL THEN 1 ELSE 0 END, c.displayOrder, c.roomName, c.classroomId")
+    List<RankRow> findUnrankedRowsBySchoolSchoolId(Long schoolId);
+    
+    @Query("SELECT DISTINCT c.school.schoolId FROM Classroom c WHERE c.sortRank IS NULL AND c.school IS NOT NULL")
+    List<Long> findSchoolIdsWithUnrankedClassrooms();
+    
+    // 학교 마지막 순위 (잠금 조회라 트랜잭션 스냅샷이 아닌 최신 커밋 값)
+    @Query(value = "SELECT sort_rank FROM classroom WHERE school_id = :schoolId AND sort_rank IS NOT NULL " +
+                   "ORDER BY sort_rank DESC LIMIT 1 FOR UPDATE", nativeQuery = true)
+    Optional<Long> findMaxSortRankForUpdate(Long schoolId);
+    
+    @Modifying
+    @Query("UPDATE Classroom c SET c.sortRank = :sortRank WHERE c.classroomId = :classroomId")
+    int updateSortRank(Long classroomId, Long sortRank);
+    
+    // 정규화 교실명이 같은 교실이 2개 이상인 키 목록 (중복 교실 검사)
+    @Query("SELECT c.normalizedName FROM Classroom c WHERE c.school.schoolId = :schoolId " +
+           "GROUP BY c.normalizedName HAVING COUNT(c) > 1")
+    List<String> findDuplicateNormalizedNames(Long schoolId);
+    
+    @Query("SELECT c FROM Classroom c WHERE c.school.schoolId = :schoolId AND c.normalizedName IN :normalizedNames " +
+           "ORDER BY c.normalizedName, c.roomName, c.classroomId")
+    List<Classroom> findBySchoolSchoolIdAndNormalizedNameIn(Long schoolId, Collection<String> normalizedNames);
+    
+    // 유사 교실명 검사용 (ID, 교실명, 정규화 교실명만 조회)
+    interface NameRow {
+        Long getClassroomId();
+        String getRoomName();
+        String getNormalizedName();
+    }
+    
+    @Query("SELECT c.classroomId AS classroomId, c.roomName AS roomName, c.normalizedName AS normalizedName " +
+           "FROM Classroom c WHERE c.school.schoolId = :schoolId ORDER BY c.normalizedName, c.classroomId")
+    List<NameRow> findNameRowsBySchoolSchoolId(Long schoolId);
+    
+    // 교실 ID + 교실명 (정규화 교실명 채우기용)
+    interface RoomNameRow {
+        Long getClassroomId();
+        String getRoomName();
+    }
+    
+    // 정규화 교실명이 비어 있는 교실 (기존 데이터 채우기용, 교실 ID 순으로 afterId 다음부터)
+    @Query("SELECT c.classroomId AS classroomId, c.roomName AS roomName FROM Classroom c " +
+           "WHERE c.normalizedName IS NULL AND c.classroomId > :afterId ORDER BY c.classroomId")
+    List<RoomNameRow> findRoomNamesWithoutNormalizedName(Long afterId, Pageable pageable);
+    
+    // normalized_name만 기록 (조회 후 이름이 바뀐 교실은 저장 시 이미 채워지므로 건너뜀)
+    @Modifying
+    @Query("UPDATE Classroom c SET c.normalizedName = :normalizedName " +
+           "WHERE c.classroomId = :classroomId AND c.roomName = :roomName AND c.normalizedName IS NULL")
+    int updateNormalizedName(Long classroomId, String roomName, String normalizedName);
+    
+    // 교실 병합: 같은 학교에 속한 원본 교실 ID만 조회
+    @Query("SELECT c.classroomId FROM Classroom c WHERE c.school.schoolId = :schoolId AND c.classroomId IN :classroomIds")
+    List<Long> findClassroomIdsBySchoolSchoolIdAndClassroomIdIn(Long schoolId, Collection<Long> classroomIds);
+    
+    @Modifying
+    @Query("DELETE FROM Classroom c WHERE c.classroomId IN :classroomIds")
+    int deleteByClassroomIdIn(Collection<Long> classroomIds);
+}
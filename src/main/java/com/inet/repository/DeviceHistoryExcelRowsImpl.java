@@ -0,0 +1,50 @@
+package com.inet.repository;
+
+import java.util.stream.Stream;
+
+class DeviceHistoryExcelRowsImpl implements DeviceHistoryExcelRows {
+
+    private static final String SELECT_ROW =
+        "SELECT dh.modifiedAt AS modifiedAt, d.type AS deviceType, d.manufacturer AS manufacturer, " +
+        "d.modelName AS modelName, d.ipAddress AS ipAddress, dh.fieldName AS fieldName, " +
+        "dh.beforeValue AS beforeValue, dh.afterValue AS afterValue, m.name AS modifiedByName ";
+
+    private static final String BY_SCHOOL = SELECT_ROW +
+        "FROM DeviceHistory dh JOIN dh.device d LEFT JOIN dh.modifiedBy m " +
+        "WHERE d.school.schoolId = :schoolId " +
+        "ORDER BY dh.modifiedAt DESC";
+
+    private static final String BY_SEARCH_CONDITIONS = SELECT_ROW +
+        "FROM DeviceHistory dh JOIN dh.device d JOIN d.uid u LEFT JOIN dh.modifiedBy m " +
+        "WHERE d.school.schoolId = :schoolId " +
+        "AND (:searchType IS NULL OR d.type = :searchType) " +
+        "AND (:searchKeyword IS NULL OR d.modelName LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR d.manufacturer LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR d.ipAddress LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR u.displayUid LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR u.cate LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR u.mfgYear LIKE CONCAT('%', :searchKeyword, '%') " +
+        "OR CAST(u.idNumber AS string) LIKE CONCAT('%', :searchKeyword, '%')) " +
+        "ORDER BY dh.modifiedAt DESC";
+
+    private final ExcelRowStreams excelRowStreams;
+
+    DeviceHistoryExcelRowsImpl(ExcelRowStreams excelRowStreams) {
+        this.excelRowStreams = excelRowStreams;
+    }
+
+    @Override
+    public Stream<DeviceHistoryRepository.ExcelRow> streamExcelRowsBySchoolId(Long schoolId) {
+        return excelRowStreams.stream(BY_SCHOOL, DeviceHistoryRepository.ExcelRow.class,
+            query -> query.setParameter("schoolId", schoolId));
+    }
+
+    @Override
+    public Stream<DeviceHistoryRepository.ExcelRow> streamExcelRowsBySchoolIdAndSearchConditions(
+            Long schoolId, String searchType, String searchKeyword) {
+        return excelRowStreams.stream(BY_SEARCH_CONDITIONS, DeviceHistoryRepository.ExcelRow.class, query -> query
+            .setParameter("schoolId", schoolId)
+            .setParameter("searchType", searchType)
+            .setParameter("searchKeyword", searchKeyword));
+    }
+}
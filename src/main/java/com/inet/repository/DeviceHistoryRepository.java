@@ -6,14 +6,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DeviceHistoryRepository extends JpaRepository<DeviceHistory, Long> {
+public interface DeviceHistoryRepository extends DeviceHistoryExcelRows, JpaRepository<DeviceHistory, Long> {
     
     // 장비별 수정내역 조회
     List<DeviceHistory> findByDeviceOrderByModifiedAtDesc(com.inet.entity.Device device);
@@ -49,6 +55,19 @@ public interface DeviceHistoryRepository extends JpaRepository<DeviceHistory, Lo
         Pageable pageable
     );
     
+    // 엑셀 내보내기용 행 (엔티티 대신 필요한 컬럼만 조회)
+    interface ExcelRow {
+        LocalDateTime getModifiedAt();
+        String getDeviceType();
+        String getManufacturer();
+        String getModelName();
+        String getIpAddress();
+        String getFieldName();
+        String getBeforeValue();
+        String getAfterValue();
+        String getModifiedByName();
+    }
+    
     // 모든 장비 유형 조회
     @Query("SELECT DISTINCT dh.device.type FROM DeviceHistory dh WHERE dh.device.type IS NOT NULL ORDER BY dh.device.type")
     List<String> findAllDeviceTypes();
@@ -102,4 +121,17 @@ public interface DeviceHistoryRepository extends JpaRepository<DeviceHistory, Lo
         @Param("searchKeyword") String searchKeyword,
         Pageable pageable
     );
+    
+    // 교실 병합: 원본 교실에 있는 장비들의 교실 변경 내역을 한 번에 기록 (장비 이동 전에 호출)
+    // (영향받는 테이블을 지정하지 않으면 실행 시 2차 캐시 전체가 비워짐)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "device_history"))
+    @Query(value = "INSERT INTO device_history (device_id, field_name, before_value, after_value, modified_at, modified_by) " +
+                   "SELECT d.device_id, 'classroom', c.room_name, :afterValue, :modifiedAt, :modifiedBy " +
+                   "FROM device d JOIN classroom c ON c.classroom_id = d.classroom_id " +
+                   "WHERE d.classroom_id IN (:sourceIds) AND (c.room_name IS NULL OR c.room_name <> :afterValue)", nativeQuery = true)
+    int insertClassroomChangeHistory(@Param("sourceIds") Collection<Long> sourceIds,
+                                     @Param("afterValue") String afterValue,
+                                     @Param("modifiedAt") LocalDateTime modifiedAt,
+                                     @Param("modifiedBy") Long modifiedBy);
 }
@@ -31,6 +31,11 @@ public interface DeviceInspectionHistoryRepository extends JpaRepository<DeviceI
     @Query("SELECT d FROM DeviceInspectionHistory d WHERE d.schoolId = :schoolId ORDER BY d.inspectionDate DESC")
     List<DeviceInspectionHistory> findRecentInspectionsBySchool(@Param("schoolId") Long schoolId, Pageable pageable);
     
+    // 장비별 결과 행이 없는 기존 JSON 검사 이력 조회 (ID 순, 이관용)
+    @Query("SELECT d FROM DeviceInspectionHistory d WHERE d.id > :afterId AND d.inspectionDetails IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM DeviceInspectionResult r WHERE r.historyId = d.id) ORDER BY d.id")
+    List<DeviceInspectionHistory> findLegacyDetailsWithoutResults(@Param("afterId") Long afterId, Pageable pageable);
+    
     // 학교별 모든 검사 이력 삭제
     @Modifying
     @Transactional
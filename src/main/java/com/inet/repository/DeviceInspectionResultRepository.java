@@ -0,0 +1,39 @@
+package com.inet.repository;
+
+import com.inet.entity.DeviceInspectionResult;
+import com.inet.entity.DeviceInspectionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeviceInspectionResultRepository extends JpaRepository<DeviceInspectionResult, Long> {
+    
+    // 검사 이력별 장비 검사 결과 조회
+    List<DeviceInspectionResult> findByHistoryId(Long historyId);
+    
+    // 장비의 특정 상태 최근 검사일 조회 (예: 마지막 확인일)
+    @Query("SELECT MAX(r.inspectedAt) FROM DeviceInspectionResult r " +
+           "WHERE r.deviceId = :deviceId AND r.inspectionStatus = :status")
+    Optional<LocalDateTime> findLastInspectedAt(@Param("deviceId") Long deviceId,
+                                                @Param("status") DeviceInspectionStatus.InspectionStatus status);
+    
+    // 검사 이력별 검사 결과 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DeviceInspectionResult r WHERE r.historyId = :historyId")
+    int deleteByHistoryId(@Param("historyId") Long historyId);
+    
+    // 학교별 모든 검사 결과 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DeviceInspectionResult r WHERE r.schoolId = :schoolId")
+    int deleteBySchoolId(@Param("schoolId") Long schoolId);
+}
@@ -29,6 +29,33 @@ public interface DeviceInspectionStatusRepository extends JpaRepository<DeviceIn
         Long deviceId, Long schoolId, Long inspectorId
     );
     
+    // 교실별 검사 진행 현황 집계 행
+    interface ClassroomProgressRow {
+        Long getClassroomId();
+        String getRoomName();
+        Long getTotalCount();
+        Long getConfirmedCount();
+        Long getModifiedCount();
+    }
+    
+    // 학교 장비 기준 교실별 검사 진행 현황 집계 (검사 상태가 없는 장비는 미확인으로 집계)
+    @Query("SELECT c.classroomId AS classroomId, c.roomName AS roomName, " +
+           "COUNT(d) AS totalCount, " +
+           "SUM(CASE WHEN dis.inspectionStatus = :confirmed THEN 1 ELSE 0 END) AS confirmedCount, " +
+           "SUM(CASE WHEN dis.inspectionStatus = :modified THEN 1 ELSE 0 END) AS modifiedCount " +
+           "FROM Device d " +
+           "LEFT JOIN d.classroom c " +
+           "LEFT JOIN DeviceInspectionStatus dis ON dis.deviceId = d.deviceId " +
+           "AND dis.schoolId = :schoolId AND dis.inspectorId = :inspectorId " +
+           "WHERE d.school.schoolId = :schoolId " +
+           "GROUP BY c.classroomId, c.roomName")
+    List<ClassroomProgressRow> aggregateProgressByClassroom(
+        @Param("schoolId") Long schoolId,
+        @Param("inspectorId") Long inspectorId,
+        @Param("confirmed") DeviceInspectionStatus.InspectionStatus confirmed,
+        @Param("modified") DeviceInspectionStatus.InspectionStatus modified
+    );
+    
     // 학교별 모든 검사 상태 삭제
     @Modifying
     @Transactional
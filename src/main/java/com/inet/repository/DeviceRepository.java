@@ -11,6 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -37,12 +40,23 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
     List<Device> findByClassroom(Classroom classroom);
 
     // type 목록 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT d.type FROM Device d")
     List<String> findDistinctTypes();
 
     List<Device> findBySchoolSchoolId(Long schoolId);
     List<Device> findByType(String type);
     List<Device> findBySchoolSchoolIdAndType(Long schoolId, String type);
+    
+    // 장비 목록/관리대장 정렬: 교실 순위 > 교실명 > 세트타입(있는 것 먼저) > 담당자 순 (교실 없는 장비는 뒤로)
+    @Query("SELECT d FROM Device d LEFT JOIN FETCH d.classroom c LEFT JOIN FETCH d.operator o " +
+           "WHERE d.school.schoolId = :schoolId AND (:type IS NULL OR d.type = :type) " +
+           "ORDER BY CASE WHEN c.classroomId IS NULL THEN 1 ELSE 0 END, " +
+           "CASE WHEN c.sortRank IS NULL THEN 1 ELSE 0 END, c.sortRank, c.roomName, " +
+           "CASE WHEN d.setType IS NULL OR TRIM(d.setType) = '' THEN 1 ELSE 0 END, d.setType, " +
+           "COALESCE(o.name, '미지정 담당자'), d.deviceId")
+    List<Device> findBySchoolIdInClassroomOrder(@org.springframework.data.repository.query.Param("schoolId") Long schoolId,
+                                                @org.springframework.data.repository.query.Param("type") String type);
 
     List<Device> findByClassroomRoomName(String roomName);
     List<Device> findByClassroomRoomNameAndType(String roomName, String type);
@@ -100,6 +114,73 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
     Optional<Device> findByIpAddressExcludingDevice(@org.springframework.data.repository.query.Param("ipAddress") String ipAddress, 
                                                       @org.springframework.data.repository.query.Param("deviceId") Long deviceId);
     
+    // 학교 고유번호에 연결된 장비를 연관 엔티티와 함께 한 번에 조회 (QR 코드 엑셀 생성용)
+    @Query("SELECT d FROM Device d JOIN FETCH d.uid u " +
+           "LEFT JOIN FETCH d.manage LEFT JOIN FETCH d.classroom LEFT JOIN FETCH d.operator LEFT JOIN FETCH d.school " +
+           "WHERE u.school.schoolId = :schoolId")
+    List<Device> findWithAssociationsByUidSchoolId(@org.springframework.data.repository.query.Param("schoolId") Long schoolId);
+    
+    // 학교에 속한 장비 ID만 추려내기 (일괄 처리 요청 검증용)
+    @Query("SELECT d.deviceId FROM Device d WHERE d.school.schoolId = :schoolId AND d.deviceId IN :deviceIds")
+    List<Long> findDeviceIdsBySchoolIdAndDeviceIdIn(@org.springframework.data.repository.query.Param("schoolId") Long schoolId,
+                                                    @org.springframework.data.repository.query.Param("deviceIds") java.util.Collection<Long> deviceIds);
+    
     // IP 주소로 장비 조회 (등록 시)
     Optional<Device> findByIpAddress(String ipAddress);
-} 
\ No newline at end of file
+    
+    // 정수 IP로 장비 조회 (ip_numeric 인덱스 조회, 중복 검사용)
+    Optional<Device> findFirstByIpNumeric(Long ipNumeric);
+    
+    // 정수 IP로 장비 조회 (자기 자신 제외)
+    Optional<Device> findFirstByIpNumericAndDeviceIdNot(Long ipNumeric, Long deviceId);
+    
+    // 학교의 IP 구간 내 장비 조회 (IP 순, 대역별 IP 목록용)
+    @Query("SELECT d FROM Device d LEFT JOIN FETCH d.manage LEFT JOIN FETCH d.classroom " +
+           "WHERE d.school.schoolId = :schoolId AND d.ipNumeric BETWEEN :fromIp AND :toIp ORDER BY d.ipNumeric, d.deviceId")
+    List<Device> findBySchoolIdAndIpNumericRange(@org.springframework.data.repository.query.Param("schoolId") Long schoolId,
+                                                 @org.springframework.data.repository.query.Param("fromIp") Long fromIp,
+                                                 @org.springframework.data.repository.query.Param("toIp") Long toIp);
+    
+    // 학교의 IP 구간 내 정수 IP 목록 (IP 순)
+    @Query("SELECT d.ipNumeric FROM Device d WHERE d.school.schoolId = :schoolId AND d.ipNumeric BETWEEN :fromIp AND :toIp ORDER BY d.ipNumeric")
+    List<Long> findIpNumericsBySchoolIdAndRange(@org.springframework.data.repository.query.Param("schoolId") Long schoolId,
+                                                @org.springframework.data.repository.query.Param("fromIp") Long fromIp,
+                                                @org.springframework.data.repository.query.Param("toIp") Long toIp);
+    
+    // 장비 ID + 정수 IP (IP 사용 현황 구성용)
+    interface IpSlotRow {
+        Long getDeviceId();
+        Long getIpNumeric();
+    }
+    
+    // 학교의 정수 IP가 있는 장비 목록 (장비 ID 순)
+    @Query("SELECT d.deviceId AS deviceId, d.ipNumeric AS ipNumeric FROM Device d " +
+           "WHERE d.school.schoolId = :schoolId AND d.ipNumeric IS NOT NULL ORDER BY d.deviceId")
+    List<IpSlotRow> findIpSlotsBySchoolId(@org.springframework.data.repository.query.Param("schoolId") Long schoolId);
+    
+    // 장비 ID + IP 문자열 (ip_numeric 채우기용)
+    interface IpAddressRow {
+        Long getDeviceId();
+        String getIpAddress();
+    }
+    
+    // ip_numeric이 비어 있는 장비 (기존 데이터 채우기용, 장비 ID 순으로 afterId 다음부터)
+    @Query("SELECT d.deviceId AS deviceId, d.ipAddress AS ipAddress FROM Device d " +
+           "WHERE d.ipNumeric IS NULL AND d.ipAddress IS NOT NULL AND d.deviceId > :afterId ORDER BY d.deviceId")
+    List<IpAddressRow> findIpAddressesWithoutIpNumeric(@org.springframework.data.repository.query.Param("afterId") Long afterId,
+                                                       Pageable pageable);
+    
+    // ip_numeric만 기록 (조회 후 IP가 바뀐 장비는 저장 시 이미 채워지므로 건너뜀)
+    @Modifying
+    @Query("UPDATE Device d SET d.ipNumeric = :ipNumeric " +
+           "WHERE d.deviceId = :deviceId AND d.ipAddress = :ipAddress AND d.ipNumeric IS NULL")
+    int updateIpNumeric(@org.springframework.data.repository.query.Param("deviceId") Long deviceId,
+                        @org.springframework.data.repository.query.Param("ipAddress") String ipAddress,
+                        @org.springframework.data.repository.query.Param("ipNumeric") Long ipNumeric);
+    
+    // 교실 병합: 원본 교실들의 장비를 대상 교실로 일괄 이동
+    @Modifying
+    @Query("UPDATE Device d SET d.classroom = :target WHERE d.classroom.classroomId IN :sourceIds")
+    int moveToClassroom(@org.springframework.data.repository.query.Param("target") com.inet.entity.Classroom target,
+                        @org.springframework.data.repository.query.Param("sourceIds") java.util.Collection<Long> sourceIds);
+}
@@ -0,0 +1,52 @@
+package com.inet.repository;
+
+import com.inet.config.StreamingFetchSize;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 엑셀 내보내기용 행 스트리밍 조회 (수정내역 리포지토리 공통)
+ * - fetch size는 DB에 따라 정해지므로 @QueryHints 대신 실행 시 지정 (StreamingFetchSize)
+ * - 결과는 JPQL 별칭 이름의 인터페이스 프로젝션으로 변환 (Spring Data @Query 프로젝션과 동일)
+ */
+@Component
+class ExcelRowStreams {
+
+    private final StreamingFetchSize streamingFetchSize;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ExcelRowStreams(StreamingFetchSize streamingFetchSize) {
+        this.streamingFetchSize = streamingFetchSize;
+    }
+
+    <T> Stream<T> stream(String jpql, Class<T> rowType, Consumer<TypedQuery<Tuple>> parameters) {
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize.value())
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+        parameters.accept(query);
+        return query.getResultStream().map(tuple -> projectionFactory.createProjection(rowType, toMap(tuple)));
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return values;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -88,4 +89,11 @@ public interface FloorPlanElementRepository extends JpaRepository<FloorPlanEleme
     @Transactional
     @Query("DELETE FROM FloorPlanElement fpe WHERE fpe.floorPlanId IN :floorPlanIds")
     int deleteByFloorPlanIds(@Param("floorPlanIds") List<Long> floorPlanIds);
-} 
\ No newline at end of file
+    
+    /**
+     * 참조 ID 일괄 변경 (교실 병합 시 원본 교실 요소를 대상 교실로 연결)
+     */
+    @Modifying
+    @Query("UPDATE FloorPlanElement fpe SET fpe.referenceId = :targetId WHERE fpe.elementType = :elementType AND fpe.referenceId IN :sourceIds")
+    int updateReferenceIds(@Param("elementType") String elementType, @Param("targetId") Long targetId, @Param("sourceIds") Collection<Long> sourceIds);
+}
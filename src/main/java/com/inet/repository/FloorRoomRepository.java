@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,4 +51,11 @@ public interface FloorRoomRepository extends JpaRepository<FloorRoom, Long> {
     @Transactional
     @Query("DELETE FROM FloorRoom fr WHERE fr.school.schoolId = :schoolId OR fr.building.school.schoolId = :schoolId")
     int deleteBySchoolId(@Param("schoolId") Long schoolId);
-} 
\ No newline at end of file
+    
+    /**
+     * 교실 병합: 원본 교실과 연결된 평면도 교실을 대상 교실로 일괄 변경
+     */
+    @Modifying
+    @Query("UPDATE FloorRoom fr SET fr.classroom = :target WHERE fr.classroom.classroomId IN :sourceIds")
+    int moveToClassroom(@Param("target") Classroom target, @Param("sourceIds") Collection<Long> sourceIds);
+}
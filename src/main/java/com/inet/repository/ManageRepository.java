@@ -6,6 +6,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -23,12 +26,15 @@ public interface ManageRepository extends JpaRepository<Manage, Long> {
 
     Optional<Manage> findByManageCateAndYearAndManageNum(String manageCate, Integer year, Long manageNum);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT m.manageCate FROM Manage m WHERE m.school = :school")
     List<String> findDistinctManageCateBySchool(@Param("school") School school);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT m.year FROM Manage m WHERE m.school = :school")
     List<Integer> findDistinctYearBySchool(@Param("school") School school);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT m.year FROM Manage m WHERE m.school = :school AND m.manageCate = :manageCate AND m.year IS NOT NULL")
     List<Integer> findDistinctYearBySchoolAndManageCate(@Param("school") School school, @Param("manageCate") String manageCate);
 
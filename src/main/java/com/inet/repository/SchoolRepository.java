@@ -1,12 +1,37 @@
 package com.inet.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.inet.entity.School;
 
 public interface SchoolRepository extends JpaRepository<School, Long> {
     Optional<School> findBySchoolId(Long schoolId);
+
+    // 삭제 진행 중이 아닌 학교만 조회
+    List<School> findByDeletingFalse();
+
+    List<School> findBySchoolIdInAndDeletingFalse(Collection<Long> schoolIds);
+
+    // 삭제 진행 중이 아닌 학교 조회 (삭제 중인 학교는 없는 학교로 처리, 2차 캐시 사용)
+    default Optional<School> findActiveById(Long schoolId) {
+        return findById(schoolId).filter(school -> !school.isDeleting());
+    }
+
+    // 삭제 진행 중으로 표시된 학교 (재시작 시 이어서 삭제)
+    List<School> findByDeletingTrue();
+
+    @Modifying
+    @Query("UPDATE School s SET s.deleting = :deleting WHERE s.schoolId = :schoolId")
+    int updateDeleting(@Param("schoolId") Long schoolId, @Param("deleting") boolean deleting);
+
+    // 학교 행 잠금 (학교 단위 작업 직렬화, 트랜잭션 종료 시 해제)
+    @Query(value = "SELECT school_id FROM school WHERE school_id = :schoolId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("schoolId") Long schoolId);
 } 
\ No newline at end of file
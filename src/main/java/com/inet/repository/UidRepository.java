@@ -3,6 +3,9 @@ package com.inet.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import com.inet.entity.Uid;
@@ -52,6 +55,7 @@ public interface UidRepository extends JpaRepository<Uid, Long> {
     long countBySchoolSchoolId(Long schoolId);
 
     // 학교와 카테고리로 제조년 목록 조회 (null 포함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT u.mfgYear FROM Uid u WHERE u.school.schoolId = :schoolId AND u.cate = :cate ORDER BY CASE WHEN u.mfgYear IS NULL THEN 1 ELSE 0 END, u.mfgYear")
     List<String> findDistinctMfgYearBySchoolSchoolIdAndCateOrderByMfgYear(Long schoolId, String cate);
 
@@ -59,6 +63,7 @@ public interface UidRepository extends JpaRepository<Uid, Long> {
     List<Uid> findBySchoolSchoolId(Long schoolId);
     
     // 학교별 카테고리 목록 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT u.cate FROM Uid u WHERE u.school.schoolId = :schoolId ORDER BY u.cate")
     List<String> findDistinctCateBySchoolSchoolIdOrderByCate(Long schoolId);
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.inet.repository;
+
+import java.util.stream.Stream;
+
+/**
+ * 무선AP 수정내역 엑셀 내보내기 스트리밍 조회 (WirelessApHistoryRepository 프래그먼트)
+ * - 스트림은 호출자의 읽기 전용 트랜잭션 안에서 닫아야 함
+ */
+public interface WirelessApHistoryExcelRows {
+
+    // 학교별 수정내역 (수정일시 역순)
+    Stream<WirelessApHistoryRepository.ExcelRow> streamExcelRowsBySchoolId(Long schoolId);
+
+    // 검색 조건으로 수정내역 (findBySchoolIdAndKeyword와 동일한 조건)
+    Stream<WirelessApHistoryRepository.ExcelRow> streamExcelRowsBySchoolIdAndKeyword(
+        Long schoolId, String keyword, String mappedFieldKeyword);
+}
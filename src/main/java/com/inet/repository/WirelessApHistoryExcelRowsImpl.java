@@ -0,0 +1,63 @@
+package com.inet.repository;
+
+import java.util.stream.Stream;
+
+class WirelessApHistoryExcelRowsImpl implements WirelessApHistoryExcelRows {
+
+    private static final String SELECT_ROW =
+        "SELECT wah.modifiedAt AS modifiedAt, wa.newLabelNumber AS newLabelNumber, sch.schoolName AS schoolName, " +
+        "loc.roomName AS roomName, wah.fieldName AS fieldName, wah.beforeValue AS beforeValue, " +
+        "wah.afterValue AS afterValue, m.name AS modifiedByName ";
+
+    private static final String BY_SCHOOL = SELECT_ROW +
+        "FROM WirelessApHistory wah JOIN wah.wirelessAp wa JOIN wa.school sch " +
+        "LEFT JOIN wa.location loc LEFT JOIN wah.modifiedBy m " +
+        "WHERE sch.schoolId = :schoolId " +
+        "ORDER BY wah.modifiedAt DESC";
+
+    private static final String BY_KEYWORD = SELECT_ROW +
+        "FROM WirelessApHistory wah " +
+        "LEFT JOIN wah.wirelessAp wa " +
+        "LEFT JOIN wa.location loc " +
+        "LEFT JOIN wa.school sch " +
+        "JOIN wah.modifiedBy m " +
+        "WHERE sch.schoolId = :schoolId " +
+        "AND (" +
+        "     LOWER(wah.fieldName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     (:mappedFieldKeyword IS NOT NULL AND LOWER(wah.fieldName) LIKE LOWER(CONCAT('%', :mappedFieldKeyword, '%'))) OR " +
+        "     LOWER(wah.beforeValue) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wah.afterValue) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.newLabelNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.deviceNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.manufacturer) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.model) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.prevLocation) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.prevLabelNumber) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(wa.speed) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(COALESCE(loc.roomName, '')) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "     LOWER(COALESCE(sch.schoolName, '')) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+        ") " +
+        "ORDER BY wah.modifiedAt DESC";
+
+    private final ExcelRowStreams excelRowStreams;
+
+    WirelessApHistoryExcelRowsImpl(ExcelRowStreams excelRowStreams) {
+        this.excelRowStreams = excelRowStreams;
+    }
+
+    @Override
+    public Stream<WirelessApHistoryRepository.ExcelRow> streamExcelRowsBySchoolId(Long schoolId) {
+        return excelRowStreams.stream(BY_SCHOOL, WirelessApHistoryRepository.ExcelRow.class,
+            query -> query.setParameter("schoolId", schoolId));
+    }
+
+    @Override
+    public Stream<WirelessApHistoryRepository.ExcelRow> streamExcelRowsBySchoolIdAndKeyword(
+            Long schoolId, String keyword, String mappedFieldKeyword) {
+        return excelRowStreams.stream(BY_KEYWORD, WirelessApHistoryRepository.ExcelRow.class, query -> query
+            .setParameter("schoolId", schoolId)
+            .setParameter("keyword", keyword)
+            .setParameter("mappedFieldKeyword", mappedFieldKeyword));
+    }
+}
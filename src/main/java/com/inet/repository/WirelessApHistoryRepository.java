@@ -10,10 +10,11 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface WirelessApHistoryRepository extends JpaRepository<WirelessApHistory, Long> {
+public interface WirelessApHistoryRepository extends WirelessApHistoryExcelRows, JpaRepository<WirelessApHistory, Long> {
     
     // 무선AP별 수정내역 조회
     List<WirelessApHistory> findByWirelessApOrderByModifiedAtDesc(com.inet.entity.WirelessAp wirelessAp);
@@ -58,6 +59,18 @@ public interface WirelessApHistoryRepository extends JpaRepository<WirelessApHis
                                                      @Param("mappedFieldKeyword") String mappedFieldKeyword,
                                                      Pageable pageable);
     
+    // 엑셀 내보내기용 행 (엔티티 대신 필요한 컬럼만 조회)
+    interface ExcelRow {
+        LocalDateTime getModifiedAt();
+        String getNewLabelNumber();
+        String getSchoolName();
+        String getRoomName();
+        String getFieldName();
+        String getBeforeValue();
+        String getAfterValue();
+        String getModifiedByName();
+    }
+    
     // 특정 무선AP의 수정내역 삭제
     @Modifying
     @Transactional
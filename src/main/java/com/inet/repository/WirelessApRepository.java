@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,4 +29,9 @@ public interface WirelessApRepository extends JpaRepository<WirelessAp, Long> {
     @Modifying
     @Query("UPDATE WirelessAp w SET w.location = NULL WHERE w.school.schoolId = :schoolId")
     int updateClassroomToNullBySchoolId(@Param("schoolId") Long schoolId);
-} 
\ No newline at end of file
+    
+    // 교실 병합: 원본 교실들의 무선AP를 대상 교실로 일괄 이동
+    @Modifying
+    @Query("UPDATE WirelessAp w SET w.location = :target WHERE w.location.classroomId IN :sourceIds")
+    int moveToClassroom(@Param("target") Classroom target, @Param("sourceIds") Collection<Long> sourceIds);
+}
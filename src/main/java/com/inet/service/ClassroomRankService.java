@@ -0,0 +1,227 @@
+package com.inet.service;
+
+import com.inet.entity.Classroom;
+import com.inet.repository.ClassroomRepository;
+import com.inet.repository.SchoolRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 교실 정렬 순위 (간격 기반)
+ * - 학교 안에서 RANK_GAP 간격으로 순위를 두고, 이동 시 앞뒤 순위의 중간값을 대상 교실 한 행에만 기록
+ * - 간격이 REBALANCE_THRESHOLD 미만으로 좁아지면 커밋 후 백그라운드에서 학교 전체 순위를 다시 벌림
+ * - 간격이 완전히 소진된 경우에만 요청 트랜잭션 안에서 재배치
+ * - 순위를 읽고 쓰는 작업은 학교 행 잠금(SELECT ... FOR UPDATE)으로 학교별 직렬화 (커밋 시 해제, 인스턴스가 여러 개여도 유효)
+ */
+@Service
+public class ClassroomRankService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassroomRankService.class);
+
+    public static final long RANK_GAP = 1L << 20;
+
+    // 한 자리에 연속 삽입 시 약 14번 이후 백그라운드 재배치
+    private static final long REBALANCE_THRESHOLD = 1L << 6;
+
+    private final ClassroomRepository classroomRepository;
+    private final SchoolRepository schoolRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 재배치 대기 중인 학교 (중복 요청 방지)
+    private final Set<Long> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "classroom-rank");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClassroomRankService(ClassroomRepository classroomRepository, SchoolRepository schoolRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.classroomRepository = classroomRepository;
+        this.schoolRepository = schoolRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 잠금을 얻은 뒤의 조회가 다른 트랜잭션이 커밋한 순위를 보도록
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * 학교 마지막 순서에 붙일 새 교실 순위 (학교 잠금은 호출 트랜잭션 종료까지 유지)
+     */
+    @Transactional
+    public long nextRank(Long schoolId) {
+        lockSchool(schoolId);
+        return classroomRepository.findMaxSortRankForUpdate(schoolId).orElse(0L) + RANK_GAP;
+    }
+
+    /**
+     * 교실을 학교 내 position번째(1부터)로 이동
+     * @return 순위를 기록한 교실 수 (보통 1, 변경 없으면 0)
+     */
+    @Transactional
+    public int moveTo(Classroom classroom, int position) {
+        Long schoolId = classroom.getSchool().getSchoolId();
+        lockSchool(schoolId);
+        List<ClassroomRepository.RankRow> rows = classroomRepository.findRankRowsBySchoolSchoolId(schoolId);
+
+        int written = 0;
+        if (!rows.isEmpty() && rows.get(rows.size() - 1).getSortRank() == null) {
+            written += assignMissingRanks(schoolId);
+            rows = classroomRepository.findRankRowsBySchoolSchoolId(schoolId);
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Long> ranks = new ArrayList<>(rows.size());
+        int currentIndex = -1;
+        for (ClassroomRepository.RankRow row : rows) {
+            if (row.getClassroomId().equals(classroom.getClassroomId())) {
+                currentIndex = ids.size();
+                continue;
+            }
+            ids.add(row.getClassroomId());
+            ranks.add(row.getSortRank());
+        }
+
+        int index = Math.max(0, Math.min(position - 1, ids.size()));
+        if (index == currentIndex) {
+            return written;
+        }
+
+        long prevRank = index > 0 ? ranks.get(index - 1) : 0;
+        long nextRank = index < ranks.size() ? ranks.get(index) : prevRank + RANK_GAP * 2;
+        if (nextRank - prevRank > 1) {
+            long rank = prevRank + (nextRank - prevRank) / 2;
+            classroomRepository.updateSortRank(classroom.getClassroomId(), rank);
+            if (Math.min(rank - prevRank, nextRank - rank) < REBALANCE_THRESHOLD) {
+                requestRebalance(schoolId);
+            }
+            return written + 1;
+        }
+
+        // 간격 소진: 대상 교실을 끼워 넣은 순서대로 즉시 재배치
+        ids.add(index, classroom.getClassroomId());
+        ranks.add(index, null);
+        return written + writeEvenRanks(ids, ranks);
+    }
+
+    /**
+     * 순위가 없는 교실에 학교 마지막 순위 뒤로 순위 부여 (이전 순서 번호 > 교실명 순)
+     */
+    @Transactional
+    public int assignMissingRanks(Long schoolId) {
+        lockSchool(schoolId);
+        List<ClassroomRepository.RankRow> unranked = classroomRepository.findUnrankedRowsBySchoolSchoolId(schoolId);
+        if (unranked.isEmpty()) {
+            return 0;
+        }
+        long rank = classroomRepository.findMaxSortRankForUpdate(schoolId).orElse(0L);
+        for (ClassroomRepository.RankRow row : unranked) {
+            rank += RANK_GAP;
+            classroomRepository.updateSortRank(row.getClassroomId(), rank);
+        }
+        return unranked.size();
+    }
+
+    /**
+     * 학교 교실 순위를 현재 순서 그대로 RANK_GAP 간격으로 다시 부여
+     */
+    @Transactional
+    public int rebalance(Long schoolId) {
+        lockSchool(schoolId);
+        List<ClassroomRepository.RankRow> rows = classroomRepository.findRankRowsBySchoolSchoolId(schoolId);
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Long> ranks = new ArrayList<>(rows.size());
+        for (ClassroomRepository.RankRow row : rows) {
+            ids.add(row.getClassroomId());
+            ranks.add(row.getSortRank());
+        }
+        int written = writeEvenRanks(ids, ranks);
+        log.info("교실 순위 재배치 완료 - schoolId: {}, 갱신 {}건", schoolId, written);
+        return written;
+    }
+
+    /**
+     * 커밋 후 백그라운드 재배치 예약
+     */
+    public void requestRebalance(Long schoolId) {
+        if (!pendingRebalance.add(schoolId)) {
+            return;
+        }
+        Runnable task = () -> executor.submit(() -> {
+            pendingRebalance.remove(schoolId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(schoolId));
+            } catch (Exception e) {
+                log.warn("교실 순위 재배치 실패 - schoolId: {}: {}", schoolId, e.getMessage());
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 순위가 없는 기존 교실 채우기 (이전 display_order 순서 유지)
+     * - 학교별 별도 트랜잭션 (학교 잠금으로 요청 중 순서 변경과 직렬화)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillSortRanks() {
+        int updated = 0;
+        for (Long schoolId : classroomRepository.findSchoolIdsWithUnrankedClassrooms()) {
+            Integer count = transactionTemplate.execute(status -> assignMissingRanks(schoolId));
+            updated += count != null ? count : 0;
+        }
+        if (updated > 0) {
+            log.info("교실 순위 채우기 완료 - {}건", updated);
+        }
+    }
+
+    // 순위 조회 전에 호출 (같은 트랜잭션에서 다시 잠가도 그대로 통과)
+    private void lockSchool(Long schoolId) {
+        schoolRepository.lockById(schoolId);
+    }
+
+    private int writeEvenRanks(List<Long> ids, List<Long> ranks) {
+        int written = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            long rank = (i + 1) * RANK_GAP;
+            Long current = ranks.get(i);
+            if (current == null || current != rank) {
+                classroomRepository.updateSortRank(ids.get(i), rank);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -4,17 +4,34 @@ import com.inet.entity.Classroom;
 import com.inet.entity.School;
 import com.inet.entity.Device;
 import com.inet.entity.WirelessAp;
+import com.inet.entity.User;
 import com.inet.repository.ClassroomRepository;
 import com.inet.repository.SchoolRepository;
 import com.inet.repository.DeviceRepository;
 import com.inet.repository.WirelessApRepository;
+import com.inet.repository.FloorRoomRepository;
+import com.inet.repository.DeviceHistoryRepository;
+import com.inet.util.ClassroomNameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,22 +41,40 @@ public class ClassroomService {
     
     private static final Logger log = LoggerFactory.getLogger(ClassroomService.class);
     
+    // 시작 시 기존 데이터 채우기 한 트랜잭션의 교실 수
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
     private final ClassroomRepository classroomRepository;
     private final SchoolRepository schoolRepository;
     private final DeviceRepository deviceRepository;
     private final WirelessApRepository wirelessApRepository;
+    private final FloorRoomRepository floorRoomRepository;
+    private final DeviceHistoryRepository deviceHistoryRepository;
     private final FloorPlanClassroomSyncService floorPlanClassroomSyncService;
+    private final ClassroomRankService classroomRankService;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public ClassroomService(ClassroomRepository classroomRepository,
                             SchoolRepository schoolRepository,
                             DeviceRepository deviceRepository,
                             WirelessApRepository wirelessApRepository,
-                            FloorPlanClassroomSyncService floorPlanClassroomSyncService) {
+                            FloorRoomRepository floorRoomRepository,
+                            DeviceHistoryRepository deviceHistoryRepository,
+                            FloorPlanClassroomSyncService floorPlanClassroomSyncService,
+                            ClassroomRankService classroomRankService,
+                            PlatformTransactionManager transactionManager) {
         this.classroomRepository = classroomRepository;
         this.schoolRepository = schoolRepository;
         this.deviceRepository = deviceRepository;
         this.wirelessApRepository = wirelessApRepository;
+        this.floorRoomRepository = floorRoomRepository;
+        this.deviceHistoryRepository = deviceHistoryRepository;
         this.floorPlanClassroomSyncService = floorPlanClassroomSyncService;
+        this.classroomRankService = classroomRankService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     public Classroom saveClassroom(Classroom classroom) {
@@ -62,6 +97,11 @@ public class ClassroomService {
                 throw new IllegalArgumentException("이미 동일한 교실명이 해당 학교에 존재합니다.");
             }
             
+            // 새 교실은 학교 마지막 순서로
+            if (classroom.getClassroomId() == null && classroom.getSortRank() == null) {
+                classroom.setSortRank(classroomRankService.nextRank(classroom.getSchool().getSchoolId()));
+            }
+            
             return classroomRepository.save(classroom);
         } catch (Exception e) {
             log.error("교실 저장 중 오류 발생: {}", e.getMessage());
@@ -103,43 +143,20 @@ public class ClassroomService {
         classroomRepository.deleteById(id);
     }
     
+    /**
+     * 학교 교실 목록 (순위 순, 순위가 없는 교실은 뒤에 교실명 순)
+     */
     public List<Classroom> findBySchoolId(Long schoolId) {
-        List<Classroom> classrooms = classroomRepository.findBySchoolSchoolId(schoolId);
-        
-        // 순서가 없는 교실들을 가나다 순으로 초기화
-        initializeDisplayOrderIfNeeded(classrooms);
-        
-        // 순서가 있는 경우 순서대로, 순서가 없는 경우 가나다 순으로 정렬
-        classrooms.sort((c1, c2) -> {
-            Integer order1 = c1.getDisplayOrder();
-            Integer order2 = c2.getDisplayOrder();
-            
-            // 둘 다 순서가 있는 경우
-            if (order1 != null && order2 != null) {
-                return order1.compareTo(order2);
-            }
-            // c1만 순서가 있는 경우
-            if (order1 != null) {
-                return -1;
-            }
-            // c2만 순서가 있는 경우
-            if (order2 != null) {
-                return 1;
-            }
-            // 둘 다 순서가 없는 경우 가나다 순
-            String name1 = c1.getRoomName() != null ? c1.getRoomName() : "";
-            String name2 = c2.getRoomName() != null ? c2.getRoomName() : "";
-            return name1.compareTo(name2);
-        });
-        return classrooms;
+        return classroomRepository.findBySchoolSchoolIdOrderBySortRank(schoolId);
     }
     
     /**
-     * 교실 순서를 업데이트합니다.
+     * 교실 순서를 업데이트합니다. (대상 교실의 순위만 변경)
      * @param classroomId 교실 ID
      * @param newOrder 새로운 순서 (1부터 시작)
      * @param schoolId 학교 ID (같은 학교 내에서만 순서 조정)
      */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void updateClassroomOrder(Long classroomId, Integer newOrder, Long schoolId) {
         log.info("Updating classroom order: classroomId={}, newOrder={}, schoolId={}", classroomId, newOrder, schoolId);
         
@@ -154,89 +171,12 @@ public class ClassroomService {
             throw new IllegalArgumentException("해당 교실은 선택한 학교에 속하지 않습니다.");
         }
         
-        // 같은 학교의 모든 교실 가져오기
-        List<Classroom> allClassrooms = classroomRepository.findBySchoolSchoolId(schoolId);
-        
-        // 순서가 없는 교실들을 가나다 순으로 초기화
-        initializeDisplayOrderIfNeeded(allClassrooms);
-        
-        // 현재 순서 가져오기
-        Integer currentOrder = targetClassroom.getDisplayOrder();
-        
-        if (currentOrder != null && currentOrder.equals(newOrder)) {
-            log.info("순서가 변경되지 않았습니다.");
-            return;
-        }
-        
-        // 순서 재조정
-        if (currentOrder == null || newOrder < currentOrder) {
-            // 순서를 앞으로 이동 (예: 5번을 2번으로)
-            // 2번부터 (currentOrder-1)번까지의 교실들을 1씩 뒤로 밀기
-            for (Classroom classroom : allClassrooms) {
-                if (classroom.getDisplayOrder() != null && 
-                    classroom.getDisplayOrder() >= newOrder && 
-                    classroom.getDisplayOrder() < (currentOrder != null ? currentOrder : Integer.MAX_VALUE) &&
-                    !classroom.getClassroomId().equals(classroomId)) {
-                    classroom.setDisplayOrder(classroom.getDisplayOrder() + 1);
-                    classroomRepository.save(classroom);
-                }
-            }
-        } else {
-            // 순서를 뒤로 이동 (예: 2번을 5번으로)
-            // (currentOrder+1)번부터 newOrder번까지의 교실들을 1씩 앞으로 당기기
-            for (Classroom classroom : allClassrooms) {
-                if (classroom.getDisplayOrder() != null && 
-                    classroom.getDisplayOrder() > currentOrder && 
-                    classroom.getDisplayOrder() <= newOrder &&
-                    !classroom.getClassroomId().equals(classroomId)) {
-                    classroom.setDisplayOrder(classroom.getDisplayOrder() - 1);
-                    classroomRepository.save(classroom);
-                }
-            }
-        }
-        
-        // 대상 교실의 순서 업데이트
-        targetClassroom.setDisplayOrder(newOrder);
-        classroomRepository.save(targetClassroom);
-        
-        log.info("교실 순서 업데이트 완료: classroomId={}, newOrder={}", classroomId, newOrder);
-    }
-    
-    /**
-     * 순서가 없는 교실들에 대해 가나다 순으로 순서를 초기화합니다.
-     * @param classrooms 교실 목록
-     */
-    private void initializeDisplayOrderIfNeeded(List<Classroom> classrooms) {
-        // 순서가 없는 교실들을 가나다 순으로 정렬
-        List<Classroom> unorderedClassrooms = classrooms.stream()
-            .filter(c -> c.getDisplayOrder() == null)
-            .sorted((c1, c2) -> {
-                String name1 = c1.getRoomName() != null ? c1.getRoomName() : "";
-                String name2 = c2.getRoomName() != null ? c2.getRoomName() : "";
-                return name1.compareTo(name2);
-            })
-            .collect(Collectors.toList());
-        
-        if (unorderedClassrooms.isEmpty()) {
-            return;
-        }
-        
-        // 기존 순서의 최대값 찾기
-        int maxOrder = classrooms.stream()
-            .filter(c -> c.getDisplayOrder() != null)
-            .mapToInt(Classroom::getDisplayOrder)
-            .max()
-            .orElse(0);
-        
-        // 순서가 없는 교실들에 순서 부여
-        for (int i = 0; i < unorderedClassrooms.size(); i++) {
-            unorderedClassrooms.get(i).setDisplayOrder(maxOrder + i + 1);
-            classroomRepository.save(unorderedClassrooms.get(i));
-        }
+        int written = classroomRankService.moveTo(targetClassroom, newOrder);
+        log.info("교실 순서 업데이트 완료: classroomId={}, newOrder={}, 갱신 {}건", classroomId, newOrder, written);
     }
     
     public Optional<Classroom> findByRoomNameAndSchool(String roomName, Long schoolId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         // 중복된 교실 이름이 있을 경우 첫 번째를 반환
         return classroomRepository.findFirstByRoomNameAndSchool(roomName, school);
@@ -250,82 +190,119 @@ public class ClassroomService {
     
     /**
      * 학교별 중복 가능성이 있는 교실들을 그룹화하여 반환
+     * - 저장된 정규화 교실명(normalized_name) 기준 GROUP BY 조회
      */
+    @Transactional(readOnly = true)
     public Map<String, List<Classroom>> findDuplicateClassrooms(Long schoolId) {
         log.info("Finding duplicate classrooms for school: {}", schoolId);
-        List<Classroom> classrooms = findBySchoolId(schoolId);
+        List<String> duplicateKeys = classroomRepository.findDuplicateNormalizedNames(schoolId);
+        if (duplicateKeys.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
         
-        return classrooms.stream()
-            .collect(Collectors.groupingBy(
-                classroom -> normalizeRoomName(classroom.getRoomName())
-            ))
-            .entrySet().stream()
-            .filter(entry -> entry.getValue().size() > 1)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue
-            ));
+        return classroomRepository.findBySchoolSchoolIdAndNormalizedNameIn(schoolId, duplicateKeys).stream()
+            .collect(Collectors.groupingBy(Classroom::getNormalizedName, LinkedHashMap::new, Collectors.toList()));
     }
     
     /**
-     * 교실명 정규화 (공백, 특수문자 제거하여 비교)
+     * 애플리케이션 시작 시 normalized_name이 비어 있는 교실 채우기
+     * (정규화 규칙이 Java 코드에 있으므로 마이그레이션 대신 여기서 처리)
+     * - 교실 ID 순으로 BACKFILL_BATCH_SIZE건씩 별도 트랜잭션, normalized_name 컬럼만 갱신
      */
-    private String normalizeRoomName(String roomName) {
-        if (roomName == null) return "";
-        return roomName.toLowerCase()
-            .replaceAll("\\s+", "")  // 공백 제거
-            .replaceAll("[학년반]", "")  // "학년", "반" 제거
-            .replaceAll("[-_()\\[\\]]", "")  // 특수문자 제거
-            .trim();
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillNormalizedNames() {
+        long lastClassroomId = 0;
+        int updated = 0;
+        while (true) {
+            long afterId = lastClassroomId;
+            NormalizedNameBatch batch = transactionTemplate.execute(status -> backfillNormalizedNameBatch(afterId));
+            if (batch == null) {
+                break;
+            }
+            lastClassroomId = batch.lastClassroomId();
+            updated += batch.updated();
+        }
+        if (updated > 0) {
+            log.info("교실 정규화 이름 채우기 완료 - {}건", updated);
+        }
+    }
+    
+    private record NormalizedNameBatch(long lastClassroomId, int updated) {
+    }
+    
+    // afterId 다음 교실들의 normalized_name 기록 (없으면 null)
+    private NormalizedNameBatch backfillNormalizedNameBatch(long afterId) {
+        List<ClassroomRepository.RoomNameRow> rows = classroomRepository
+            .findRoomNamesWithoutNormalizedName(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        int updated = 0;
+        for (ClassroomRepository.RoomNameRow row : rows) {
+            if (row.getRoomName() != null) {
+                updated += classroomRepository.updateNormalizedName(row.getClassroomId(), row.getRoomName(),
+                    ClassroomNameUtils.normalize(row.getRoomName()));
+            }
+        }
+        entityManager.clear();
+        return new NormalizedNameBatch(rows.get(rows.size() - 1).getClassroomId(), updated);
     }
     
     /**
      * 교실 병합 - sourceIds의 교실들을 targetId 교실로 병합
+     * 장비/무선AP/평면도 참조를 일괄 UPDATE로 옮기고 원본 교실을 한 번에 삭제 (한 트랜잭션)
      */
     @Transactional
-    public void mergeClassrooms(Long targetId, List<Long> sourceIds, String newRoomName) {
+    public void mergeClassrooms(Long targetId, List<Long> sourceIds, String newRoomName, User modifiedBy) {
         log.info("Merging classrooms. Target: {}, Sources: {}, New name: {}", targetId, sourceIds, newRoomName);
         
         // 대상 교실 조회
         Classroom targetClassroom = classroomRepository.findById(targetId)
             .orElseThrow(() -> new RuntimeException("Target classroom not found with id: " + targetId));
         
+        // 원본 교실 확인 (자기 자신 제외, 대상 교실과 같은 학교만 허용)
+        Set<Long> requestedIds = new LinkedHashSet<>(sourceIds);
+        requestedIds.remove(targetId);
+        List<Long> mergeIds = requestedIds.isEmpty() ? List.of()
+            : classroomRepository.findClassroomIdsBySchoolSchoolIdAndClassroomIdIn(
+                targetClassroom.getSchool().getSchoolId(), requestedIds);
+        if (mergeIds.size() != requestedIds.size()) {
+            requestedIds.removeAll(mergeIds);
+            throw new RuntimeException("Source classroom not found with id: " + requestedIds);
+        }
+        
         // 교실명 업데이트
         if (newRoomName != null && !newRoomName.trim().isEmpty()) {
             targetClassroom.setRoomName(newRoomName.trim());
-            targetClassroom = classroomRepository.save(targetClassroom);
-            floorPlanClassroomSyncService.updateClassroomElements(targetClassroom.getClassroomId(), targetClassroom.getRoomName());
-        } else {
-            floorPlanClassroomSyncService.updateClassroomElements(targetClassroom.getClassroomId(), targetClassroom.getRoomName());
+            targetClassroom = classroomRepository.saveAndFlush(targetClassroom);
         }
         
-        // 각 소스 교실의 장비들을 대상 교실로 이동
-        for (Long sourceId : sourceIds) {
-            if (sourceId.equals(targetId)) continue; // 자기 자신은 제외
-            
-            Classroom sourceClassroom = classroomRepository.findById(sourceId)
-                .orElseThrow(() -> new RuntimeException("Source classroom not found with id: " + sourceId));
-            
-            // 장비 이동
-            List<Device> devices = deviceRepository.findByClassroom(sourceClassroom);
-            for (Device device : devices) {
-                device.setClassroom(targetClassroom);
-                deviceRepository.save(device);
-            }
+        // 순위가 없는 대상 교실은 학교 마지막 순서로
+        if (targetClassroom.getSortRank() == null) {
+            classroomRankService.assignMissingRanks(targetClassroom.getSchool().getSchoolId());
+        }
+        
+        if (!mergeIds.isEmpty()) {
+            // 장비 교실 변경 내역 (이동 전 교실명 기준으로 한 번에 기록)
+            int historyCount = deviceHistoryRepository.insertClassroomChangeHistory(mergeIds,
+                targetClassroom.getRoomName(), LocalDateTime.now(), modifiedBy != null ? modifiedBy.getId() : null);
             
-            // 무선AP 이동
-            List<WirelessAp> wirelessAps = wirelessApRepository.findByLocation(sourceClassroom);
-            for (WirelessAp ap : wirelessAps) {
-                ap.setLocation(targetClassroom);
-                wirelessApRepository.save(ap);
-            }
+            // 장비/무선AP/평면도 교실/평면도 요소 일괄 이동
+            int deviceCount = deviceRepository.moveToClassroom(targetClassroom, mergeIds);
+            int apCount = wirelessApRepository.moveToClassroom(targetClassroom, mergeIds);
+            int floorRoomCount = floorRoomRepository.moveToClassroom(targetClassroom, mergeIds);
+            int elementCount = floorPlanClassroomSyncService.moveClassroomElements(targetId, mergeIds);
             
-            // 소스 교실 삭제
-            floorPlanClassroomSyncService.removeClassroomElements(sourceId);
-            classroomRepository.deleteById(sourceId);
-            log.info("Merged and deleted classroom: {}", sourceId);
+            // 원본 교실 삭제
+            classroomRepository.deleteByClassroomIdIn(mergeIds);
+            log.info("Merged and deleted classrooms: {} (devices: {}, APs: {}, floor rooms: {}, elements: {}, history: {})",
+                mergeIds, deviceCount, apCount, floorRoomCount, elementCount, historyCount);
         }
         
+        // 옮겨온 요소를 포함해 평면도 교실명 갱신
+        floorPlanClassroomSyncService.updateClassroomElements(targetClassroom.getClassroomId(), targetClassroom.getRoomName());
+        
         log.info("Classroom merge completed successfully");
     }
     
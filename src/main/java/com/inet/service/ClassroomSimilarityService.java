@@ -0,0 +1,220 @@
+package com.inet.service;
+
+import com.inet.repository.ClassroomRepository;
+import com.inet.util.ClassroomNameUtils;
+import jakarta.annotation.PreDestroy;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 교실명 검사 (선택 기능, 백그라운드 처리)
+ * - 정규화 교실명 사이의 편집 거리가 maxDistance 이하인 교실들을 한 그룹으로 묶음
+ * - 숫자 부분이 다르면 다른 교실로 보고 비교하지 않음 (예: 1학년 1반 / 1학년 2반)
+ * - 정규화 교실명이 완전히 같은 그룹은 기본 중복 검사에서 이미 표시하므로 키가 2개 이상인 그룹만 반환
+ */
+@Service
+public class ClassroomSimilarityService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassroomSimilarityService.class);
+
+    public static final int MAX_DISTANCE_LIMIT = 2;
+
+    // 검사 결과 유지 시간
+    private static final long RESULT_CACHE_MINUTES = 30;
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    /**
+     * 유사 교실 그룹
+     */
+    public record SimilarGroup(List<String> normalizedNames, List<Long> classroomIds, List<String> roomNames) {}
+
+    /**
+     * 학교별 검사 상태 및 결과
+     */
+    public record SimilarityScan(
+        Long schoolId,
+        Status status,
+        int maxDistance,
+        List<SimilarGroup> groups,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+    ) {}
+
+    private final ClassroomRepository classroomRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Cache<Long, SimilarityScan> scanCache = Cache2kBuilder.of(Long.class, SimilarityScan.class)
+        .name("classroomSimilarityScan")
+        .entryCapacity(500)
+        .expireAfterWrite(RESULT_CACHE_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "classroom-similarity");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClassroomSimilarityService(ClassroomRepository classroomRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.classroomRepository = classroomRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 유사 교실명 검사 시작 (이미 진행 중이면 현재 상태 반환)
+     */
+    public SimilarityScan startScan(Long schoolId, int maxDistance) {
+        int distance = Math.max(1, Math.min(maxDistance, MAX_DISTANCE_LIMIT));
+        SimilarityScan existing = scanCache.peek(schoolId);
+        if (existing != null && existing.status() == Status.RUNNING) {
+            return existing;
+        }
+
+        SimilarityScan running = new SimilarityScan(schoolId, Status.RUNNING, distance, List.of(),
+            LocalDateTime.now(), null, null);
+        scanCache.put(schoolId, running);
+        executor.submit(() -> runScan(running));
+        return running;
+    }
+
+    /**
+     * 검사 상태 조회 (검사 이력이 없거나 만료되었으면 null)
+     */
+    public SimilarityScan getScan(Long schoolId) {
+        return scanCache.peek(schoolId);
+    }
+
+    private void runScan(SimilarityScan scan) {
+        Long schoolId = scan.schoolId();
+        try {
+            List<ClassroomRepository.NameRow> rows = readOnlyTransaction.execute(
+                status -> classroomRepository.findNameRowsBySchoolSchoolId(schoolId));
+            List<SimilarGroup> groups = findSimilarGroups(rows, scan.maxDistance());
+            scanCache.put(schoolId, new SimilarityScan(schoolId, Status.COMPLETED, scan.maxDistance(), groups,
+                scan.startedAt(), LocalDateTime.now(), null));
+            log.info("유사 교실명 검사 완료 - schoolId: {}, 교실 {}개, 그룹 {}개", schoolId, rows.size(), groups.size());
+        } catch (Exception e) {
+            log.error("유사 교실명 검사 중 오류 - schoolId: {}", schoolId, e);
+            scanCache.put(schoolId, new SimilarityScan(schoolId, Status.FAILED, scan.maxDistance(), List.of(),
+                scan.startedAt(), LocalDateTime.now(), e.getMessage()));
+        }
+    }
+
+    private List<SimilarGroup> findSimilarGroups(List<ClassroomRepository.NameRow> rows, int maxDistance) {
+        // 정규화 키별 교실 (조회 순서 유지)
+        Map<String, List<ClassroomRepository.NameRow>> rowsByKey = new LinkedHashMap<>();
+        for (ClassroomRepository.NameRow row : rows) {
+            String key = row.getNormalizedName() != null ? row.getNormalizedName()
+                : ClassroomNameUtils.normalize(row.getRoomName());
+            rowsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        List<String> keys = new ArrayList<>(rowsByKey.keySet());
+
+        // 숫자 부분이 같은 키끼리만 비교
+        Map<String, List<Integer>> keyIndexesByDigits = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keyIndexesByDigits.computeIfAbsent(digitsOf(keys.get(i)), k -> new ArrayList<>()).add(i);
+        }
+
+        int[] parent = new int[keys.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (List<Integer> indexes : keyIndexesByDigits.values()) {
+            for (int x = 0; x < indexes.size(); x++) {
+                String a = keys.get(indexes.get(x));
+                if (a.length() <= maxDistance) {
+                    continue;
+                }
+                for (int y = x + 1; y < indexes.size(); y++) {
+                    String b = keys.get(indexes.get(y));
+                    if (b.length() > maxDistance && ClassroomNameUtils.editDistance(a, b, maxDistance) <= maxDistance) {
+                        union(parent, indexes.get(x), indexes.get(y));
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<String>> keysByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keysByRoot.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(keys.get(i));
+        }
+
+        List<SimilarGroup> groups = new ArrayList<>();
+        for (List<String> groupKeys : keysByRoot.values()) {
+            if (groupKeys.size() < 2) {
+                continue;
+            }
+            List<Long> classroomIds = new ArrayList<>();
+            List<String> roomNames = new ArrayList<>();
+            for (String key : groupKeys) {
+                for (ClassroomRepository.NameRow row : rowsByKey.get(key)) {
+                    classroomIds.add(row.getClassroomId());
+                    roomNames.add(row.getRoomName());
+                }
+            }
+            groups.add(new SimilarGroup(List.copyOf(groupKeys), classroomIds, roomNames));
+        }
+        return groups;
+    }
+
+    // 키의 숫자 부분 (숫자 묶음 사이는 ','로 구분, 예: "3층과학실2" → "3,2")
+    private static String digitsOf(String key) {
+        StringBuilder digits = new StringBuilder();
+        boolean gap = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (gap && digits.length() > 0) {
+                    digits.append(',');
+                }
+                digits.append(c);
+                gap = false;
+            } else {
+                gap = true;
+            }
+        }
+        return digits.toString();
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        scanCache.close();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.beans.factory.annotation.Autowired;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
 import java.util.List;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -31,6 +32,7 @@ public class DataManagementService {
     private final WirelessApHistoryRepository wirelessApHistoryRepository;
     private final DeviceInspectionStatusRepository deviceInspectionStatusRepository;
     private final DeviceInspectionHistoryRepository deviceInspectionHistoryRepository;
+    private final DeviceInspectionResultRepository deviceInspectionResultRepository;
     private final DeviceLocationRepository deviceLocationRepository;
     private final WirelessApLocationRepository wirelessApLocationRepository;
     private final FloorPlanRepository floorPlanRepository;
@@ -41,6 +43,8 @@ public class DataManagementService {
     private final RoomSeatRepository roomSeatRepository;
     private final EntityManager entityManager;
     private final SchoolRepository schoolRepository;
+    private final IpOccupancyService ipOccupancyService;
+    private final DeviceInspectionStatusService deviceInspectionStatusService;
 
     @Autowired
     public DataManagementService(
@@ -54,6 +58,7 @@ public class DataManagementService {
             WirelessApHistoryRepository wirelessApHistoryRepository,
             DeviceInspectionStatusRepository deviceInspectionStatusRepository,
             DeviceInspectionHistoryRepository deviceInspectionHistoryRepository,
+            DeviceInspectionResultRepository deviceInspectionResultRepository,
             DeviceLocationRepository deviceLocationRepository,
             WirelessApLocationRepository wirelessApLocationRepository,
             FloorPlanRepository floorPlanRepository,
@@ -63,7 +68,9 @@ public class DataManagementService {
             FloorRoomRepository floorRoomRepository,
             RoomSeatRepository roomSeatRepository,
             EntityManager entityManager,
-            SchoolRepository schoolRepository) {
+            SchoolRepository schoolRepository,
+            IpOccupancyService ipOccupancyService,
+            DeviceInspectionStatusService deviceInspectionStatusService) {
         this.deviceRepository = deviceRepository;
         this.classroomRepository = classroomRepository;
         this.manageRepository = manageRepository;
@@ -74,6 +81,7 @@ public class DataManagementService {
         this.wirelessApHistoryRepository = wirelessApHistoryRepository;
         this.deviceInspectionStatusRepository = deviceInspectionStatusRepository;
         this.deviceInspectionHistoryRepository = deviceInspectionHistoryRepository;
+        this.deviceInspectionResultRepository = deviceInspectionResultRepository;
         this.deviceLocationRepository = deviceLocationRepository;
         this.wirelessApLocationRepository = wirelessApLocationRepository;
         this.floorPlanRepository = floorPlanRepository;
@@ -84,6 +92,8 @@ public class DataManagementService {
         this.roomSeatRepository = roomSeatRepository;
         this.entityManager = entityManager;
         this.schoolRepository = schoolRepository;
+        this.ipOccupancyService = ipOccupancyService;
+        this.deviceInspectionStatusService = deviceInspectionStatusService;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -117,16 +127,21 @@ public class DataManagementService {
                 deviceCount, wirelessApCount, classroomCount, operatorCount, manageCount, uidCount, deviceHistoryCount, wirelessApHistoryCount);
 
             // 3. 외래키 제약조건 비활성화
-            entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 0").executeUpdate();
+            setForeignKeyChecks(false);
             
             try {
                 // 삭제 순서: 참조하는 데이터 먼저 삭제
                 
                 // 1단계: 검사 데이터 삭제
                 int deletedInspectionStatus = deviceInspectionStatusRepository.deleteBySchoolId(schoolId);
+                deviceInspectionStatusService.invalidateSchoolProgress(schoolId);
                 totalRecordsDeleted += deletedInspectionStatus;
                 logger.debug("Deleted {} device inspection status records", deletedInspectionStatus);
                 
+                int deletedInspectionResults = deviceInspectionResultRepository.deleteBySchoolId(schoolId);
+                totalRecordsDeleted += deletedInspectionResults;
+                logger.debug("Deleted {} device inspection result records", deletedInspectionResults);
+                
                 int deletedInspectionHistory = deviceInspectionHistoryRepository.deleteBySchoolId(schoolId);
                 totalRecordsDeleted += deletedInspectionHistory;
                 logger.debug("Deleted {} device inspection history records", deletedInspectionHistory);
@@ -151,6 +166,7 @@ public class DataManagementService {
                 
                 // 4단계: 장비/AP 삭제
                 int deletedDevices = deviceRepository.deleteBySchoolSchoolId(schoolId);
+                ipOccupancyService.invalidate(schoolId);
                 totalRecordsDeleted += deletedDevices;
                 logger.debug("Deleted {} devices", deletedDevices);
                 
@@ -217,7 +233,7 @@ public class DataManagementService {
                 
             } finally {
                 // 외래키 제약조건 다시 활성화
-                entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+                setForeignKeyChecks(true);
             }
 
             // 삭제 결과 검증
@@ -257,6 +273,7 @@ public class DataManagementService {
     public void deleteDevicesBySchool(Long schoolId) {
         logger.info("Deleting devices for school: {}", schoolId);
         int deletedCount = deviceRepository.deleteBySchoolSchoolId(schoolId);
+        ipOccupancyService.invalidate(schoolId);
         logger.info("Deleted {} devices for school: {}", deletedCount, schoolId);
     }
 
@@ -449,9 +466,14 @@ public class DataManagementService {
         if (deleteDevices) {
             try {
                 int deletedInspectionStatus = deviceInspectionStatusRepository.deleteBySchoolId(schoolId);
+                deviceInspectionStatusService.invalidateSchoolProgress(schoolId);
                 totalDeleted += deletedInspectionStatus;
                 logger.debug("Deleted {} device inspection status records", deletedInspectionStatus);
                 
+                int deletedInspectionResults = deviceInspectionResultRepository.deleteBySchoolId(schoolId);
+                totalDeleted += deletedInspectionResults;
+                logger.debug("Deleted {} device inspection result records", deletedInspectionResults);
+                
                 int deletedInspectionHistory = deviceInspectionHistoryRepository.deleteBySchoolId(schoolId);
                 totalDeleted += deletedInspectionHistory;
                 logger.debug("Deleted {} device inspection history records", deletedInspectionHistory);
@@ -470,6 +492,7 @@ public class DataManagementService {
                 logger.debug("Deleted {} device location records", deletedDeviceLocations);
                 
                 int deletedDevices = deviceRepository.deleteBySchoolSchoolId(schoolId);
+                ipOccupancyService.invalidate(schoolId);
                 totalDeleted += deletedDevices;
                 logger.debug("Deleted {} devices", deletedDevices);
             } catch (Exception e) {
@@ -621,4 +644,15 @@ public class DataManagementService {
             throw new RuntimeException("데이터 삭제 중 예상치 못한 오류가 발생했습니다. 잠시 후 다시 시도하거나 관리자에게 문의해주세요.");
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 외래키 검사 켜기/끄기
+     * (영향받는 테이블을 지정하지 않은 네이티브 쿼리는 2차 캐시 전체를 비우므로 빈 이름 지정)
+     */
+    private void setForeignKeyChecks(boolean enabled) {
+        entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0))
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("")
+            .executeUpdate();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class DeviceHistoryService {
@@ -218,6 +219,19 @@ public class DeviceHistoryService {
         return histories;
     }
     
+    /**
+     * 엑셀 내보내기용 수정내역 스트림 (호출자의 읽기 전용 트랜잭션 안에서 닫아야 함)
+     */
+    public Stream<DeviceHistoryRepository.ExcelRow> streamDeviceHistoryForExcel(Long schoolId, String searchType, String searchKeyword) {
+        String cleanSearchType = (searchType != null && !searchType.trim().isEmpty()) ? searchType.trim() : null;
+        String cleanSearchKeyword = (searchKeyword != null && !searchKeyword.trim().isEmpty()) ? searchKeyword.trim() : null;
+        
+        if (cleanSearchType == null && cleanSearchKeyword == null) {
+            return deviceHistoryRepository.streamExcelRowsBySchoolId(schoolId);
+        }
+        return deviceHistoryRepository.streamExcelRowsBySchoolIdAndSearchConditions(schoolId, cleanSearchType, cleanSearchKeyword);
+    }
+    
     /**
      * 필드명을 한글로 변환
      */
@@ -1,28 +1,67 @@
 package com.inet.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inet.entity.DeviceInspectionHistory;
+import com.inet.entity.DeviceInspectionResult;
+import com.inet.entity.DeviceInspectionStatus;
 import com.inet.repository.DeviceInspectionHistoryRepository;
+import com.inet.repository.DeviceInspectionResultRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class DeviceInspectionHistoryService {
     
+    private static final Logger log = LoggerFactory.getLogger(DeviceInspectionHistoryService.class);
+    
+    // 한 번의 INSERT 문에 담을 최대 행 수
+    private static final int INSERT_CHUNK_SIZE = 500;
+    
+    // 기존 JSON 이관 시 한 트랜잭션에서 처리할 검사 이력 수
+    private static final int BACKFILL_BATCH_SIZE = 100;
+    
     private final DeviceInspectionHistoryRepository deviceInspectionHistoryRepository;
+    private final DeviceInspectionResultRepository deviceInspectionResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
-    public DeviceInspectionHistoryService(DeviceInspectionHistoryRepository deviceInspectionHistoryRepository) {
+    public DeviceInspectionHistoryService(DeviceInspectionHistoryRepository deviceInspectionHistoryRepository,
+                                          DeviceInspectionResultRepository deviceInspectionResultRepository,
+                                          PlatformTransactionManager transactionManager) {
         this.deviceInspectionHistoryRepository = deviceInspectionHistoryRepository;
+        this.deviceInspectionResultRepository = deviceInspectionResultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
      * 검사 이력 저장
+     * - 장비별 검사 결과는 JSON 문서 대신 device_inspection_result 테이블에 일괄 저장
      */
     public DeviceInspectionHistory saveInspectionHistory(Long schoolId, Long inspectorId, 
                                                         Integer confirmedCount, Integer modifiedCount, 
@@ -35,9 +74,150 @@ public class DeviceInspectionHistoryService {
         history.setModifiedCount(modifiedCount);
         history.setUnconfirmedCount(unconfirmedCount);
         history.setTotalCount(confirmedCount + modifiedCount + unconfirmedCount);
-        history.setInspectionDetails(inspectionDetails);
         
-        return deviceInspectionHistoryRepository.save(history);
+        DeviceInspectionHistory saved = deviceInspectionHistoryRepository.save(history);
+        insertInspectionResults(saved, parseInspectionDetails(inspectionDetails));
+        return saved;
+    }
+    
+    /**
+     * 검사 이력의 장비별 검사 결과 조회 (장비 ID -> 상태값)
+     * - 결과 행이 없으면 이관 전 이력으로 보고 inspection_details JSON에서 읽음
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getInspectionResults(Long historyId) {
+        Map<Long, String> results = new LinkedHashMap<>();
+        for (DeviceInspectionResult result : deviceInspectionResultRepository.findByHistoryId(historyId)) {
+            results.put(result.getDeviceId(), result.getInspectionStatus().getValue());
+        }
+        if (results.isEmpty()) {
+            deviceInspectionHistoryRepository.findById(historyId)
+                .map(history -> parseInspectionDetails(history.getInspectionDetails()))
+                .ifPresent(statuses -> statuses.forEach((deviceId, value) ->
+                    results.put(deviceId, DeviceInspectionStatus.InspectionStatus.fromValue(value).getValue())));
+        }
+        return results;
+    }
+    
+    /**
+     * 애플리케이션 시작 시 결과 행이 없는 기존 검사 이력의 inspection_details JSON을 device_inspection_result로 이관
+     * (Flyway를 쓰지 않는 환경에서는 V21 마이그레이션의 이관이 실행되지 않으므로 여기서 처리)
+     * - 검사 이력 ID 순으로 BACKFILL_BATCH_SIZE건씩 별도 트랜잭션
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillInspectionResults() {
+        long lastHistoryId = 0;
+        int histories = 0;
+        int results = 0;
+        while (true) {
+            long afterId = lastHistoryId;
+            BackfillBatch batch = transactionTemplate.execute(status -> backfillBatch(afterId));
+            if (batch == null) {
+                break;
+            }
+            lastHistoryId = batch.lastHistoryId();
+            histories += batch.histories();
+            results += batch.results();
+        }
+        if (histories > 0) {
+            log.info("검사 결과 JSON 이관 완료 - 검사 이력 {}건, 결과 {}건", histories, results);
+        }
+    }
+    
+    private record BackfillBatch(long lastHistoryId, int histories, int results) {
+    }
+    
+    // afterId 다음 검사 이력들의 JSON을 결과 행으로 저장 (없으면 null)
+    private BackfillBatch backfillBatch(long afterId) {
+        List<DeviceInspectionHistory> histories = deviceInspectionHistoryRepository
+            .findLegacyDetailsWithoutResults(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (histories.isEmpty()) {
+            return null;
+        }
+        int results = 0;
+        for (DeviceInspectionHistory history : histories) {
+            Map<Long, String> statuses = parseInspectionDetails(history.getInspectionDetails());
+            insertInspectionResults(history, statuses);
+            results += statuses.size();
+        }
+        entityManager.clear();
+        return new BackfillBatch(histories.get(histories.size() - 1).getId(), histories.size(), results);
+    }
+    
+    /**
+     * 장비가 특정 상태로 마지막 검사된 일시 조회 (예: 마지막 확인일)
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getLastInspectedAt(Long deviceId, DeviceInspectionStatus.InspectionStatus status) {
+        return deviceInspectionResultRepository.findLastInspectedAt(deviceId, status);
+    }
+    
+    /**
+     * 검사 결과 JSON 파싱
+     * 지원 형식: {"statuses": {"5965": "confirmed", ...}} 또는 {"5965": "confirmed", ...}
+     */
+    private Map<Long, String> parseInspectionDetails(String inspectionDetails) {
+        Map<Long, String> statuses = new LinkedHashMap<>();
+        if (inspectionDetails == null || inspectionDetails.trim().isEmpty()) {
+            return statuses;
+        }
+        
+        try {
+            JsonNode root = objectMapper.readTree(inspectionDetails);
+            JsonNode statusNode = root.has("statuses") ? root.get("statuses") : root;
+            Iterator<Map.Entry<String, JsonNode>> fields = statusNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                try {
+                    statuses.put(Long.valueOf(entry.getKey()), entry.getValue().asText());
+                } catch (NumberFormatException e) {
+                    log.warn("잘못된 장비 ID 형식: {}", entry.getKey());
+                }
+            }
+        } catch (Exception e) {
+            log.error("검사 결과 데이터 파싱 중 오류 발생", e);
+        }
+        return statuses;
+    }
+    
+    /**
+     * 장비별 검사 결과 일괄 저장 (다중 행 INSERT)
+     */
+    private void insertInspectionResults(DeviceInspectionHistory history, Map<Long, String> statuses) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(statuses.entrySet());
+        for (int from = 0; from < entries.size(); from += INSERT_CHUNK_SIZE) {
+            List<Map.Entry<Long, String>> chunk = entries.subList(from, Math.min(from + INSERT_CHUNK_SIZE, entries.size()));
+            
+            StringBuilder sql = new StringBuilder(
+                "INSERT INTO device_inspection_result (history_id, device_id, school_id, inspection_status, inspected_at) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                int base = i * 5;
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("(?").append(base + 1)
+                   .append(", ?").append(base + 2)
+                   .append(", ?").append(base + 3)
+                   .append(", ?").append(base + 4)
+                   .append(", ?").append(base + 5).append(")");
+            }
+            
+            // 영향받는 테이블을 지정하지 않으면 네이티브 쿼리 실행 시 2차 캐시 전체가 비워짐
+            Query query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(DeviceInspectionResult.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                Map.Entry<Long, String> entry = chunk.get(i);
+                int base = i * 5;
+                query.setParameter(base + 1, history.getId());
+                query.setParameter(base + 2, entry.getKey());
+                query.setParameter(base + 3, history.getSchoolId());
+                query.setParameter(base + 4, DeviceInspectionStatus.InspectionStatus.fromValue(entry.getValue()).name());
+                query.setParameter(base + 5, history.getInspectionDate());
+            }
+            query.executeUpdate();
+        }
     }
     
     /**
@@ -94,6 +274,7 @@ public class DeviceInspectionHistoryService {
      * 검사 이력 삭제
      */
     public void deleteById(Long id) {
+        deviceInspectionResultRepository.deleteByHistoryId(id);
         deviceInspectionHistoryRepository.deleteById(id);
     }
 }
@@ -2,22 +2,64 @@ package com.inet.service;
 
 import com.inet.entity.DeviceInspectionStatus;
 import com.inet.repository.DeviceInspectionStatusRepository;
+import com.inet.repository.DeviceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.annotation.PreDestroy;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class DeviceInspectionStatusService {
     
+    // 한 번의 INSERT 문에 담을 최대 행 수
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    
+    // 검사 진행 현황 캐시 유지 시간 (검사 상태 저장 시 커밋 후 무효화)
+    private static final long PROGRESS_CACHE_SECONDS = 10;
+    
     private final DeviceInspectionStatusRepository deviceInspectionStatusRepository;
+    private final DeviceRepository deviceRepository;
+    private final TransactionTemplate loadTransaction;
+    
+    // key: "schoolId:inspectorId"
+    private final Cache<String, InspectionProgress> progressCache = Cache2kBuilder.of(String.class, InspectionProgress.class)
+        .name("inspectionProgress")
+        .entryCapacity(1000)
+        .expireAfterWrite(PROGRESS_CACHE_SECONDS, TimeUnit.SECONDS)
+        .build();
     
-    public DeviceInspectionStatusService(DeviceInspectionStatusRepository deviceInspectionStatusRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public DeviceInspectionStatusService(DeviceInspectionStatusRepository deviceInspectionStatusRepository,
+                                         DeviceRepository deviceRepository,
+                                         PlatformTransactionManager transactionManager) {
         this.deviceInspectionStatusRepository = deviceInspectionStatusRepository;
+        this.deviceRepository = deviceRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
     
     /**
@@ -42,7 +84,69 @@ public class DeviceInspectionStatusService {
             inspectionStatus.setInspectionStatus(DeviceInspectionStatus.InspectionStatus.fromValue(status));
         }
         
-        return deviceInspectionStatusRepository.save(inspectionStatus);
+        DeviceInspectionStatus saved = deviceInspectionStatusRepository.save(inspectionStatus);
+        invalidateProgress(schoolId, inspectorId);
+        return saved;
+    }
+    
+    /**
+     * 여러 장비의 검사 상태 일괄 저장 또는 업데이트
+     * - (device_id, school_id, inspector_id) 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE
+     * - 해당 학교에 속하지 않는 장비 ID는 무시
+     * @return 저장된 장비 수
+     */
+    public int saveInspectionStatuses(Long schoolId, Long inspectorId, Map<Long, String> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return 0;
+        }
+        
+        Set<Long> validDeviceIds = new HashSet<>();
+        List<Long> requestedIds = new ArrayList<>(statuses.keySet());
+        for (int from = 0; from < requestedIds.size(); from += UPSERT_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, requestedIds.size()));
+            validDeviceIds.addAll(deviceRepository.findDeviceIdsBySchoolIdAndDeviceIdIn(schoolId, chunk));
+        }
+        
+        List<Long> deviceIds = requestedIds.stream()
+            .filter(validDeviceIds::contains)
+            .collect(Collectors.toList());
+        
+        int saved = 0;
+        for (int from = 0; from < deviceIds.size(); from += UPSERT_CHUNK_SIZE) {
+            List<Long> chunk = deviceIds.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, deviceIds.size()));
+            
+            StringBuilder sql = new StringBuilder(
+                "INSERT INTO device_inspection_status (device_id, school_id, inspector_id, inspection_status) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                int base = i * 4;
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("(?").append(base + 1)
+                   .append(", ?").append(base + 2)
+                   .append(", ?").append(base + 3)
+                   .append(", ?").append(base + 4).append(")");
+            }
+            sql.append(" ON DUPLICATE KEY UPDATE inspection_status = VALUES(inspection_status)");
+            
+            // 영향받는 테이블을 지정하지 않으면 네이티브 쿼리 실행 시 2차 캐시 전체가 비워짐
+            Query query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(DeviceInspectionStatus.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                Long deviceId = chunk.get(i);
+                int base = i * 4;
+                query.setParameter(base + 1, deviceId);
+                query.setParameter(base + 2, schoolId);
+                query.setParameter(base + 3, inspectorId);
+                query.setParameter(base + 4, DeviceInspectionStatus.InspectionStatus.fromValue(statuses.get(deviceId)).name());
+            }
+            query.executeUpdate();
+            saved += chunk.size();
+        }
+        
+        invalidateProgress(schoolId, inspectorId);
+        return saved;
     }
     
     /**
@@ -76,5 +180,110 @@ public class DeviceInspectionStatusService {
     public void deleteInspectionStatus(Long deviceId, Long schoolId, Long inspectorId) {
         deviceInspectionStatusRepository.deleteByDeviceIdAndSchoolIdAndInspectorId(
             deviceId, schoolId, inspectorId);
+        invalidateProgress(schoolId, inspectorId);
+    }
+    
+    /**
+     * 학교/교실별 검사 진행 현황 (확인/수정/미확인 건수)
+     * - 장비 기준 단일 GROUP BY 쿼리로 집계하고 짧게 캐시
+     * - 집계는 별도의 읽기/쓰기 트랜잭션 (복제 DB 분리 시에도 기본 DB에서 읽어 저장 직후 재조회에 이전 건수를 캐시하지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public InspectionProgress getInspectionProgress(Long schoolId, Long inspectorId) {
+        return progressCache.computeIfAbsent(progressKey(schoolId, inspectorId), key -> loadTransaction.execute(status -> {
+            List<DeviceInspectionStatusRepository.ClassroomProgressRow> rows = deviceInspectionStatusRepository
+                .aggregateProgressByClassroom(schoolId, inspectorId,
+                    DeviceInspectionStatus.InspectionStatus.CONFIRMED,
+                    DeviceInspectionStatus.InspectionStatus.MODIFIED);
+            
+            List<ClassroomProgress> classrooms = rows.stream()
+                .map(row -> ClassroomProgress.of(row.getClassroomId(),
+                    row.getRoomName() != null ? row.getRoomName() : "미지정 교실",
+                    toLong(row.getTotalCount()), toLong(row.getConfirmedCount()), toLong(row.getModifiedCount())))
+                .sorted(Comparator.comparing(ClassroomProgress::roomName))
+                .collect(Collectors.toList());
+            
+            long total = classrooms.stream().mapToLong(ClassroomProgress::totalCount).sum();
+            long confirmed = classrooms.stream().mapToLong(ClassroomProgress::confirmedCount).sum();
+            long modified = classrooms.stream().mapToLong(ClassroomProgress::modifiedCount).sum();
+            return new InspectionProgress(schoolId, inspectorId, total, confirmed, modified,
+                total - confirmed - modified, classrooms);
+        }));
+    }
+    
+    /**
+     * 학교의 모든 검사자 진행 현황 캐시 무효화 (학교 검사 데이터 일괄 삭제 시, 트랜잭션 안이면 커밋 후)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void invalidateSchoolProgress(Long schoolId) {
+        String prefix = schoolId + ":";
+        afterCompletion(() -> {
+            for (String key : progressCache.keys()) {
+                if (key.startsWith(prefix)) {
+                    progressCache.remove(key);
+                }
+            }
+        });
+    }
+    
+    private void invalidateProgress(Long schoolId, Long inspectorId) {
+        String key = progressKey(schoolId, inspectorId);
+        afterCompletion(() -> progressCache.remove(key));
+    }
+    
+    // 커밋 전에 지우면 다른 요청이 커밋 전 값으로 다시 캐시할 수 있으므로 트랜잭션 종료 후 실행
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private static String progressKey(Long schoolId, Long inspectorId) {
+        return schoolId + ":" + inspectorId;
+    }
+    
+    private static long toLong(Long value) {
+        return value != null ? value : 0L;
+    }
+    
+    @PreDestroy
+    void closeProgressCache() {
+        progressCache.close();
+    }
+    
+    /**
+     * 학교 전체 검사 진행 현황
+     */
+    public record InspectionProgress(
+        Long schoolId,
+        Long inspectorId,
+        long totalCount,
+        long confirmedCount,
+        long modifiedCount,
+        long unconfirmedCount,
+        List<ClassroomProgress> classrooms
+    ) {}
+    
+    /**
+     * 교실별 검사 진행 현황
+     */
+    public record ClassroomProgress(
+        Long classroomId,
+        String roomName,
+        long totalCount,
+        long confirmedCount,
+        long modifiedCount,
+        long unconfirmedCount
+    ) {
+        static ClassroomProgress of(Long classroomId, String roomName, long total, long confirmed, long modified) {
+            return new ClassroomProgress(classroomId, roomName, total, confirmed, modified, total - confirmed - modified);
+        }
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.inet.service;
 
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.inet.annotation.ExportTask;
+import com.inet.annotation.MonitoredOperation;
 import com.inet.entity.Device;
 import com.inet.entity.School;
 import com.inet.repository.DeviceRepository;
@@ -19,9 +21,15 @@ import com.inet.entity.DeviceHistory;
 import com.inet.entity.User;
 import com.inet.service.DeviceHistoryService;
 import com.inet.service.ManageService;
+import com.inet.util.IpAddressUtils;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +39,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.ArrayList;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -62,6 +71,9 @@ public class DeviceService {
     
     private static final Logger log = LoggerFactory.getLogger(DeviceService.class);
     
+    // 시작 시 기존 데이터 채우기 한 트랜잭션의 장비 수
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
     private final DeviceRepository deviceRepository;
     private final SchoolRepository schoolRepository;
     private final ClassroomRepository classroomRepository;
@@ -71,12 +83,15 @@ public class DeviceService {
     private final UidService uidService;
     private final DeviceHistoryService deviceHistoryService;
     private final ManageService manageService;
+    private final IpOccupancyService ipOccupancyService;
+    private final TransactionTemplate transactionTemplate;
     
     public DeviceService(DeviceRepository deviceRepository, SchoolRepository schoolRepository, 
                         ClassroomRepository classroomRepository, OperatorService operatorService,
                         ManageRepository manageRepository, ClassroomService classroomService,
                         UidService uidService, DeviceHistoryService deviceHistoryService,
-                        ManageService manageService) {
+                        ManageService manageService, IpOccupancyService ipOccupancyService,
+                        PlatformTransactionManager transactionManager) {
         this.deviceRepository = deviceRepository;
         this.schoolRepository = schoolRepository;
         this.classroomRepository = classroomRepository;
@@ -86,11 +101,84 @@ public class DeviceService {
         this.uidService = uidService;
         this.deviceHistoryService = deviceHistoryService;
         this.manageService = manageService;
+        this.ipOccupancyService = ipOccupancyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     @PersistenceContext
     private EntityManager entityManager;
     
+    /**
+     * 애플리케이션 시작 시 ip_numeric이 비어 있는 장비 채우기
+     * (Flyway 미사용 환경에서 ddl-auto로 컬럼만 추가된 경우 대비, 변환 규칙은 IpAddressUtils)
+     * - 장비 ID 순으로 BACKFILL_BATCH_SIZE건씩 별도 트랜잭션, ip_numeric 컬럼만 갱신
+     * - 올바른 IPv4가 아닌 장비는 계속 비어 있으므로 장비 ID 순으로 넘어가며 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIpNumeric() {
+        long lastDeviceId = 0;
+        int updated = 0;
+        while (true) {
+            long afterId = lastDeviceId;
+            IpNumericBatch batch = transactionTemplate.execute(status -> backfillIpNumericBatch(afterId));
+            if (batch == null) {
+                break;
+            }
+            lastDeviceId = batch.lastDeviceId();
+            updated += batch.updated();
+        }
+        if (updated > 0) {
+            log.info("장비 정수 IP 채우기 완료 - {}건", updated);
+        }
+    }
+    
+    private record IpNumericBatch(long lastDeviceId, int updated) {
+    }
+    
+    // afterId 다음 장비들의 ip_numeric 기록 (없으면 null)
+    private IpNumericBatch backfillIpNumericBatch(long afterId) {
+        List<DeviceRepository.IpAddressRow> rows = deviceRepository
+            .findIpAddressesWithoutIpNumeric(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        int updated = 0;
+        for (DeviceRepository.IpAddressRow row : rows) {
+            Long ipNumeric = IpAddressUtils.toNumeric(row.getIpAddress());
+            if (ipNumeric != null) {
+                updated += deviceRepository.updateIpNumeric(row.getDeviceId(), row.getIpAddress(), ipNumeric);
+            }
+        }
+        entityManager.clear();
+        return new IpNumericBatch(rows.get(rows.size() - 1).getDeviceId(), updated);
+    }
+    
+    /**
+     * 장비가 속한 학교의 IP 사용 현황 캐시 무효화 (커밋 후 적용)
+     */
+    private void invalidateIpOccupancy(Device device) {
+        if (device != null && device.getSchool() != null) {
+            ipOccupancyService.invalidate(device.getSchool().getSchoolId());
+        }
+    }
+    
+    /**
+     * IP 주소로 장비 조회 (excludeDeviceId가 있으면 해당 장비 제외)
+     * - 올바른 IPv4면 ip_numeric 인덱스로 조회, 아니면 문자열 비교
+     */
+    private Optional<Device> findDeviceByIpAddress(String ipAddress, Long excludeDeviceId) {
+        Long ipNumeric = IpAddressUtils.toNumeric(ipAddress);
+        if (ipNumeric != null) {
+            return excludeDeviceId != null
+                ? deviceRepository.findFirstByIpNumericAndDeviceIdNot(ipNumeric, excludeDeviceId)
+                : deviceRepository.findFirstByIpNumeric(ipNumeric);
+        }
+        return excludeDeviceId != null
+            ? deviceRepository.findByIpAddressExcludingDevice(ipAddress.trim(), excludeDeviceId)
+            : deviceRepository.findByIpAddress(ipAddress.trim());
+    }
+    
     // Create
     public Device saveDevice(Device device) {
         // 고유번호 중복 검증
@@ -109,7 +197,7 @@ public class DeviceService {
         
         // IP 주소 중복 검증
         if (device.getIpAddress() != null && !device.getIpAddress().trim().isEmpty()) {
-            Optional<Device> existingDevice = deviceRepository.findByIpAddress(device.getIpAddress().trim());
+            Optional<Device> existingDevice = findDeviceByIpAddress(device.getIpAddress(), null);
             if (existingDevice.isPresent()) {
                 Device existing = existingDevice.get();
                 String locationInfo = existing.getClassroom() != null && existing.getClassroom().getRoomName() != null 
@@ -174,6 +262,7 @@ public class DeviceService {
             }
         }
         
+        invalidateIpOccupancy(device);
         return deviceRepository.save(device);
     }
     
@@ -183,7 +272,7 @@ public class DeviceService {
     }
     
     public List<Device> getDevicesBySchoolId(Long schoolId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         return deviceRepository.findBySchool(school);
     }
@@ -194,6 +283,7 @@ public class DeviceService {
     
     // Update
     public Device updateDevice(Device device) {
+        invalidateIpOccupancy(device);
         return deviceRepository.save(device);
     }
     
@@ -389,8 +479,8 @@ public class DeviceService {
         
         // IP 주소 중복 검증 (자기 자신 제외)
         if (updatedDevice.getIpAddress() != null && !updatedDevice.getIpAddress().trim().isEmpty()) {
-            Optional<Device> existingDevice = deviceRepository.findByIpAddressExcludingDevice(
-                updatedDevice.getIpAddress().trim(), updatedDevice.getDeviceId());
+            Optional<Device> existingDevice = findDeviceByIpAddress(
+                updatedDevice.getIpAddress(), updatedDevice.getDeviceId());
             if (existingDevice.isPresent()) {
                 Device existing = existingDevice.get();
                 String locationInfo = existing.getClassroom() != null && existing.getClassroom().getRoomName() != null 
@@ -456,6 +546,8 @@ public class DeviceService {
         }
         
         // 히스토리 저장 후에 장비 저장
+        invalidateIpOccupancy(originalDevice);
+        invalidateIpOccupancy(updatedDevice);
         deviceRepository.save(updatedDevice);
     }
     
@@ -511,29 +603,30 @@ public class DeviceService {
         deviceRepository.save(device);
         
         // 장비 삭제
+        invalidateIpOccupancy(device);
         deviceRepository.deleteById(id);
     }
 
     // 페이징 + 학교 + 타입 + 교실 조건 검색
     public Page<Device> getDevices(Long schoolId, String type, Long classroomId, Pageable pageable) {
         if (schoolId != null && type != null && !type.isEmpty() && classroomId != null) {
-            School school = schoolRepository.findById(schoolId)
+            School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
             Classroom classroom = classroomRepository.findById(classroomId)
                 .orElseThrow(() -> new RuntimeException("Classroom not found with id: " + classroomId));
             return deviceRepository.findBySchoolAndTypeAndClassroom(school, type, classroom, pageable);
         } else if (schoolId != null && type != null && !type.isEmpty()) {
-            School school = schoolRepository.findById(schoolId)
+            School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
             return deviceRepository.findBySchoolAndType(school, type, pageable);
         } else if (schoolId != null && classroomId != null) {
-            School school = schoolRepository.findById(schoolId)
+            School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
             Classroom classroom = classroomRepository.findById(classroomId)
                 .orElseThrow(() -> new RuntimeException("Classroom not found with id: " + classroomId));
             return deviceRepository.findBySchoolAndClassroom(school, classroom, pageable);
         } else if (schoolId != null) {
-            School school = schoolRepository.findById(schoolId)
+            School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
             return deviceRepository.findBySchool(school, pageable);
         } else if (type != null && !type.isEmpty()) {
@@ -556,72 +649,22 @@ public class DeviceService {
         return deviceRepository.findBySchoolSchoolId(schoolId);
     }
 
+    /**
+     * 학교 장비 목록 (교실 순서 > 세트 타입 > 담당자 순, 정렬은 DB에서 처리)
+     */
+    public List<Device> findBySchoolInClassroomOrder(Long schoolId, String type) {
+        return deviceRepository.findBySchoolIdInClassroomOrder(schoolId, type != null && !type.isEmpty() ? type : null);
+    }
+
+    @ExportTask("device-ledger-excel")
+    @MonitoredOperation(value = "inet.device.ledger.export", export = true)
     public Optional<byte[]> generateDeviceLedgerExcel(Long schoolId) {
-        List<Device> devices = findBySchool(schoolId);
+        // 페이지 다운로드와 동일한 순서 (교실 순서, 세트 타입, 담당자 순)
+        List<Device> devices = findBySchoolInClassroomOrder(schoolId, null);
         if (devices.isEmpty()) {
             return Optional.empty();
         }
         
-        // 페이지 다운로드와 동일한 순서로 정렬 (교실 순서, 세트 타입, 담당자 순)
-        devices.sort((d1, d2) -> {
-            // 1. 교실 기준 정렬 (순서 우선, 없으면 교실명)
-            Classroom classroom1 = d1.getClassroom();
-            Classroom classroom2 = d2.getClassroom();
-            
-            if (classroom1 == null && classroom2 == null) {
-                // 둘 다 교실이 없으면 다음 정렬 기준으로
-            } else if (classroom1 == null) {
-                return 1; // 교실이 없는 장비는 뒤로
-            } else if (classroom2 == null) {
-                return -1; // 교실이 없는 장비는 뒤로
-            } else {
-                Integer order1 = classroom1.getDisplayOrder();
-                Integer order2 = classroom2.getDisplayOrder();
-                
-                // 둘 다 순서가 있는 경우
-                if (order1 != null && order2 != null) {
-                    int orderCompare = order1.compareTo(order2);
-                    if (orderCompare != 0) {
-                        return orderCompare;
-                    }
-                }
-                // c1만 순서가 있는 경우
-                else if (order1 != null) {
-                    return -1;
-                }
-                // c2만 순서가 있는 경우
-                else if (order2 != null) {
-                    return 1;
-                }
-                
-                // 둘 다 순서가 없는 경우 교실명 기준
-                String name1 = classroom1.getRoomName() != null ? classroom1.getRoomName() : "";
-                String name2 = classroom2.getRoomName() != null ? classroom2.getRoomName() : "";
-                int classroomCompare = name1.compareTo(name2);
-                if (classroomCompare != 0) return classroomCompare;
-            }
-            
-            // 2. 세트 타입 기준 정렬 (있는 경우)
-            String setType1 = d1.getSetType() != null && !d1.getSetType().trim().isEmpty() ? d1.getSetType() : null;
-            String setType2 = d2.getSetType() != null && !d2.getSetType().trim().isEmpty() ? d2.getSetType() : null;
-            
-            // 세트 타입이 있는 경우 우선 정렬
-            if (setType1 != null && setType2 != null) {
-                return setType1.compareTo(setType2);
-            } else if (setType1 != null) {
-                return -1; // d1이 세트 타입이 있으면 앞으로
-            } else if (setType2 != null) {
-                return 1;  // d2가 세트 타입이 있으면 앞으로
-            }
-            
-            // 3. 담당자 기준 정렬
-            String operator1 = d1.getOperator() != null && d1.getOperator().getName() != null ? 
-                               d1.getOperator().getName() : "미지정 담당자";
-            String operator2 = d2.getOperator() != null && d2.getOperator().getName() != null ? 
-                               d2.getOperator().getName() : "미지정 담당자";
-            return operator1.compareTo(operator2);
-        });
-        
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             exportToExcel(devices, outputStream);
             return Optional.of(outputStream.toByteArray());
@@ -646,6 +689,7 @@ public class DeviceService {
         exportToExcel(devices, outputStream, null);
     }
     
+    @ExportTask("device-excel")
     public void exportToExcel(List<Device> devices, OutputStream outputStream, Map<Long, String> inspectionStatuses) throws IOException {
         Workbook workbook = new XSSFWorkbook();
         Sheet sheet = workbook.createSheet("장비 목록");
@@ -1263,7 +1307,7 @@ public class DeviceService {
     }
 
     public List<Device> findBySchoolAndTypeAndClassroom(Long schoolId, String type, Long classroomId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         Classroom classroom = classroomRepository.findById(classroomId)
             .orElseThrow(() -> new RuntimeException("Classroom not found with id: " + classroomId));
@@ -1271,7 +1315,7 @@ public class DeviceService {
     }
 
     public List<Device> findBySchoolAndClassroom(Long schoolId, Long classroomId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         Classroom classroom = classroomRepository.findById(classroomId)
             .orElseThrow(() -> new RuntimeException("Classroom not found with id: " + classroomId));
@@ -1285,6 +1329,7 @@ public class DeviceService {
     }
 
     @Transactional
+    @MonitoredOperation("inet.device.excel.import")
     public void saveDevicesFromExcel(MultipartFile file, Long schoolId) throws Exception {
         // 파일 확장자 검증
         String originalFilename = file.getOriginalFilename();
@@ -1297,7 +1342,7 @@ public class DeviceService {
             throw new IllegalArgumentException("빈 파일입니다. 내용이 있는 엑셀 파일을 업로드해주세요.");
         }
 
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> {
                     log.error("학교를 찾을 수 없음. 학교 ID: {}", schoolId);
                     return new IllegalArgumentException("학교를 찾을 수 없습니다.");
@@ -1621,6 +1666,7 @@ public class DeviceService {
             
             // 최종 저장
             deviceRepository.saveAll(devices);
+            ipOccupancyService.invalidate(schoolId);
         }
         
         // 메서드 끝에 추가 (return 문 바로 앞에)
@@ -1941,11 +1987,11 @@ public class DeviceService {
         if (schoolId != null && type != null && !type.isEmpty() && classroomId != null) {
             return findBySchoolAndTypeAndClassroom(schoolId, type, classroomId);
         } else if (schoolId != null && type != null && !type.isEmpty()) {
-            return findBySchoolAndType(schoolId, type);
+            return findBySchoolInClassroomOrder(schoolId, type);
         } else if (schoolId != null && classroomId != null) {
             return findBySchoolAndClassroom(schoolId, classroomId);
         } else if (schoolId != null) {
-            return findBySchool(schoolId);
+            return findBySchoolInClassroomOrder(schoolId, null);
         } else if (type != null && !type.isEmpty()) {
             return findByType(type);
         } else if (classroomId != null) {
@@ -1959,6 +2005,14 @@ public class DeviceService {
         return deviceRepository.findBySchool(school);
     }
 
+    /**
+     * 학교의 IP 구간 [fromIp, toIp] 내 장비 조회 (정수 IP 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Device> findDevicesBySchoolAndIpRange(Long schoolId, long fromIp, long toIp) {
+        return deviceRepository.findBySchoolIdAndIpNumericRange(schoolId, fromIp, toIp);
+    }
+
     // 통계용 메서드들
     public long countAllDevices() {
         return deviceRepository.count();
@@ -1979,6 +2033,7 @@ public class DeviceService {
     /**
      * 검색 키워드로 장비 검색 (테이블에 표시된 모든 컬럼 검색 가능)
      */
+    @MonitoredOperation("inet.device.search")
     public List<Device> searchDevices(Long schoolId, String type, Long classroomId, String searchKeyword) {
         List<Device> devices = findFiltered(schoolId, type, classroomId);
         
@@ -1989,108 +2044,113 @@ public class DeviceService {
         String keyword = searchKeyword.trim().toLowerCase();
         
         return devices.stream()
-            .filter(device -> {
-                // 학교명 검색
-                if (device.getSchool() != null && device.getSchool().getSchoolName() != null && 
-                    device.getSchool().getSchoolName().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 고유번호 검색
-                if (device.getUid() != null && device.getUid().getDisplayUid() != null) {
-                    if (device.getUid().getDisplayUid().toLowerCase().contains(keyword)) {
-                        return true;
-                    }
-                }
-                
-                // 관리번호 검색
-                if (device.getManage() != null && device.getManage().getDisplayId() != null) {
-                    if (device.getManage().getDisplayId().toLowerCase().contains(keyword)) {
-                        return true;
-                    }
-                }
-                
-                // 유형 검색
-                if (device.getType() != null && 
-                    device.getType().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 직위 검색
-                if (device.getOperator() != null && device.getOperator().getPosition() != null && 
-                    device.getOperator().getPosition().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 담당자 검색
-                if (device.getOperator() != null && device.getOperator().getName() != null && 
-                    device.getOperator().getName().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 제조사 검색
-                if (device.getManufacturer() != null && 
-                    device.getManufacturer().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 모델명 검색
-                if (device.getModelName() != null && 
-                    device.getModelName().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 구매일자 검색 (년월 형식으로 검색)
-                if (device.getPurchaseDate() != null) {
-                    String purchaseDateStr = device.getPurchaseDate().format(
-                        java.time.format.DateTimeFormatter.ofPattern("yyyy년 MM월"));
-                    if (purchaseDateStr.toLowerCase().contains(keyword)) {
-                        return true;
-                    }
-                }
-                
-                // IP주소 검색
-                if (device.getIpAddress() != null && 
-                    device.getIpAddress().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 교실명 검색
-                if (device.getClassroom() != null && device.getClassroom().getRoomName() != null && 
-                    device.getClassroom().getRoomName().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 용도 검색
-                if (device.getPurpose() != null && 
-                    device.getPurpose().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 세트분류 검색
-                if (device.getSetType() != null && 
-                    device.getSetType().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 비고 검색
-                if (device.getNote() != null && 
-                    device.getNote().toLowerCase().contains(keyword)) {
-                    return true;
-                }
-                
-                // 불용 검색 (Y/N)
-                if (device.getUnused() != null) {
-                    String unusedStr = device.getUnused() ? "y" : "n";
-                    if (unusedStr.contains(keyword)) {
-                        return true;
-                    }
-                }
-                
-                return false;
-            })
+            .filter(device -> matchesKeyword(device, keyword))
             .collect(Collectors.toList());
     }
+
+    /**
+     * 장비가 검색 키워드(소문자, 공백 제거)를 포함하는지 확인 (searchDevices 필터)
+     */
+    static boolean matchesKeyword(Device device, String keyword) {
+        // 학교명 검색
+        if (device.getSchool() != null && device.getSchool().getSchoolName() != null && 
+            device.getSchool().getSchoolName().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 고유번호 검색
+        if (device.getUid() != null && device.getUid().getDisplayUid() != null) {
+            if (device.getUid().getDisplayUid().toLowerCase().contains(keyword)) {
+                return true;
+            }
+        }
+        
+        // 관리번호 검색
+        if (device.getManage() != null && device.getManage().getDisplayId() != null) {
+            if (device.getManage().getDisplayId().toLowerCase().contains(keyword)) {
+                return true;
+            }
+        }
+        
+        // 유형 검색
+        if (device.getType() != null && 
+            device.getType().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 직위 검색
+        if (device.getOperator() != null && device.getOperator().getPosition() != null && 
+            device.getOperator().getPosition().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 담당자 검색
+        if (device.getOperator() != null && device.getOperator().getName() != null && 
+            device.getOperator().getName().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 제조사 검색
+        if (device.getManufacturer() != null && 
+            device.getManufacturer().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 모델명 검색
+        if (device.getModelName() != null && 
+            device.getModelName().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 구매일자 검색 (년월 형식으로 검색)
+        if (device.getPurchaseDate() != null) {
+            String purchaseDateStr = device.getPurchaseDate().format(
+                java.time.format.DateTimeFormatter.ofPattern("yyyy년 MM월"));
+            if (purchaseDateStr.toLowerCase().contains(keyword)) {
+                return true;
+            }
+        }
+        
+        // IP주소 검색
+        if (device.getIpAddress() != null && 
+            device.getIpAddress().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 교실명 검색
+        if (device.getClassroom() != null && device.getClassroom().getRoomName() != null && 
+            device.getClassroom().getRoomName().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 용도 검색
+        if (device.getPurpose() != null && 
+            device.getPurpose().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 세트분류 검색
+        if (device.getSetType() != null && 
+            device.getSetType().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 비고 검색
+        if (device.getNote() != null && 
+            device.getNote().toLowerCase().contains(keyword)) {
+            return true;
+        }
+        
+        // 불용 검색 (Y/N)
+        if (device.getUnused() != null) {
+            String unusedStr = device.getUnused() ? "y" : "n";
+            if (unusedStr.contains(keyword)) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
     
     /**
      * 검색 키워드를 HTML 하이라이트 태그로 감싸기
@@ -2140,7 +2200,7 @@ public class DeviceService {
      * 담당자별 장비 조회 (학교와 담당자로 필터링)
      */
     public List<Device> findDevicesByOperator(Long schoolId, Long operatorId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         
         Operator operator = operatorService.getOperatorById(operatorId)
@@ -2153,7 +2213,7 @@ public class DeviceService {
      * 담당자 이름으로 장비 조회 (학교와 담당자 이름으로 필터링)
      */
     public List<Device> findDevicesByOperatorName(Long schoolId, String operatorName) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + schoolId));
         
         if (operatorName == null || operatorName.trim().isEmpty()) {
@@ -0,0 +1,210 @@
+package com.inet.service;
+
+import com.inet.config.SqlStatementStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내보내기 전용 실행기 (PPT/엑셀/ZIP 생성)
+ * - 요청은 가상 스레드에서 처리하지만 POI(xmlbeans)는 synchronized 구간이 많아 캐리어 스레드를 고정하므로
+ *   플랫폼 스레드 풀에서 실행하고 동시 실행 수를 inet.export.max-concurrent로 제한
+ * - 대기열(inet.export.queue-capacity)이 가득 차거나 대기 시간(inet.export.queue-timeout-seconds)을 넘기면 503
+ * - 작업은 읽기 전용 트랜잭션 안에서 실행 (작업 중 지연 로딩용 세션 유지)
+ */
+@Service
+public class ExportExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportExecutor.class);
+
+    // 내보내기 스레드 안에서 다시 호출되면 대기열을 거치지 않음 (풀이 가득 찬 상태의 교착 방지)
+    private static final ThreadLocal<Boolean> EXPORT_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long queueTimeoutMillis;
+
+    public ExportExecutor(PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${inet.export.max-concurrent:2}") int maxConcurrent,
+                          @Value("${inet.export.queue-capacity:20}") int queueCapacity,
+                          @Value("${inet.export.queue-timeout-seconds:60}") long queueTimeoutSeconds) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.queueTimeoutMillis = TimeUnit.SECONDS.toMillis(queueTimeoutSeconds);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(() -> {
+                    EXPORT_THREAD.set(true);
+                    runnable.run();
+                }, "export-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        Gauge.builder("inet.exports.executor.running", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+        Gauge.builder("inet.exports.executor.queued", executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+        log.info("내보내기 실행기 - 동시 실행 {}개, 대기열 {}개, 대기 제한 {}초", maxConcurrent, queueCapacity, queueTimeoutSeconds);
+    }
+
+    /**
+     * 내보내기 스레드에서 작업을 실행하고 끝날 때까지 대기
+     * - 대기열 가득 참/대기 시간 초과: BusyException (작업은 실행되지 않음)
+     * - 작업이 시작된 뒤에는 응답 스트림을 쓰는 중일 수 있으므로 끝날 때까지 기다림
+     */
+    public <T> T execute(String name, Callable<T> task) throws Exception {
+        if (EXPORT_THREAD.get()) {
+            return task.call();
+        }
+
+        Callable<T> propagated = SqlStatementStats.propagate(task);
+        AtomicBoolean claimed = new AtomicBoolean();
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null; // 대기 시간 초과로 요청 쪽에서 포기한 작업
+                }
+                Timer.builder("inet.exports.executor.wait").tag("task", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return runInTransaction(propagated);
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy(name, "대기열 가득 참");
+        }
+
+        try {
+            future.get(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                throw busy(name, "대기 시간 초과");
+            }
+        } catch (ExecutionException e) {
+            // 아래 awaitResult에서 원래 예외로 다시 던짐
+        }
+        return awaitResult(future);
+    }
+
+    /**
+     * 내보내기 스레드에 작업을 넣고 바로 반환 (백그라운드 내보내기 작업용, 대기 시간 제한 없음)
+     * - 대기열이 가득 차면 BusyException
+     */
+    public <T> Future<T> submit(String name, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                Timer.builder("inet.exports.executor.wait").tag("task", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return runInTransaction(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy(name, "대기열 가득 참");
+        }
+    }
+
+    private <T> T runInTransaction(Callable<T> task) throws Exception {
+        try {
+            return transactionTemplate.execute(status -> {
+                try {
+                    return task.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CheckedFailure(e);
+                }
+            });
+        } catch (CheckedFailure e) {
+            throw e.failure;
+        }
+    }
+
+    // 시작된 작업은 요청 스레드가 인터럽트되어도 끝날 때까지 대기 (인터럽트 상태는 복원)
+    private static <T> T awaitResult(Future<T> future) throws Exception {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Exception exception) {
+                        throw exception;
+                    }
+                    if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private BusyException busy(String name, String reason) {
+        Counter.builder("inet.exports.executor.rejected").tag("task", name)
+            .register(meterRegistry)
+            .increment();
+        log.warn("내보내기 거절 - {}: {} (실행 중 {}, 대기 {})", name, reason,
+            executor.getActiveCount(), executor.getQueue().size());
+        return new BusyException();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 내보내기 요청이 몰려 받을 수 없음 (503)
+     */
+    public static class BusyException extends ResponseStatusException {
+        public BusyException() {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private static final class CheckedFailure extends RuntimeException {
+        private final Exception failure;
+
+        CheckedFailure(Exception failure) {
+            super(failure);
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.inet.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내보내기 작업 (장비/IP 대장, 무선AP, QR, PPT, ZIP)
+ * - 모든 내보내기는 작업으로 등록되어 ExportExecutor(동시 실행 수 제한)에서 실행되고 결과는 임시 파일로 저장
+ * - submit(): 바로 작업 ID를 반환하고 화면은 /export-jobs/{jobId}로 상태를 조회한 뒤 파일을 받음
+ * - run(): 기존 동기 다운로드용, 작업이 끝날 때까지 기다린 뒤 결과 파일을 돌려줌
+ *   (copyResult/takeResult로 한 번 전송하면 결과 파일과 작업을 바로 삭제)
+ * - 사용자별 진행 중 작업 수, 힙 사용률, 임시 파일 총량(작성 중인 파일 포함)을 넘으면 새 작업을 받지 않음
+ * - 결과 파일은 완료 후 inet.export.jobs.ttl-minutes 동안 보관 (작업 목록은 메모리에만 있으므로 재시작 시 초기화)
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * 내보내기 작업 상태
+     */
+    public record ExportJob(
+        String jobId,
+        Long userId,
+        String type,
+        String fileName,
+        String contentType,
+        Status status,
+        long sizeBytes,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+    ) {
+        public boolean isActive() {
+            return status == Status.QUEUED || status == Status.RUNNING;
+        }
+
+        ExportJob with(Status status, long sizeBytes, LocalDateTime finishedAt, String errorMessage) {
+            return new ExportJob(jobId, userId, type, fileName, contentType, status, sizeBytes,
+                createdAt, finishedAt, errorMessage);
+        }
+    }
+
+    /**
+     * 결과 파일 내용을 출력 스트림에 기록
+     */
+    @FunctionalInterface
+    public interface ExportWriter {
+        void write(OutputStream out) throws Exception;
+    }
+
+    private final ExportExecutor exportExecutor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    // 사용자별 작업 수 확인과 등록을 한 번에 처리하기 위한 잠금
+    private final Map<Long, Object> userLocks = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export-job-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${inet.export.jobs.dir:${java.io.tmpdir}/inet-exports}")
+    private String storeDir;
+
+    @Value("${inet.export.jobs.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${inet.export.jobs.per-user-limit:3}")
+    private int perUserLimit;
+
+    @Value("${inet.export.jobs.max-heap-usage-percent:85}")
+    private int maxHeapUsagePercent;
+
+    @Value("${inet.export.jobs.store-max-mb:1024}")
+    private long storeMaxMb;
+
+    private Path storePath;
+
+    public ExportJobService(ExportExecutor exportExecutor) {
+        this.exportExecutor = exportExecutor;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        storePath = Paths.get(storeDir).toAbsolutePath();
+        Files.createDirectories(storePath);
+        // 이전 실행에서 남은 결과 파일 정리 (작업 목록이 없어 받을 수 없음)
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(storePath, "*.export")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        cleaner.scheduleWithFixedDelay(this::removeExpired, 1, 1, TimeUnit.MINUTES);
+        log.info("내보내기 작업 저장소 - {} (보관 {}분)", storePath, ttlMinutes);
+    }
+
+    /**
+     * 작업 등록 후 바로 반환 (진행 상황은 getJob()으로 조회)
+     */
+    public ExportJob submit(Long userId, String type, String fileName, String contentType, ExportWriter writer) {
+        ExportJob job = register(userId, type, fileName, contentType);
+        try {
+            exportExecutor.submit(type, () -> {
+                try {
+                    return runJob(job, writer);
+                } catch (Exception e) {
+                    return null; // 실패 내용은 작업 상태에 기록됨
+                }
+            });
+        } catch (RuntimeException e) {
+            jobs.remove(job.jobId());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * 작업으로 실행하고 끝날 때까지 대기 (동기 다운로드용, 실패 시 원래 예외를 다시 던짐)
+     */
+    public ExportJob run(Long userId, String type, String fileName, String contentType, ExportWriter writer) throws Exception {
+        ExportJob job = register(userId, type, fileName, contentType);
+        try {
+            return exportExecutor.execute(type, () -> runJob(job, writer));
+        } catch (ExportExecutor.BusyException e) {
+            jobs.remove(job.jobId());
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 본인의 작업 조회 (없거나 다른 사용자 작업이면 null)
+     */
+    public ExportJob getJob(String jobId, Long userId) {
+        ExportJob job = jobs.get(jobId);
+        return job != null && job.userId().equals(userId) ? job : null;
+    }
+
+    public List<ExportJob> getJobs(Long userId) {
+        return jobs.values().stream()
+            .filter(job -> job.userId().equals(userId))
+            .sorted(Comparator.comparing(ExportJob::createdAt).reversed())
+            .toList();
+    }
+
+    /**
+     * 완료된 작업의 결과 파일 (보관 시간 동안 여러 번 받을 수 있음)
+     */
+    public Resource getResult(ExportJob job) {
+        return new FileSystemResource(completedPath(job));
+    }
+
+    /**
+     * 동기 다운로드 결과 파일 (응답 전송이 끝나 스트림이 닫히면 파일과 작업 삭제)
+     */
+    public Resource takeResult(ExportJob job) {
+        return new FileSystemResource(completedPath(job)) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            discard(job);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * 동기 다운로드 결과를 출력 스트림에 기록한 뒤 파일과 작업 삭제
+     */
+    public void copyResult(ExportJob job, OutputStream out) throws IOException {
+        try {
+            Files.copy(completedPath(job), out);
+        } finally {
+            discard(job);
+        }
+    }
+
+    private Path completedPath(ExportJob job) {
+        if (job.status() != Status.COMPLETED) {
+            throw new IllegalStateException("완료되지 않은 내보내기 작업입니다: " + job.jobId());
+        }
+        return resultPath(job);
+    }
+
+    private void discard(ExportJob job) {
+        jobs.remove(job.jobId());
+        try {
+            Files.deleteIfExists(resultPath(job));
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패 - {}: {}", job.jobId(), e.getMessage());
+        }
+    }
+
+    private ExportJob register(Long userId, String type, String fileName, String contentType) {
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsagePercent = (runtime.totalMemory() - runtime.freeMemory()) * 100 / runtime.maxMemory();
+        if (heapUsagePercent >= maxHeapUsagePercent) {
+            log.warn("내보내기 작업 거절 - 힙 사용률 {}%", heapUsagePercent);
+            throw new ExportExecutor.BusyException();
+        }
+
+        if (storedBytes() >= storeMaxMb * 1024 * 1024) {
+            removeExpired();
+            if (storedBytes() >= storeMaxMb * 1024 * 1024) {
+                log.warn("내보내기 작업 거절 - 임시 파일 {}MB 초과", storeMaxMb);
+                throw new ExportExecutor.BusyException();
+            }
+        }
+
+        // 같은 사용자의 동시 요청이 모두 확인을 통과한 뒤 등록되지 않도록 확인과 등록을 함께 잠금
+        synchronized (userLocks.computeIfAbsent(userId, id -> new Object())) {
+            long active = jobs.values().stream()
+                .filter(job -> job.userId().equals(userId) && job.isActive())
+                .count();
+            if (active >= perUserLimit) {
+                log.warn("내보내기 작업 거절 - userId: {}, 진행 중 {}건", userId, active);
+                throw new LimitException(perUserLimit);
+            }
+
+            ExportJob job = new ExportJob(UUID.randomUUID().toString(), userId, type, fileName, contentType,
+                Status.QUEUED, 0, LocalDateTime.now(), null, null);
+            jobs.put(job.jobId(), job);
+            return job;
+        }
+    }
+
+    private ExportJob runJob(ExportJob job, ExportWriter writer) throws Exception {
+        jobs.put(job.jobId(), job.with(Status.RUNNING, 0, null, null));
+        long startTime = System.currentTimeMillis();
+        Path file = resultPath(job);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                writer.write(out);
+            }
+            ExportJob completed = job.with(Status.COMPLETED, Files.size(file), LocalDateTime.now(), null);
+            jobs.put(job.jobId(), completed);
+            log.info("내보내기 작업 완료 - {} {} ({} bytes, {}ms)", job.type(), job.jobId(),
+                completed.sizeBytes(), System.currentTimeMillis() - startTime);
+            return completed;
+        } catch (Exception e) {
+            Files.deleteIfExists(file);
+            jobs.put(job.jobId(), job.with(Status.FAILED, 0, LocalDateTime.now(), e.getMessage()));
+            log.error("내보내기 작업 실패 - {} {}: {}", job.type(), job.jobId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // 완료된 결과 파일과 작성 중인 파일의 크기 합계
+    private long storedBytes() {
+        long total = 0;
+        for (ExportJob job : jobs.values()) {
+            if (job.status() == Status.COMPLETED) {
+                total += job.sizeBytes();
+            } else if (job.status() == Status.RUNNING) {
+                try {
+                    total += Files.size(resultPath(job));
+                } catch (IOException e) {
+                    // 아직 파일이 만들어지지 않음
+                }
+            }
+        }
+        return total;
+    }
+
+    private void removeExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(ttlMinutes);
+        for (ExportJob job : jobs.values()) {
+            if (job.finishedAt() != null && job.finishedAt().isBefore(expiredBefore)) {
+                jobs.remove(job.jobId());
+                try {
+                    Files.deleteIfExists(resultPath(job));
+                } catch (IOException e) {
+                    log.warn("만료된 내보내기 파일 삭제 실패 - {}: {}", job.jobId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Path resultPath(ExportJob job) {
+        return storePath.resolve(job.jobId() + ".export");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
+    }
+
+    /**
+     * 사용자별 진행 중 작업 수 초과 (429)
+     */
+    public static class LimitException extends ResponseStatusException {
+        public LimitException(int limit) {
+            super(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 내보내기 작업이 " + limit + "건을 넘었습니다. 완료 후 다시 시도해 주세요.");
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package com.inet.service;
 
+import com.inet.annotation.ExportTask;
 import com.inet.entity.School;
 import com.inet.repository.DeviceRepository;
 import com.inet.repository.FloorPlanRepository;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 @Service
+@Lazy
 public class FileDownloadService {
 
     private final DeviceService deviceService;
@@ -62,7 +64,12 @@ public class FileDownloadService {
         );
     }
 
-    public byte[] createArchive(Long schoolId, List<DownloadFileType> selectedTypes, Integer equipmentFontSize) {
+    /**
+     * 선택한 파일들을 ZIP으로 출력 스트림에 기록 (항목별로 생성 즉시 기록하여 전체 ZIP을 메모리에 두지 않음)
+     */
+    @ExportTask("zip")
+    public void writeArchive(Long schoolId, List<DownloadFileType> selectedTypes, Integer equipmentFontSize,
+                             OutputStream outputStream) {
         if (selectedTypes == null || selectedTypes.isEmpty()) {
             throw new IllegalArgumentException("다운로드할 파일을 선택해주세요.");
         }
@@ -70,37 +77,31 @@ public class FileDownloadService {
         School school = schoolService.getSchoolById(schoolId)
                 .orElseThrow(() -> new IllegalArgumentException("학교를 찾을 수 없습니다. (ID: " + schoolId + ")"));
 
-        Map<DownloadFileType, byte[]> fileContents = new EnumMap<>(DownloadFileType.class);
-
-        for (DownloadFileType type : selectedTypes) {
-            Optional<byte[]> content = switch (type) {
-                case DEVICE_LEDGER -> deviceService.generateDeviceLedgerExcel(schoolId);
-                case WIRELESS_AP_SUMMARY -> wirelessApExcelExportService.generateSchoolExcel(schoolId);
-                case IP_LEDGER -> ipExcelExportService.generateExcel(schoolId, null);
-                case DEVICE_FLOORPLAN -> generateFloorPlanPpt(schoolId, "equipment", equipmentFontSize);
-                case WIRELESS_AP_FLOORPLAN -> generateFloorPlanPpt(schoolId, "wireless-ap", equipmentFontSize);
-            };
-
-            content.ifPresent(bytes -> fileContents.put(type, bytes));
-        }
-
-        if (fileContents.isEmpty()) {
-            throw new IllegalStateException("선택한 항목에 다운로드할 수 있는 데이터가 없습니다.");
-        }
-
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ZipOutputStream zipOutputStream = new ZipOutputStream(baos)) {
-
-            for (Map.Entry<DownloadFileType, byte[]> entry : fileContents.entrySet()) {
-                String filename = buildFilename(entry.getKey(), school.getSchoolName());
-                ZipEntry zipEntry = new ZipEntry(filename);
-                zipOutputStream.putNextEntry(zipEntry);
-                zipOutputStream.write(entry.getValue());
-                zipOutputStream.closeEntry();
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        int written = 0;
+        try {
+            // 선택 순서와 관계없이 유형 순서대로, 중복 없이
+            for (DownloadFileType type : selectedTypes.stream().distinct().sorted().toList()) {
+                Optional<byte[]> content = switch (type) {
+                    case DEVICE_LEDGER -> deviceService.generateDeviceLedgerExcel(schoolId);
+                    case WIRELESS_AP_SUMMARY -> wirelessApExcelExportService.generateSchoolExcel(schoolId);
+                    case IP_LEDGER -> ipExcelExportService.generateExcel(schoolId, null);
+                    case DEVICE_FLOORPLAN -> generateFloorPlanPpt(schoolId, "equipment", equipmentFontSize);
+                    case WIRELESS_AP_FLOORPLAN -> generateFloorPlanPpt(schoolId, "wireless-ap", equipmentFontSize);
+                };
+
+                if (content.isPresent()) {
+                    zipOutputStream.putNextEntry(new ZipEntry(buildFilename(type, school.getSchoolName())));
+                    zipOutputStream.write(content.get());
+                    zipOutputStream.closeEntry();
+                    written++;
+                }
             }
 
+            if (written == 0) {
+                throw new IllegalStateException("선택한 항목에 다운로드할 수 있는 데이터가 없습니다.");
+            }
             zipOutputStream.finish();
-            return baos.toByteArray();
         } catch (IOException e) {
             throw new IllegalStateException("ZIP 파일 생성 중 오류가 발생했습니다.", e);
         }
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,16 @@ public class FloorPlanClassroomSyncService {
         }
     }
 
+    /**
+     * 교실 병합 시 원본 교실의 평면도 교실 요소를 대상 교실로 일괄 연결 (요소 배치는 유지)
+     */
+    public int moveClassroomElements(Long targetClassroomId, Collection<Long> sourceClassroomIds) {
+        if (targetClassroomId == null || sourceClassroomIds == null || sourceClassroomIds.isEmpty()) {
+            return 0;
+        }
+        return floorPlanElementRepository.updateReferenceIds(ELEMENT_TYPE_ROOM, targetClassroomId, sourceClassroomIds);
+    }
+
     public void removeClassroomElements(Long classroomId) {
         if (classroomId == null) {
             return;
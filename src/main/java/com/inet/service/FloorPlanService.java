@@ -2,6 +2,7 @@ package com.inet.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inet.annotation.MonitoredOperation;
 import com.inet.entity.*;
 import com.inet.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,6 +57,7 @@ public class FloorPlanService {
      * @return 성공 여부
      */
     @Transactional
+    @MonitoredOperation("inet.floorplan.save")
     public boolean saveFloorPlan(Long schoolId, Map<String, Object> floorPlanData) {
         try {
             logger.info("평면도 저장 시작 - schoolId: {}", schoolId);
@@ -540,6 +542,7 @@ public class FloorPlanService {
      * 평면도 로드 (성능 최적화)
      */
     @Transactional(readOnly = true)
+    @MonitoredOperation("inet.floorplan.load")
     public Map<String, Object> loadFloorPlan(Long schoolId) {
         Map<String, Object> result = new HashMap<>();
         
@@ -813,7 +816,7 @@ public class FloorPlanService {
     @Transactional(readOnly = true)
     public List<Classroom> getUnplacedClassrooms(Long schoolId) {
         // 해당 학교의 모든 교실 조회
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다"));
         List<Classroom> allClassrooms = classroomRepository.findBySchool(school);
         
@@ -841,7 +844,7 @@ public class FloorPlanService {
      */
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getWirelessApsBySchool(Long schoolId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다"));
         List<com.inet.entity.WirelessAp> aps = wirelessApRepository.findBySchool(school);
         
@@ -866,7 +869,7 @@ public class FloorPlanService {
      */
     @Transactional(readOnly = true)
     public Map<Long, List<Map<String, Object>>> getDevicesByClassroom(Long schoolId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다"));
         List<com.inet.entity.Device> devices = deviceRepository.findBySchool(school);
         
@@ -0,0 +1,297 @@
+package com.inet.service;
+
+import com.inet.annotation.ExportTask;
+import com.inet.repository.DeviceHistoryRepository;
+import com.inet.repository.WirelessApHistoryRepository;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 장비/무선AP 수정내역 엑셀 스트리밍 내보내기
+ * - DB 커서로 한 행씩 읽어 SXSSF로 바로 기록하므로 건수 제한 없이 메모리 사용량이 일정함
+ */
+@Service
+@Lazy
+public class HistoryExcelExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryExcelExportService.class);
+
+    // 메모리에 유지할 행 수 (초과분은 임시 파일로 flush)
+    private static final int ROW_ACCESS_WINDOW = 200;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] DEVICE_HEADERS = {"수정일시", "장비구분", "제조사", "모델명", "IP주소", "수정필드", "이전값", "변경값", "수정자"};
+    private static final String[] WIRELESS_AP_HEADERS = {"수정일시", "라벨번호", "위치", "수정필드", "이전값", "변경값", "수정자"};
+
+    private final DeviceHistoryService deviceHistoryService;
+    private final WirelessApHistoryService wirelessApHistoryService;
+
+    public HistoryExcelExportService(DeviceHistoryService deviceHistoryService,
+                                     WirelessApHistoryService wirelessApHistoryService) {
+        this.deviceHistoryService = deviceHistoryService;
+        this.wirelessApHistoryService = wirelessApHistoryService;
+    }
+
+    /**
+     * 장비 수정내역 엑셀을 출력 스트림에 기록
+     * @return 기록한 수정내역 건수
+     */
+    @ExportTask("device-history-excel")
+    @Transactional(readOnly = true)
+    public int writeDeviceHistoryExcel(Long schoolId, String schoolName, String searchType, String searchKeyword,
+                                       OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try (Stream<DeviceHistoryRepository.ExcelRow> rows =
+                     deviceHistoryService.streamDeviceHistoryForExcel(schoolId, searchType, searchKeyword)) {
+            SheetWriter writer = new SheetWriter(workbook, "장비수정내역", DEVICE_HEADERS.length);
+            writer.writeTitle((schoolName != null ? schoolName : "") + " 장비 수정목록", searchKeyword);
+            writer.writeHeader(DEVICE_HEADERS);
+
+            int count = 0;
+            Iterator<DeviceHistoryRepository.ExcelRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                DeviceHistoryRepository.ExcelRow history = iterator.next();
+                writer.writeDataRow(
+                        history.getModifiedAt().format(DATE_TIME_FORMATTER),
+                        valueOrDefault(history.getDeviceType(), "미지정"),
+                        valueOrDefault(history.getManufacturer(), "미지정"),
+                        valueOrDefault(history.getModelName(), "미지정"),
+                        valueOrDefault(history.getIpAddress(), "미지정"),
+                        deviceHistoryService.getFieldNameInKorean(history.getFieldName()),
+                        valueOrDefault(history.getBeforeValue(), "-"),
+                        valueOrDefault(history.getAfterValue(), "-"),
+                        valueOrDefault(history.getModifiedByName(), "미지정"));
+                count++;
+            }
+
+            writer.applyColumnWidths(DEVICE_HEADERS);
+            workbook.write(outputStream);
+            log.info("장비 수정내역 엑셀 스트리밍 완료 - schoolId: {}, {}건", schoolId, count);
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 무선AP 수정내역 엑셀을 출력 스트림에 기록
+     * @return 기록한 수정내역 건수
+     */
+    @ExportTask("wireless-ap-history-excel")
+    @Transactional(readOnly = true)
+    public int writeWirelessApHistoryExcel(Long schoolId, String schoolName, String keyword,
+                                           OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try (Stream<WirelessApHistoryRepository.ExcelRow> rows =
+                     wirelessApHistoryService.streamWirelessApHistoryForExcel(schoolId, keyword)) {
+            SheetWriter writer = new SheetWriter(workbook, "무선AP수정내역", WIRELESS_AP_HEADERS.length);
+            writer.writeTitle((schoolName != null ? schoolName : "") + " 무선AP 수정목록", keyword);
+            writer.writeHeader(WIRELESS_AP_HEADERS);
+
+            int count = 0;
+            Iterator<WirelessApHistoryRepository.ExcelRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                WirelessApHistoryRepository.ExcelRow history = iterator.next();
+
+                // 위치 (학교명 + 교실명)
+                String location;
+                if (history.getSchoolName() != null) {
+                    location = history.getSchoolName() + " - " + valueOrDefault(history.getRoomName(), "미지정");
+                } else {
+                    location = "미지정";
+                }
+
+                writer.writeDataRow(
+                        history.getModifiedAt().format(DATE_TIME_FORMATTER),
+                        valueOrDefault(history.getNewLabelNumber(), "미지정"),
+                        location,
+                        translateWirelessApFieldName(history.getFieldName()),
+                        valueOrDefault(history.getBeforeValue(), "-"),
+                        valueOrDefault(history.getAfterValue(), "-"),
+                        valueOrDefault(history.getModifiedByName(), "미지정"));
+                count++;
+            }
+
+            writer.applyColumnWidths(WIRELESS_AP_HEADERS);
+            workbook.write(outputStream);
+            log.info("무선AP 수정내역 엑셀 스트리밍 완료 - schoolId: {}, {}건", schoolId, count);
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private String valueOrDefault(String value, String defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 무선AP 필드명 한글 변환
+     */
+    private String translateWirelessApFieldName(String fieldName) {
+        if (fieldName == null) return "";
+
+        switch (fieldName) {
+            case "location": return "위치";
+            case "classroomType": return "교실구분";
+            case "newLabelNumber": return "라벨번호";
+            case "apYear": return "도입년도";
+            case "manufacturer": return "제조사";
+            case "model": return "모델";
+            case "macAddress": return "MAC 주소";
+            case "prevLabelNumber": return "기존라벨번호";
+            case "speed": return "속도";
+            default: return fieldName;
+        }
+    }
+
+    /**
+     * 행을 순차적으로 기록하면서 컬럼별 최대 길이를 함께 계산
+     * (SXSSF는 flush된 행을 다시 읽을 수 없으므로 기록 시점에 너비를 누적)
+     */
+    private static class SheetWriter {
+
+        private final Sheet sheet;
+        private final CellStyle headerStyle;
+        private final CellStyle dataStyle;
+        private final int[] maxLengths;
+        private int rowNum = 0;
+
+        SheetWriter(Workbook workbook, String sheetName, int columnCount) {
+            this.sheet = workbook.createSheet(sheetName);
+            this.headerStyle = createHeaderStyle(workbook);
+            this.dataStyle = createDataStyle(workbook);
+            this.maxLengths = new int[columnCount];
+        }
+
+        void writeTitle(String title, String keyword) {
+            // 제목 행
+            Row titleRow = sheet.createRow(rowNum++);
+            writeCell(titleRow, 0, title, headerStyle);
+            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, maxLengths.length - 1));
+
+            // 검색 키워드 행 (검색이 있는 경우)
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                Row keywordRow = sheet.createRow(rowNum++);
+                writeCell(keywordRow, 0, "검색 키워드: " + keyword.trim(), dataStyle);
+            }
+
+            // 빈 행
+            rowNum++;
+        }
+
+        void writeHeader(String[] headers) {
+            Row headerRow = sheet.createRow(rowNum++);
+            for (int i = 0; i < headers.length; i++) {
+                writeCell(headerRow, i, headers[i], headerStyle);
+            }
+        }
+
+        void writeDataRow(String... values) {
+            Row dataRow = sheet.createRow(rowNum++);
+            for (int i = 0; i < values.length; i++) {
+                writeCell(dataRow, i, values[i], dataStyle);
+            }
+        }
+
+        void applyColumnWidths(String[] headers) {
+            for (int i = 0; i < headers.length; i++) {
+                int maxLength = Math.max(headers[i].length(), maxLengths[i]);
+
+                // 너비 계산: 한글 기준으로 더 넓게 설정
+                int columnWidth = (int) (maxLength * 256 * 1.5) + 1000; // 여유 공간 추가
+                if (columnWidth < 2500) {
+                    columnWidth = 2500; // 최소 너비
+                }
+                // 엑셀 최대 컬럼 너비 (255자)
+                sheet.setColumnWidth(i, Math.min(columnWidth, 255 * 256));
+            }
+        }
+
+        private void writeCell(Row row, int column, String value, CellStyle style) {
+            Cell cell = row.createCell(column);
+            cell.setCellValue(value);
+            cell.setCellStyle(style);
+
+            int weightedLength = calculateWeightedLength(value);
+            if (weightedLength > maxLengths[column]) {
+                maxLengths[column] = weightedLength;
+            }
+        }
+
+        private static CellStyle createHeaderStyle(Workbook workbook) {
+            CellStyle style = workbook.createCellStyle();
+            Font font = workbook.createFont();
+            font.setBold(true);
+            font.setFontHeightInPoints((short) 12);
+            style.setFont(font);
+            style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            style.setBorderBottom(BorderStyle.THIN);
+            style.setBorderTop(BorderStyle.THIN);
+            style.setBorderRight(BorderStyle.THIN);
+            style.setBorderLeft(BorderStyle.THIN);
+            style.setAlignment(HorizontalAlignment.CENTER);
+            style.setVerticalAlignment(VerticalAlignment.CENTER);
+            return style;
+        }
+
+        private static CellStyle createDataStyle(Workbook workbook) {
+            CellStyle style = workbook.createCellStyle();
+            style.setBorderBottom(BorderStyle.THIN);
+            style.setBorderTop(BorderStyle.THIN);
+            style.setBorderRight(BorderStyle.THIN);
+            style.setBorderLeft(BorderStyle.THIN);
+            style.setAlignment(HorizontalAlignment.LEFT);
+            style.setVerticalAlignment(VerticalAlignment.CENTER);
+            return style;
+        }
+
+        /**
+         * 한글 문자를 고려한 가중치 길이 계산
+         */
+        private static int calculateWeightedLength(String text) {
+            if (text == null) {
+                return 0;
+            }
+            int length = 0;
+            for (char c : text.toCharArray()) {
+                // 한글, 한자, 일본어 등은 2배 가중치
+                if ((c >= 0xAC00 && c <= 0xD7A3) || // 한글
+                    (c >= 0x4E00 && c <= 0x9FFF) || // 한자
+                    (c >= 0x3040 && c <= 0x309F) || // 히라가나
+                    (c >= 0x30A0 && c <= 0x30FF)) { // 가타카나
+                    length += 2;
+                } else {
+                    length += 1;
+                }
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.inet.service;
+
+import com.inet.repository.DeviceRepository;
+import com.inet.util.IpAddressUtils;
+import jakarta.annotation.PreDestroy;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학교별 IP 사용 현황 (메모리 캐시)
+ * - /24 대역마다 256비트 BitSet(사용 여부)과 호스트 번호별 장비 ID 슬롯을 유지
+ * - 장비 등록/수정/삭제 시 해당 학교 항목을 커밋 후 무효화하고 다음 조회 때 정수 IP만 읽어 다시 구성
+ * - 빈 IP 찾기는 BitSet.nextClearBit 한 번으로 처리
+ */
+@Service
+public class IpOccupancyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IpOccupancyService.class);
+
+    // 사용 가능한 호스트 번호 (IP 목록 화면과 같은 1~254)
+    public static final int FIRST_HOST = 1;
+    public static final int LAST_HOST = 254;
+
+    // 무효화 누락(일괄 처리 등)에 대비한 최대 유지 시간
+    private static final long OCCUPANCY_CACHE_MINUTES = 30;
+
+    private final DeviceRepository deviceRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private final Cache<Long, SchoolIpOccupancy> occupancyCache = Cache2kBuilder.of(Long.class, SchoolIpOccupancy.class)
+        .name("ipOccupancy")
+        .entryCapacity(500)
+        .expireAfterWrite(OCCUPANCY_CACHE_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    public IpOccupancyService(DeviceRepository deviceRepository, PlatformTransactionManager transactionManager) {
+        this.deviceRepository = deviceRepository;
+        // 캐시 구성은 별도의 읽기/쓰기 트랜잭션 (복제 DB 분리 시에도 기본 DB에서 읽어 지연된 데이터를 30분간 캐시하지 않음)
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * /24 대역 하나의 사용 현황 (구성 후에는 읽기 전용)
+     */
+    public static final class Subnet {
+
+        private final BitSet used = new BitSet(256);
+        private final long[] deviceIds = new long[256];
+
+        private void occupy(int host, long deviceId) {
+            // 같은 IP가 여러 장비에 있으면 먼저 조회된(ID가 작은) 장비를 슬롯에 둠
+            if (!used.get(host)) {
+                used.set(host);
+                deviceIds[host] = deviceId;
+            }
+        }
+
+        public boolean isUsed(int host) {
+            return used.get(host);
+        }
+
+        /**
+         * 호스트 번호를 쓰는 장비 ID (없으면 null)
+         */
+        public Long getDeviceId(int host) {
+            return used.get(host) ? deviceIds[host] : null;
+        }
+
+        public int getUsedCount() {
+            return used.get(FIRST_HOST, LAST_HOST + 1).cardinality();
+        }
+
+        public int getFreeCount() {
+            return LAST_HOST - FIRST_HOST + 1 - getUsedCount();
+        }
+
+        /**
+         * 가장 낮은 빈 호스트 번호 (excludeDeviceId가 쓰는 번호는 빈 것으로 간주, 없으면 -1)
+         */
+        public int nextFreeHost(Long excludeDeviceId) {
+            int host = used.nextClearBit(FIRST_HOST);
+            if (excludeDeviceId != null) {
+                for (int own = FIRST_HOST; own < Math.min(host, LAST_HOST + 1); own++) {
+                    if (used.get(own) && deviceIds[own] == excludeDeviceId) {
+                        return own;
+                    }
+                }
+            }
+            return host <= LAST_HOST ? host : -1;
+        }
+    }
+
+    /**
+     * 학교 하나의 대역별 사용 현황
+     */
+    public static final class SchoolIpOccupancy {
+
+        private final Map<Long, Subnet> subnets = new HashMap<>();
+
+        private Subnet subnet(long prefix) {
+            return subnets.computeIfAbsent(prefix, key -> new Subnet());
+        }
+
+        /**
+         * 대역 조회 (장비가 하나도 없는 대역이면 null)
+         */
+        public Subnet getSubnet(int a, int b, int c) {
+            return subnets.get(IpAddressUtils.of(a, b, c, 0) >> 8);
+        }
+
+        /**
+         * 10.X.y.0/24 대역들의 두 번째 옥텟 목록 (오름차순)
+         */
+        public List<Integer> getSecondOctets() {
+            TreeSet<Integer> octets = new TreeSet<>();
+            for (Long prefix : subnets.keySet()) {
+                long network = prefix << 8;
+                if (((network >> 24) & 0xFF) == 10) {
+                    octets.add(IpAddressUtils.secondOctet(network));
+                }
+            }
+            return List.copyOf(octets);
+        }
+    }
+
+    /**
+     * 학교 IP 사용 현황 (캐시 우선, 없으면 기본 DB에서 정수 IP만 조회하여 구성)
+     */
+    public SchoolIpOccupancy getOccupancy(Long schoolId) {
+        return occupancyCache.computeIfAbsent(schoolId, key -> loadTransaction.execute(status -> {
+            SchoolIpOccupancy occupancy = new SchoolIpOccupancy();
+            List<DeviceRepository.IpSlotRow> rows = deviceRepository.findIpSlotsBySchoolId(schoolId);
+            for (DeviceRepository.IpSlotRow row : rows) {
+                long ip = row.getIpNumeric();
+                occupancy.subnet(ip >> 8).occupy(IpAddressUtils.hostOctet(ip), row.getDeviceId());
+            }
+            log.debug("IP 사용 현황 구성 - schoolId: {}, 장비 {}건, 대역 {}개", schoolId, rows.size(), occupancy.subnets.size());
+            return occupancy;
+        }));
+    }
+
+    /**
+     * 10.b.c.0/24 대역에서 가장 낮은 빈 IP (빈 IP가 없으면 null)
+     * @param excludeDeviceId 수정 중인 장비 ID (해당 장비가 쓰는 IP는 빈 것으로 간주)
+     */
+    public String findNextFreeIp(Long schoolId, int a, int b, int c, Long excludeDeviceId) {
+        Subnet subnet = getOccupancy(schoolId).getSubnet(a, b, c);
+        int host = subnet != null ? subnet.nextFreeHost(excludeDeviceId) : FIRST_HOST;
+        return host > 0 ? IpAddressUtils.toDotted(IpAddressUtils.of(a, b, c, host)) : null;
+    }
+
+    /**
+     * 학교 IP 사용 현황 무효화 (트랜잭션 안이면 커밋 후, 아니면 즉시)
+     */
+    public void invalidate(Long schoolId) {
+        if (schoolId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    occupancyCache.remove(schoolId);
+                }
+            });
+        } else {
+            occupancyCache.remove(schoolId);
+        }
+    }
+
+    @PreDestroy
+    void closeOccupancyCache() {
+        occupancyCache.close();
+    }
+}
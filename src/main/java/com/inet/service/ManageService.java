@@ -25,20 +25,20 @@ public class ManageService {
     private static final Logger log = LoggerFactory.getLogger(ManageService.class);
 
     public List<String> getManageCatesBySchool(Long schoolId) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new IllegalArgumentException("School not found"));
         
         return manageRepository.findDistinctManageCateBySchool(school);
     }
 
     public List<Integer> getYearsBySchoolAndManageCate(Long schoolId, String manageCate) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new IllegalArgumentException("School not found"));
         return manageRepository.findDistinctYearBySchoolAndManageCate(school, manageCate);
     }
 
     public Long getNextManageNum(Long schoolId, String manageCate, Integer year) {
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new IllegalArgumentException("School not found"));
         
         List<Manage> manages;
@@ -57,7 +57,7 @@ public class ManageService {
         log.info("=== getManageNumsWithNext 호출 ===");
         log.info("schoolId: {}, manageCate: {}, year: {}", schoolId, manageCate, year);
         
-        School school = schoolRepository.findById(schoolId)
+        School school = schoolRepository.findActiveById(schoolId)
             .orElseThrow(() -> new IllegalArgumentException("School not found"));
         
         List<Long> existingNums;
@@ -1,6 +1,8 @@
 package com.inet.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inet.annotation.ExportTask;
+import com.inet.annotation.MonitoredOperation;
 import com.inet.entity.FloorPlan;
 import com.inet.entity.FloorPlanElement;
 import com.inet.entity.School;
@@ -9,6 +11,7 @@ import com.inet.repository.FloorPlanRepository;
 import com.inet.repository.SchoolRepository;
 import org.apache.poi.xslf.usermodel.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.awt.*;
@@ -29,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
+@Lazy
 public class PPTExportService {
     
     private static final Logger log = LoggerFactory.getLogger(PPTExportService.class);
@@ -79,12 +83,15 @@ public class PPTExportService {
     /**
      * 학교별 평면도를 PPT 파일로 내보내기
      */
+    @ExportTask("ppt")
+    @MonitoredOperation(value = "inet.floorplan.export.ppt", modeParam = "mode",
+        modes = {"design", "view", "equipment", "wireless-ap"}, export = true)
     public ByteArrayOutputStream exportFloorPlanToPPT(Long schoolId, String mode, Integer equipmentFontSize) throws IOException {
         try {
             log.info("PPT 내보내기 시작 - schoolId: {}, mode: {}", schoolId, mode);
             
             // 학교 정보 조회
-            School school = schoolRepository.findById(schoolId)
+            School school = schoolRepository.findActiveById(schoolId)
                 .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다: " + schoolId));
             // 활성 평면도 조회
             List<FloorPlan> activeFloorPlans = floorPlanRepository.findAllBySchoolIdAndIsActive(schoolId, true);
@@ -1679,6 +1686,33 @@ public class PPTExportService {
         // 여백 없는 기준으로 줄바꿈: 교실 너비 전체 사용 (왼쪽/오른쪽 여백 0)
         double maxWidth = textWidth; // 여백 없이 교실 너비 전체 사용
         
+        // 줄바꿈 시뮬레이션으로 교실 크기 안에 맞는 폰트 크기와 줄 구성 계산
+        LabelFit fit = fitEquipmentLabel(label, requestedPptFontSize, maxWidth, maxHeight);
+        double pptFontSize = fit.fontSize();
+        java.util.List<String> finalLines = fit.lines();
+        
+        // 줄바꿈 시뮬레이션 결과를 사용하여 수동으로 줄바꿈 적용
+        // 장비종류+숫자 세트가 분리되지 않도록 각 줄을 \n으로 연결
+        String formattedLabel = String.join("\n", finalLines);
+        
+        textRun.setText(formattedLabel);
+        textRun.setFontSize(pptFontSize);
+        textRun.setFontColor(new Color(0xFF0000));
+            textRun.setBold(true);
+        
+        textShape.setVerticalAlignment(org.apache.poi.sl.usermodel.VerticalAlignment.MIDDLE);
+    }
+
+    /**
+     * 장비 라벨 폰트 크기/줄바꿈 계산 결과
+     */
+    record LabelFit(double fontSize, java.util.List<String> lines) {}
+
+    /**
+     * 장비 라벨("TV 1, DK 6" 형식)을 교실 텍스트 영역(maxWidth x maxHeight)에 맞추는 폰트 크기와 줄 구성 계산
+     * 장비종류와 숫자는 분리되지 않도록 쉼표 기준으로만 줄바꿈하며, 화면과 같이 이진 탐색으로 최대 폰트 크기를 찾음
+     */
+    static LabelFit fitEquipmentLabel(String label, double requestedPptFontSize, double maxWidth, double maxHeight) {
         // 줄바꿈을 시뮬레이션하여 최대 폰트 크기 계산
         // 장비종류와 숫자는 분리되지 않도록 쉼표 기준으로만 분리
         double maxFontSize = requestedPptFontSize;
@@ -1863,16 +1897,7 @@ public class PPTExportService {
             }
         }
         
-        // 줄바꿈 시뮬레이션 결과를 사용하여 수동으로 줄바꿈 적용
-        // 장비종류+숫자 세트가 분리되지 않도록 각 줄을 \n으로 연결
-        String formattedLabel = String.join("\n", finalLines);
-        
-        textRun.setText(formattedLabel);
-        textRun.setFontSize(pptFontSize);
-        textRun.setFontColor(new Color(0xFF0000));
-            textRun.setBold(true);
-        
-        textShape.setVerticalAlignment(org.apache.poi.sl.usermodel.VerticalAlignment.MIDDLE);
+        return new LabelFit(pptFontSize, finalLines);
     }
     
     /**
@@ -2901,7 +2926,7 @@ public class PPTExportService {
      * 텍스트 너비 추정 (대략적인 값)
      * 줄바꿈을 더 빡빡하게 하기 위해 실제보다 약간 작게 계산 (추정 오차 보정)
      */
-    private double estimateTextWidth(String text, double fontSize) {
+    static double estimateTextWidth(String text, double fontSize) {
         // 여백 없는 기준으로 더 정확하게 계산
         // 한글은 폰트 크기의 0.9배, 영문/숫자는 0.55배, 공백/쉼표는 0.3배
         // 추정 오차를 줄이기 위해 실제 값에 더 가깝게 계산
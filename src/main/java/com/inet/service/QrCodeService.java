@@ -1,11 +1,9 @@
 package com.inet.service;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.inet.annotation.ExportTask;
+import com.inet.annotation.MonitoredOperation;
 import com.inet.entity.Device;
 import com.inet.entity.School;
 import com.inet.entity.Uid;
@@ -14,20 +12,26 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Lazy
 public class QrCodeService {
     
     @Autowired
@@ -42,6 +46,9 @@ public class QrCodeService {
     @Autowired
     private DeviceService deviceService;
 
+    @Autowired
+    private QrImageRenderer qrImageRenderer;
+
     private static final List<String> DEFAULT_INFO_LINES = List.of("MANAGE", "MANUFACTURER", "MODEL", "UID");
     private static final DateTimeFormatter PURCHASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM");
     
@@ -52,24 +59,7 @@ public class QrCodeService {
      * @return QR 코드 이미지의 바이트 배열
      */
     public byte[] generateQrCode(String content, int size) throws WriterException, IOException {
-        Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
-        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-        hints.put(EncodeHintType.MARGIN, 1);
-        
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(content, BarcodeFormat.QR_CODE, size, size, hints);
-        
-        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
-        for (int x = 0; x < size; x++) {
-            for (int y = 0; y < size; y++) {
-                image.setRGB(x, y, bitMatrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF);
-            }
-        }
-        
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(image, "PNG", baos);
-        return baos.toByteArray();
+        return qrImageRenderer.render(content, size, ErrorCorrectionLevel.H);
     }
     
     /**
@@ -77,13 +67,16 @@ public class QrCodeService {
      * @param schoolId 학교 ID
      * @return 엑셀 파일의 바이트 배열
      */
+    @ExportTask("qr-excel")
+    @MonitoredOperation(value = "inet.qr.excel", export = true)
     public byte[] generateQrCodeExcel(Long schoolId, List<String> infoFields) throws IOException, WriterException {
         School school = schoolService.findById(schoolId)
                 .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
         
         List<Uid> uids = uidService.getUidsBySchoolId(schoolId);
+        Map<Long, Device> devicesByUidId = indexDevicesByUidId(deviceRepository.findWithAssociationsByUidSchoolId(schoolId));
         List<String> fieldConfig = normalizeInfoFields(infoFields);
-        return generateQrCodeExcelWithUids(school, uids, fieldConfig);
+        return generateQrCodeExcelWithUids(school, uids, devicesByUidId, fieldConfig);
     }
     
     /**
@@ -95,6 +88,8 @@ public class QrCodeService {
      * @param infoFields 정보 필드 목록
      * @return 엑셀 파일의 바이트 배열
      */
+    @ExportTask("qr-excel")
+    @MonitoredOperation(value = "inet.qr.excel", export = true)
     public byte[] generateQrCodeExcelFiltered(Long schoolId, String type, Long classroomId, String searchKeyword, List<String> infoFields) throws IOException, WriterException {
         School school = schoolService.findById(schoolId)
                 .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
@@ -115,17 +110,19 @@ public class QrCodeService {
                 .collect(Collectors.toList());
         
         List<String> fieldConfig = normalizeInfoFields(infoFields);
-        return generateQrCodeExcelWithUids(school, uids, fieldConfig);
+        return generateQrCodeExcelWithUids(school, uids, indexDevicesByUidId(filteredDevices), fieldConfig);
     }
     
     /**
      * Uid 리스트를 받아서 QR 코드 엑셀 파일을 생성합니다.
      * @param school 학교 객체
      * @param uids Uid 리스트
+     * @param devicesByUidId 고유번호 ID별 장비 (미리 조회한 결과)
      * @param fieldConfig 필드 설정
      * @return 엑셀 파일의 바이트 배열
      */
-    private byte[] generateQrCodeExcelWithUids(School school, List<Uid> uids, List<String> fieldConfig) throws IOException, WriterException {
+    private byte[] generateQrCodeExcelWithUids(School school, List<Uid> uids, Map<Long, Device> devicesByUidId,
+                                               List<String> fieldConfig) throws IOException, WriterException {
         try (Workbook workbook = new XSSFWorkbook()) {
             Sheet sheet = workbook.createSheet("QR코드");
             
@@ -162,9 +159,20 @@ public class QrCodeService {
             CreationHelper helper = workbook.getCreationHelper();
             Drawing<?> drawing = sheet.createDrawingPatriarch();
 
+            // QR 이미지는 시트 작성 전에 병렬로 미리 렌더링
+            final int qrPixels = (int) Math.round((3.6 / 2.54) * 96);
+            List<String> qrContents = new ArrayList<>(uids.size());
+            for (Uid uid : uids) {
+                String qrContent = resolveQrContent(uid);
+                if (qrContent != null) {
+                    qrContents.add(qrContent);
+                }
+            }
+            Map<String, byte[]> qrImages = qrImageRenderer.renderAll(qrContents, qrPixels, ErrorCorrectionLevel.H);
+
             for (int index = 0; index < uids.size(); index++) {
                 Uid uid = uids.get(index);
-                Device device = deviceRepository.findByUid(uid).orElse(null);
+                Device device = devicesByUidId.get(uid.getUidId());
 
                 int blockRowIndex = index / blocksPerRow;
                 int blockColIndex = index % blocksPerRow;
@@ -208,14 +216,9 @@ public class QrCodeService {
                     infoCell.setCellValue(infoLines.get(r));
                 }
 
-                String qrContent = uid.getDisplayUid();
-                if (qrContent == null || qrContent.isBlank()) {
-                    qrContent = uid.getDisplayId();
-                }
-
-                if (qrContent != null && !qrContent.isBlank()) {
-                    int qrPixels = (int) Math.round((3.6 / 2.54) * 96);
-                    byte[] qrCodeBytes = generateQrCode(qrContent, qrPixels);
+                String qrContent = resolveQrContent(uid);
+                if (qrContent != null) {
+                    byte[] qrCodeBytes = qrImages.get(qrContent);
                     int pictureIndex = workbook.addPicture(qrCodeBytes, Workbook.PICTURE_TYPE_PNG);
                     
                     ClientAnchor anchor = helper.createClientAnchor();
@@ -236,6 +239,52 @@ public class QrCodeService {
         }
     }
     
+    /**
+     * QR 라벨을 벡터(SVG) 인쇄용 문서로 출력 스트림에 기록합니다.
+     * 필터 조건이 모두 비어 있으면 학교의 모든 고유번호를 출력합니다.
+     * @return 기록한 라벨 수
+     */
+    @ExportTask("qr-vector")
+    @MonitoredOperation(value = "inet.qr.vector", export = true)
+    public int writeQrCodeVectorSheet(Long schoolId, String type, Long classroomId, String searchKeyword,
+                                      List<String> infoFields, OutputStream outputStream) throws IOException, WriterException {
+        School school = schoolService.findById(schoolId)
+                .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
+
+        List<Uid> uids;
+        Map<Long, Device> devicesByUidId;
+        boolean filtered = (type != null && !type.isBlank()) || classroomId != null
+                || (searchKeyword != null && !searchKeyword.trim().isEmpty());
+        if (filtered) {
+            List<Device> filteredDevices;
+            if (searchKeyword != null && !searchKeyword.trim().isEmpty()) {
+                filteredDevices = deviceService.searchDevices(schoolId, type, classroomId, searchKeyword);
+            } else {
+                filteredDevices = deviceService.findFiltered(schoolId, type, classroomId);
+            }
+            uids = filteredDevices.stream()
+                    .filter(device -> device.getUid() != null)
+                    .map(Device::getUid)
+                    .distinct()
+                    .collect(Collectors.toList());
+            devicesByUidId = indexDevicesByUidId(filteredDevices);
+        } else {
+            uids = uidService.getUidsBySchoolId(schoolId);
+            devicesByUidId = indexDevicesByUidId(deviceRepository.findWithAssociationsByUidSchoolId(schoolId));
+        }
+
+        List<String> fieldConfig = normalizeInfoFields(infoFields);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        QrSvgLabelSheetWriter sheetWriter = new QrSvgLabelSheetWriter(writer, school.getSchoolName(), fieldConfig.size());
+        sheetWriter.writeDocumentStart();
+        for (Uid uid : uids) {
+            Device device = devicesByUidId.get(uid.getUidId());
+            List<String> infoLines = buildInfoLines(fieldConfig, uid, device, true);
+            sheetWriter.writeLabel(resolveQrContent(uid), infoLines, ErrorCorrectionLevel.H);
+        }
+        return sheetWriter.finish();
+    }
+    
     /**
      * 헤더 스타일을 생성합니다.
      */
@@ -286,6 +335,31 @@ public class QrCodeService {
         return style;
     }
 
+    /**
+     * QR 코드에 담을 내용 (표시용 고유번호, 없으면 표시 ID). 둘 다 없으면 null
+     */
+    private String resolveQrContent(Uid uid) {
+        String qrContent = uid.getDisplayUid();
+        if (qrContent == null || qrContent.isBlank()) {
+            qrContent = uid.getDisplayId();
+        }
+        return (qrContent != null && !qrContent.isBlank()) ? qrContent : null;
+    }
+
+    /**
+     * 장비 목록을 고유번호 ID 기준으로 색인합니다 (라벨마다 장비를 다시 조회하지 않도록).
+     * 같은 고유번호에 장비가 여러 개면 먼저 나온 장비를 사용합니다.
+     */
+    private Map<Long, Device> indexDevicesByUidId(Collection<Device> devices) {
+        Map<Long, Device> devicesByUidId = new HashMap<>();
+        for (Device device : devices) {
+            if (device.getUid() != null && device.getUid().getUidId() != null) {
+                devicesByUidId.putIfAbsent(device.getUid().getUidId(), device);
+            }
+        }
+        return devicesByUidId;
+    }
+
     private List<String> normalizeInfoFields(List<String> infoFields) {
         List<String> normalized = new ArrayList<>(DEFAULT_INFO_LINES);
         if (infoFields != null) {
@@ -413,13 +487,15 @@ public class QrCodeService {
      * @param infoFields 설정된 정보 필드 목록
      * @return 엑셀 파일의 바이트 배열
      */
+    @ExportTask("qr-data-excel")
     public byte[] generateDataExcel(Long schoolId, List<String> infoFields) throws IOException {
         School school = schoolService.findById(schoolId)
                 .orElseThrow(() -> new RuntimeException("학교를 찾을 수 없습니다."));
         
         List<Uid> uids = uidService.getUidsBySchoolId(schoolId);
+        Map<Long, Device> devicesByUidId = indexDevicesByUidId(deviceRepository.findWithAssociationsByUidSchoolId(schoolId));
         List<String> fieldConfig = normalizeInfoFields(infoFields);
-        return generateDataExcelWithUids(uids, fieldConfig);
+        return generateDataExcelWithUids(uids, devicesByUidId, fieldConfig);
     }
     
     /**
@@ -431,6 +507,7 @@ public class QrCodeService {
      * @param infoFields 설정된 정보 필드 목록
      * @return 엑셀 파일의 바이트 배열
      */
+    @ExportTask("qr-data-excel")
     public byte[] generateDataExcelFiltered(Long schoolId, String type, Long classroomId, String searchKeyword, List<String> infoFields) throws IOException {
         // 필터링된 장비 목록 가져오기
         List<Device> filteredDevices;
@@ -448,16 +525,18 @@ public class QrCodeService {
                 .collect(Collectors.toList());
         
         List<String> fieldConfig = normalizeInfoFields(infoFields);
-        return generateDataExcelWithUids(uids, fieldConfig);
+        return generateDataExcelWithUids(uids, indexDevicesByUidId(filteredDevices), fieldConfig);
     }
     
     /**
      * Uid 리스트를 받아서 데이터 엑셀 파일을 생성합니다.
      * @param uids Uid 리스트
+     * @param devicesByUidId 고유번호 ID별 장비 (미리 조회한 결과)
      * @param fieldConfig 필드 설정
      * @return 엑셀 파일의 바이트 배열
      */
-    private byte[] generateDataExcelWithUids(List<Uid> uids, List<String> fieldConfig) throws IOException {
+    private byte[] generateDataExcelWithUids(List<Uid> uids, Map<Long, Device> devicesByUidId,
+                                             List<String> fieldConfig) throws IOException {
         // NONE이 아닌 필드만 추출 (최대 4개: A~D열)
         List<String> activeFields = new ArrayList<>();
         for (String field : fieldConfig) {
@@ -479,7 +558,7 @@ public class QrCodeService {
             // 데이터 행 생성 (헤더 없이 바로 데이터부터 시작)
             for (int index = 0; index < uids.size(); index++) {
                 Uid uid = uids.get(index);
-                Device device = deviceRepository.findByUid(uid).orElse(null);
+                Device device = devicesByUidId.get(uid.getUidId());
                 
                 Row dataRow = sheet.createRow(index);
                 dataRow.setHeightInPoints(18f);
@@ -0,0 +1,165 @@
+package com.inet.service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitArray;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import jakarta.annotation.PreDestroy;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * QR 코드 PNG 렌더링
+ * - BitMatrix 행을 1비트(흑/백) 이미지 버퍼에 바로 채워 PNG로 기록
+ * - (내용, 크기, 오류정정 레벨) 기준으로 PNG 바이트를 캐시하여 재출력 시 인코딩 생략
+ * - 라벨이 많을 때는 전용 ForkJoinPool에서 병렬로 인코딩
+ */
+@Service
+@Lazy
+public class QrImageRenderer {
+
+    private static final Logger log = LoggerFactory.getLogger(QrImageRenderer.class);
+
+    // 캐시할 최대 PNG 개수 (3.6cm 라벨 기준 1개당 약 1KB 미만)
+    private static final int PNG_CACHE_CAPACITY = 20000;
+
+    // 이 개수 이하면 병렬 처리 없이 호출 스레드에서 바로 렌더링
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private final Cache<String, byte[]> pngCache = Cache2kBuilder.of(String.class, byte[].class)
+        .name("qrPng")
+        .entryCapacity(PNG_CACHE_CAPACITY)
+        .eternal(true)
+        .build();
+
+    private final ForkJoinPool renderPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * QR 코드 PNG 바이트 반환 (캐시 우선)
+     */
+    public byte[] render(String content, int size, ErrorCorrectionLevel ecc) throws WriterException {
+        String key = cacheKey(content, size, ecc);
+        byte[] cached = pngCache.peek(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] png = encodePng(content, size, ecc);
+        pngCache.put(key, png);
+        return png;
+    }
+
+    /**
+     * 여러 QR 코드를 병렬로 렌더링
+     * @return 내용별 PNG 바이트 (중복 내용은 한 번만 인코딩)
+     */
+    public Map<String, byte[]> renderAll(Collection<String> contents, int size, ErrorCorrectionLevel ecc) throws WriterException {
+        Set<String> distinct = new LinkedHashSet<>(contents);
+        Map<String, byte[]> result = new LinkedHashMap<>();
+
+        if (distinct.size() <= PARALLEL_THRESHOLD) {
+            for (String content : distinct) {
+                result.put(content, render(content, size, ecc));
+            }
+            return result;
+        }
+
+        List<String> keys = new ArrayList<>(distinct);
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(keys.size());
+        for (String content : keys) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return render(content, size, ecc);
+                } catch (WriterException e) {
+                    throw new CompletionException(e);
+                }
+            }, renderPool));
+        }
+
+        try {
+            for (int i = 0; i < keys.size(); i++) {
+                result.put(keys.get(i), futures.get(i).join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof WriterException writerException) {
+                throw writerException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        log.debug("QR 코드 병렬 렌더링 완료 - {}건", keys.size());
+        return result;
+    }
+
+    byte[] encodePng(String content, int size, ErrorCorrectionLevel ecc) throws WriterException {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ecc);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        hints.put(EncodeHintType.MARGIN, 1);
+
+        BitMatrix bitMatrix = new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, size, size, hints);
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+
+        // TYPE_BYTE_BINARY: 1픽셀 1비트, 행 단위 MSB 우선, 0=검정 / 1=흰색
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        int bytesPerRow = (width + 7) / 8;
+
+        BitArray row = new BitArray(width);
+        for (int y = 0; y < height; y++) {
+            row = bitMatrix.getRow(y, row);
+            int offset = y * bytesPerRow;
+            for (int x = 0; x < width; x++) {
+                if (!row.get(x)) {
+                    pixels[offset + (x >> 3)] |= (byte) (0x80 >> (x & 7));
+                }
+            }
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "PNG", baos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    private String cacheKey(String content, int size, ErrorCorrectionLevel ecc) {
+        return ecc.name() + ':' + size + ':' + content;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+        pngCache.close();
+    }
+}
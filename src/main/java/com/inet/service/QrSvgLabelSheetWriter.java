@@ -0,0 +1,200 @@
+package com.inet.service;
+
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import com.google.zxing.qrcode.encoder.QRCode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * QR 라벨 벡터 출력 (A4 페이지별 SVG를 인쇄용 HTML 한 파일로 기록)
+ * - 엑셀 QR 시트와 같은 배치: 한 줄에 2블록, 블록마다 QR 칸 + 정보 줄
+ * - QR 모듈은 가로로 이어진 구간을 하나의 사각형으로 합쳐 path 하나로 출력
+ * - 페이지가 찰 때마다 바로 flush 하므로 라벨 수와 관계없이 메모리 사용량이 일정함
+ */
+class QrSvgLabelSheetWriter {
+
+    // 단위: mm
+    private static final double PAGE_WIDTH = 210;
+    private static final double PAGE_HEIGHT = 297;
+    private static final double PAGE_MARGIN = 10;
+    private static final double TITLE_HEIGHT = 10;
+    private static final int BLOCKS_PER_ROW = 2;
+    private static final double BLOCK_WIDTH = (PAGE_WIDTH - PAGE_MARGIN * 2) / BLOCKS_PER_ROW;
+    private static final double QR_BOX_SIZE = 36; // 엑셀 라벨과 같은 3.6cm
+    private static final double QR_INSET = 1;
+    private static final double ROW_SPACING = 6;
+    private static final int QR_QUIET_ZONE = 1;
+    private static final double FONT_SIZE = 3.2; // 약 9pt
+    private static final double BORDER_WIDTH = 0.2;
+
+    private final Writer out;
+    private final String title;
+    private final int infoLineCount;
+    private final int blockRowsPerPage;
+    private final Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+
+    private int labelsOnPage = 0;
+    private int labelCount = 0;
+    private boolean pageOpen = false;
+
+    QrSvgLabelSheetWriter(Writer out, String title, int infoLineCount) {
+        this.out = out;
+        this.title = title != null ? title : "";
+        this.infoLineCount = Math.max(infoLineCount, 1);
+        double usableHeight = PAGE_HEIGHT - PAGE_MARGIN * 2 - TITLE_HEIGHT + ROW_SPACING;
+        this.blockRowsPerPage = Math.max(1, (int) (usableHeight / (QR_BOX_SIZE + ROW_SPACING)));
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+    }
+
+    void writeDocumentStart() throws IOException {
+        out.write("<!DOCTYPE html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"UTF-8\">\n<title>");
+        out.write(escape(title));
+        out.write(" QR 라벨</title>\n<style>\n"
+                + "@page { size: A4; margin: 0; }\n"
+                + "body { margin: 0; }\n"
+                + "svg { display: block; page-break-after: always; break-after: page; }\n"
+                + "svg text { font-family: 'Malgun Gothic', '맑은 고딕', sans-serif; }\n"
+                + "</style>\n</head>\n<body>\n");
+    }
+
+    /**
+     * 라벨 한 개 기록 (qrContent가 null이면 QR 칸은 비워 둠)
+     */
+    void writeLabel(String qrContent, List<String> infoLines, ErrorCorrectionLevel ecc) throws IOException, WriterException {
+        if (!pageOpen) {
+            openPage();
+        }
+
+        int blockRow = labelsOnPage / BLOCKS_PER_ROW;
+        int blockCol = labelsOnPage % BLOCKS_PER_ROW;
+        double x = PAGE_MARGIN + blockCol * BLOCK_WIDTH;
+        double y = PAGE_MARGIN + TITLE_HEIGHT + blockRow * (QR_BOX_SIZE + ROW_SPACING);
+
+        out.write("<g>");
+        writeRect(x, y, QR_BOX_SIZE, QR_BOX_SIZE);
+        if (qrContent != null) {
+            writeQrPath(qrContent, ecc, x + QR_INSET, y + QR_INSET, QR_BOX_SIZE - QR_INSET * 2);
+        }
+
+        double infoX = x + QR_BOX_SIZE;
+        double infoWidth = BLOCK_WIDTH - QR_BOX_SIZE;
+        double lineHeight = QR_BOX_SIZE / infoLineCount;
+        for (int i = 0; i < infoLineCount; i++) {
+            double lineY = y + i * lineHeight;
+            writeRect(infoX, lineY, infoWidth, lineHeight);
+            String line = i < infoLines.size() ? infoLines.get(i) : "";
+            if (line != null && !line.isEmpty()) {
+                out.write("<text x=\"" + fmt(infoX + 2) + "\" y=\"" + fmt(lineY + lineHeight / 2)
+                        + "\" font-size=\"" + fmt(FONT_SIZE) + "\" dominant-baseline=\"middle\">");
+                out.write(escape(line));
+                out.write("</text>");
+            }
+        }
+        out.write("</g>\n");
+
+        labelCount++;
+        labelsOnPage++;
+        if (labelsOnPage >= blockRowsPerPage * BLOCKS_PER_ROW) {
+            closePage();
+        }
+    }
+
+    /**
+     * 열린 페이지와 문서를 닫음
+     * @return 기록한 라벨 수
+     */
+    int finish() throws IOException {
+        if (pageOpen) {
+            closePage();
+        }
+        out.write("</body>\n</html>\n");
+        out.flush();
+        return labelCount;
+    }
+
+    private void openPage() throws IOException {
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + fmt(PAGE_WIDTH) + "mm\" height=\""
+                + fmt(PAGE_HEIGHT) + "mm\" viewBox=\"0 0 " + fmt(PAGE_WIDTH) + " " + fmt(PAGE_HEIGHT) + "\">\n");
+        out.write("<text x=\"" + fmt(PAGE_WIDTH / 2) + "\" y=\"" + fmt(PAGE_MARGIN + TITLE_HEIGHT / 2)
+                + "\" font-size=\"5\" font-weight=\"bold\" text-anchor=\"middle\" dominant-baseline=\"middle\">");
+        out.write(escape(title));
+        out.write("</text>\n");
+        pageOpen = true;
+        labelsOnPage = 0;
+    }
+
+    private void closePage() throws IOException {
+        out.write("</svg>\n");
+        out.flush();
+        pageOpen = false;
+    }
+
+    /**
+     * QR 모듈을 행 단위 구간(run)으로 합쳐 path 하나로 기록 (모듈 좌표계 + scale 변환)
+     */
+    private void writeQrPath(String content, ErrorCorrectionLevel ecc, double x, double y, double size)
+            throws IOException, WriterException {
+        QRCode qrCode = Encoder.encode(content, ecc, hints);
+        ByteMatrix matrix = qrCode.getMatrix();
+        int modules = matrix.getWidth();
+        double moduleSize = size / (modules + QR_QUIET_ZONE * 2);
+
+        StringBuilder path = new StringBuilder(modules * modules / 2);
+        for (int row = 0; row < modules; row++) {
+            int col = 0;
+            while (col < modules) {
+                if (matrix.get(col, row) != 1) {
+                    col++;
+                    continue;
+                }
+                int start = col;
+                while (col < modules && matrix.get(col, row) == 1) {
+                    col++;
+                }
+                int run = col - start;
+                path.append('M').append(start + QR_QUIET_ZONE).append(' ').append(row + QR_QUIET_ZONE)
+                    .append('h').append(run).append("v1h-").append(run).append('z');
+            }
+        }
+
+        out.write("<path shape-rendering=\"crispEdges\" transform=\"translate(" + fmt(x) + " " + fmt(y)
+                + ") scale(" + fmt(moduleSize) + ")\" d=\"");
+        out.write(path.toString());
+        out.write("\"/>");
+    }
+
+    private void writeRect(double x, double y, double width, double height) throws IOException {
+        out.write("<rect x=\"" + fmt(x) + "\" y=\"" + fmt(y) + "\" width=\"" + fmt(width) + "\" height=\"" + fmt(height)
+                + "\" fill=\"none\" stroke=\"#000\" stroke-width=\"" + fmt(BORDER_WIDTH) + "\"/>");
+    }
+
+    private static String fmt(double value) {
+        String formatted = String.format(Locale.ROOT, "%.3f", value);
+        // 불필요한 소수점 0 제거
+        formatted = formatted.replaceAll("0+$", "");
+        return formatted.endsWith(".") ? formatted.substring(0, formatted.length() - 1) : formatted;
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '&': sb.append("&amp;"); break;
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '"': sb.append("&quot;"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
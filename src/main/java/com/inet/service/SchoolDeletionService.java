@@ -0,0 +1,281 @@
+package com.inet.service;
+
+import com.inet.entity.School;
+import com.inet.repository.SchoolRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 학교 전체 데이터 백그라운드 삭제
+ * - 테이블마다 PK 구간 단위(최대 CHUNK_SIZE건)로 나누어 짧은 트랜잭션으로 삭제하여 잠금 시간을 최소화
+ * - 삭제 중인 학교는 school.deleting = 1 로 표시되어 학교 목록 조회에서 제외됨
+ * - 진행 상황은 getProgress()로 조회
+ */
+@Service
+public class SchoolDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchoolDeletionService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String DEVICE_IDS = "SELECT device_id FROM device WHERE school_id = ?1";
+    private static final String WIRELESS_AP_IDS = "SELECT id FROM wireless_ap WHERE school_id = ?1";
+
+    /**
+     * 삭제 단계 (참조하는 테이블 먼저, DataManagementService.deleteSchoolData와 같은 순서)
+     * condition은 ?1 에 학교 ID가 바인딩되는 WHERE 조건
+     */
+    private record Step(String label, String table, String idColumn, String condition) {}
+
+    private static final List<Step> STEPS = List.of(
+        new Step("장비 검사 상태", "device_inspection_status", "id", "school_id = ?1"),
+        new Step("장비 검사 결과", "device_inspection_result", "id", "school_id = ?1"),
+        new Step("장비 검사 이력", "device_inspection_history", "id", "school_id = ?1"),
+        new Step("장비 수정내역", "device_history", "history_id", "device_id IN (" + DEVICE_IDS + ")"),
+        new Step("무선AP 수정내역", "wireless_ap_history", "history_id", "ap_id IN (" + WIRELESS_AP_IDS + ")"),
+        new Step("장비 위치", "device_location", "device_location_id", "device_id IN (" + DEVICE_IDS + ")"),
+        new Step("무선AP 위치", "wireless_ap_location", "ap_location_id", "wireless_ap_id IN (" + WIRELESS_AP_IDS + ")"),
+        new Step("장비", "device", "device_id", "school_id = ?1"),
+        new Step("무선AP", "wireless_ap", "id", "school_id = ?1"),
+        new Step("평면도 요소", "floor_plan_elements", "id", "floor_plan_id IN (SELECT id FROM floor_plans WHERE school_id = ?1)"),
+        new Step("평면도", "floor_plans", "id", "school_id = ?1"),
+        new Step("네트워크 장비", "network_equipment", "equipment_id", "school_id = ?1"),
+        new Step("좌석", "room_seat", "seat_id", "floor_room_id IN (SELECT floor_room_id FROM floor_room WHERE school_id = ?1)"),
+        new Step("평면도 교실", "floor_room", "floor_room_id",
+            "(school_id = ?1 OR building_id IN (SELECT building_id FROM building WHERE school_id = ?1))"),
+        new Step("건물", "building", "building_id", "school_id = ?1"),
+        new Step("교실", "classroom", "classroom_id", "school_id = ?1"),
+        new Step("고유번호", "uid", "uid_id", "school_id = ?1"),
+        new Step("운영자", "operator", "operator_id", "school_id = ?1"),
+        new Step("관리번호", "manage", "manage_id", "school_id = ?1")
+    );
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    /**
+     * 삭제 진행 상황
+     */
+    public record DeletionProgress(
+        Long schoolId,
+        String schoolName,
+        Status status,
+        String currentStep,
+        int stepIndex,
+        int stepCount,
+        long totalRows,
+        long deletedRows,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+    ) {
+        public int getPercent() {
+            if (status == Status.COMPLETED) return 100;
+            if (totalRows <= 0) return 0;
+            return (int) Math.min(99, deletedRows * 100 / totalRows);
+        }
+    }
+
+    private final SchoolRepository schoolRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final IpOccupancyService ipOccupancyService;
+    private final DeviceInspectionStatusService deviceInspectionStatusService;
+
+    private final Map<Long, DeletionProgress> progressBySchool = new ConcurrentHashMap<>();
+
+    // 삭제 작업은 한 번에 하나씩 순차 처리 (DB 부하 분산)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "school-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchoolDeletionService(SchoolRepository schoolRepository, EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager, IpOccupancyService ipOccupancyService,
+                                 DeviceInspectionStatusService deviceInspectionStatusService) {
+        this.schoolRepository = schoolRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ipOccupancyService = ipOccupancyService;
+        this.deviceInspectionStatusService = deviceInspectionStatusService;
+    }
+
+    /**
+     * 학교 데이터 삭제 작업 시작 (이미 진행 중이면 현재 진행 상황 반환)
+     */
+    public DeletionProgress startDeletion(Long schoolId) {
+        School school = schoolRepository.findById(schoolId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학교입니다: " + schoolId));
+
+        DeletionProgress initial = new DeletionProgress(schoolId, school.getSchoolName(), Status.RUNNING,
+            null, 0, STEPS.size(), 0, 0, LocalDateTime.now(), null, null);
+        DeletionProgress existing = progressBySchool.putIfAbsent(schoolId, initial);
+        if (existing != null) {
+            if (existing.status() == Status.RUNNING) {
+                return existing;
+            }
+            progressBySchool.put(schoolId, initial);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> schoolRepository.updateDeleting(schoolId, true));
+        executor.submit(() -> runDeletion(initial));
+        logger.info("School data deletion queued - schoolId: {}", schoolId);
+        return initial;
+    }
+
+    /**
+     * 삭제 진행 상황 조회 (작업 이력이 없으면 null)
+     */
+    public DeletionProgress getProgress(Long schoolId) {
+        return progressBySchool.get(schoolId);
+    }
+
+    public List<DeletionProgress> getAllProgress() {
+        return new ArrayList<>(progressBySchool.values());
+    }
+
+    /**
+     * 서버 재시작 등으로 중단된 삭제 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedDeletions() {
+        for (School school : schoolRepository.findByDeletingTrue()) {
+            logger.warn("Resuming interrupted school data deletion - schoolId: {}", school.getSchoolId());
+            startDeletion(school.getSchoolId());
+        }
+    }
+
+    private void runDeletion(DeletionProgress progress) {
+        Long schoolId = progress.schoolId();
+        long startTime = System.currentTimeMillis();
+        try {
+            // 단계별 대상 건수 (진행률 계산용)
+            long totalRows = 0;
+            for (Step step : STEPS) {
+                totalRows += countRows(step, schoolId);
+            }
+            progress = update(progress, null, 0, totalRows, 0);
+            logger.info("Starting chunked deletion - schoolId: {}, rows: {}", schoolId, totalRows);
+
+            long deletedRows = 0;
+            for (int i = 0; i < STEPS.size(); i++) {
+                Step step = STEPS.get(i);
+                progress = update(progress, step.label(), i + 1, totalRows, deletedRows);
+
+                long lastId = 0;
+                while (true) {
+                    long[] range = nextRange(step, schoolId, lastId);
+                    if (range == null) {
+                        break;
+                    }
+                    deletedRows += deleteRange(step, schoolId, range[0], range[1]);
+                    lastId = range[1];
+                    progress = update(progress, step.label(), i + 1, totalRows, deletedRows);
+                }
+                logger.debug("Deleted {} for schoolId: {}", step.table(), schoolId);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> schoolRepository.updateDeleting(schoolId, false));
+            ipOccupancyService.invalidate(schoolId);
+            deviceInspectionStatusService.invalidateSchoolProgress(schoolId);
+            progressBySchool.put(schoolId, new DeletionProgress(schoolId, progress.schoolName(), Status.COMPLETED,
+                null, STEPS.size(), STEPS.size(), totalRows, deletedRows, progress.startedAt(), LocalDateTime.now(), null));
+            logger.info("Successfully deleted school data for '{}' in {}ms. Total records deleted: {}",
+                progress.schoolName(), System.currentTimeMillis() - startTime, deletedRows);
+        } catch (Exception e) {
+            // deleting 표시는 유지하여 재시작 시 이어서 삭제
+            logger.error("Failed to delete school data for schoolId {}: {}", schoolId, e.getMessage(), e);
+            progressBySchool.put(schoolId, new DeletionProgress(schoolId, progress.schoolName(), Status.FAILED,
+                progress.currentStep(), progress.stepIndex(), STEPS.size(), progress.totalRows(), progress.deletedRows(),
+                progress.startedAt(), LocalDateTime.now(), e.getMessage()));
+        }
+    }
+
+    private DeletionProgress update(DeletionProgress progress, String currentStep, int stepIndex,
+                                    long totalRows, long deletedRows) {
+        DeletionProgress updated = new DeletionProgress(progress.schoolId(), progress.schoolName(), Status.RUNNING,
+            currentStep, stepIndex, STEPS.size(), totalRows, deletedRows, progress.startedAt(), null, null);
+        progressBySchool.put(progress.schoolId(), updated);
+        return updated;
+    }
+
+    private long countRows(Step step, Long schoolId) {
+        Number count = transactionTemplate.execute(status -> (Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM " + step.table() + " WHERE " + step.condition())
+            .setParameter(1, schoolId)
+            .getSingleResult());
+        return count != null ? count.longValue() : 0;
+    }
+
+    /**
+     * lastId 이후 최대 CHUNK_SIZE건의 PK 구간 [첫 ID, 마지막 ID] 조회 (대상이 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private long[] nextRange(Step step, Long schoolId, long lastId) {
+        List<Number> ids = transactionTemplate.execute(status -> entityManager
+            .createNativeQuery("SELECT " + step.idColumn() + " FROM " + step.table()
+                + " WHERE " + step.condition() + " AND " + step.idColumn() + " > ?2"
+                + " ORDER BY " + step.idColumn() + " LIMIT " + CHUNK_SIZE)
+            .setParameter(1, schoolId)
+            .setParameter(2, lastId)
+            .getResultList());
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return new long[] { ids.get(0).longValue(), ids.get(ids.size() - 1).longValue() };
+    }
+
+    /**
+     * PK 구간 하나를 별도 트랜잭션으로 삭제
+     * (학교 데이터 전체를 지우는 작업이므로 기존 일괄 삭제와 같이 구간 내 외래키 검사는 끔)
+     * - 네이티브 쿼리는 영향받는 테이블을 지정해야 2차 캐시 전체가 아니라 해당 테이블의 캐시만 비워짐
+     *   (SET 문은 테이블이 없으므로 빈 이름 지정)
+     */
+    private int deleteRange(Step step, Long schoolId, long fromId, long toId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            setForeignKeyChecks(false);
+            try {
+                return entityManager
+                    .createNativeQuery("DELETE FROM " + step.table() + " WHERE " + step.idColumn()
+                        + " BETWEEN ?2 AND ?3 AND " + step.condition())
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace(step.table())
+                    .setParameter(1, schoolId)
+                    .setParameter(2, fromId)
+                    .setParameter(3, toId)
+                    .executeUpdate();
+            } finally {
+                setForeignKeyChecks(true);
+            }
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private void setForeignKeyChecks(boolean enabled) {
+        entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0))
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("")
+            .executeUpdate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -93,7 +93,7 @@ public class SchoolPermissionService {
     public List<School> getAccessibleSchools(User user) {
         // 관리자도 권한관리에서 지정한 학교만 접근 가능
         List<Long> schoolIds = getAccessibleSchoolIds(user);
-        return schoolRepository.findAllById(schoolIds);
+        return schoolRepository.findBySchoolIdInAndDeletingFalse(schoolIds);
     }
     
     // 모든 학교 목록 조회 (권한 관리용)
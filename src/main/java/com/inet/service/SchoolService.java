@@ -29,11 +29,21 @@ public class SchoolService {
     // Read
     public List<School> getAllSchools() {
         log.info("Getting all schools");
-        return schoolRepository.findAll();
+        return schoolRepository.findByDeletingFalse();
     }
     
+    /**
+     * 학교 조회 (삭제 진행 중인 학교는 없는 것으로 처리)
+     */
     public Optional<School> getSchoolById(Long id) {
         log.info("Getting school by id: {}", id);
+        return schoolRepository.findActiveById(id);
+    }
+    
+    /**
+     * 삭제 진행 중인 학교를 포함한 학교 조회 (삭제 작업/진행 상황 조회용)
+     */
+    public Optional<School> getSchoolIncludingDeleting(Long id) {
         return schoolRepository.findById(id);
     }
     
@@ -50,7 +60,7 @@ public class SchoolService {
     }
 
     public Optional<School> findById(Long schoolId) {
-        return schoolRepository.findById(schoolId);
+        return schoolRepository.findActiveById(schoolId);
     }
     
     // 통계용 메서드
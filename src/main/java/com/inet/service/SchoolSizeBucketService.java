@@ -0,0 +1,53 @@
+package com.inet.service;
+
+import com.inet.repository.DeviceRepository;
+import jakarta.annotation.PreDestroy;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학교 규모 구간 (메트릭 태그용, 장비 수 기준)
+ * - 태그 값 수를 고정하기 위해 장비 수를 몇 개 구간으로만 나눔
+ */
+@Service
+public class SchoolSizeBucketService {
+
+    public static final String UNKNOWN = "unknown";
+
+    private final DeviceRepository deviceRepository;
+
+    private final Cache<Long, String> bucketCache = Cache2kBuilder.of(Long.class, String.class)
+        .name("schoolSizeBucket")
+        .entryCapacity(1000)
+        .expireAfterWrite(10, TimeUnit.MINUTES)
+        .build();
+
+    public SchoolSizeBucketService(DeviceRepository deviceRepository) {
+        this.deviceRepository = deviceRepository;
+    }
+
+    /**
+     * 학교 규모 구간 (small: ~300, medium: ~1000, large: ~3000, xlarge: 그 이상)
+     */
+    public String bucketOf(Long schoolId) {
+        if (schoolId == null) {
+            return UNKNOWN;
+        }
+        return bucketCache.computeIfAbsent(schoolId, key -> bucketForDeviceCount(deviceRepository.countBySchoolSchoolId(key)));
+    }
+
+    static String bucketForDeviceCount(long deviceCount) {
+        if (deviceCount <= 300) return "small";
+        if (deviceCount <= 1000) return "medium";
+        if (deviceCount <= 3000) return "large";
+        return "xlarge";
+    }
+
+    @PreDestroy
+    void closeBucketCache() {
+        bucketCache.close();
+    }
+}
@@ -0,0 +1,550 @@
+package com.inet.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.inet.config.StreamingFetchSize;
+import com.inet.entity.School;
+import com.inet.entity.User;
+import com.inet.repository.SchoolRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 학교 단위 스냅샷 내보내기/복원
+ * - 형식: gzip 압축 NDJSON (헤더 1줄 → 섹션마다 {"section","columns"} 1줄 + 행 배열 N줄 + {"end","rows"} 1줄)
+ * - 내보내기는 테이블마다 전방향 스트리밍 커서로 읽어 바로 기록 (REPEATABLE READ 한 트랜잭션 = 일관된 시점)
+ * - 복원은 새 학교를 만들고 섹션 순서대로 일괄 INSERT 하면서 기존 ID → 새 ID 로 참조를 다시 연결
+ *   (평면도 요소의 element_data JSON 안의 ID 포함), 복원한 사용자에게 새 학교 권한 부여
+ */
+@Service
+public class SchoolSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchoolSnapshotService.class);
+
+    public static final String FORMAT = "inet-school-snapshot";
+    public static final int VERSION = 1;
+
+    private static final int BATCH_SIZE = 500;
+    private static final String SCHOOL = "school";
+    private static final String BINARY_KEY = "$b64";
+
+    private static final String DEVICE_IDS = "SELECT device_id FROM device WHERE school_id = :schoolId";
+    private static final String WIRELESS_AP_IDS = "SELECT id FROM wireless_ap WHERE school_id = :schoolId";
+
+    /**
+     * 스냅샷 섹션 정의 (참조받는 테이블 먼저 → 복원 시 이 순서대로 INSERT)
+     * foreignKeys: 컬럼명 → 참조하는 섹션명 (school = 학교 ID)
+     */
+    private record Section(String name, String idColumn, String condition, Map<String, String> foreignKeys) {}
+
+    private static final List<Section> SECTIONS = List.of(
+        new Section("uid", "uid_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("manage", "manage_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("operator", "operator_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("classroom", "classroom_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("building", "building_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("floor_room", "floor_room_id",
+            "(school_id = :schoolId OR building_id IN (SELECT building_id FROM building WHERE school_id = :schoolId))",
+            Map.of("school_id", SCHOOL, "building_id", "building", "classroom_id", "classroom")),
+        new Section("room_seat", "seat_id",
+            "floor_room_id IN (SELECT floor_room_id FROM floor_room WHERE school_id = :schoolId)",
+            Map.of("floor_room_id", "floor_room")),
+        new Section("device", "device_id", "school_id = :schoolId",
+            Map.of("school_id", SCHOOL, "classroom_id", "classroom", "operator_id", "operator",
+                   "manage_id", "manage", "uid_id", "uid")),
+        new Section("wireless_ap", "id", "school_id = :schoolId",
+            Map.of("school_id", SCHOOL, "location", "classroom")),
+        new Section("device_location", "device_location_id", "device_id IN (" + DEVICE_IDS + ")",
+            Map.of("device_id", "device", "seat_id", "room_seat", "floor_room_id", "floor_room")),
+        new Section("wireless_ap_location", "ap_location_id", "wireless_ap_id IN (" + WIRELESS_AP_IDS + ")",
+            Map.of("wireless_ap_id", "wireless_ap", "floor_room_id", "floor_room")),
+        new Section("network_equipment", "equipment_id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("floor_plans", "id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("floor_plan_elements", "id",
+            "floor_plan_id IN (SELECT id FROM floor_plans WHERE school_id = :schoolId)",
+            Map.of("floor_plan_id", "floor_plans")),
+        new Section("device_history", "history_id", "device_id IN (" + DEVICE_IDS + ")",
+            Map.of("device_id", "device")),
+        new Section("wireless_ap_history", "history_id", "ap_id IN (" + WIRELESS_AP_IDS + ")",
+            Map.of("ap_id", "wireless_ap")),
+        new Section("device_inspection_history", "id", "school_id = :schoolId", Map.of("school_id", SCHOOL)),
+        new Section("device_inspection_result", "id", "school_id = :schoolId",
+            Map.of("school_id", SCHOOL, "history_id", "device_inspection_history", "device_id", "device")),
+        new Section("device_inspection_status", "id", "school_id = :schoolId",
+            Map.of("school_id", SCHOOL, "device_id", "device"))
+    );
+
+    // floor_plan_elements.reference_id 가 가리키는 섹션 (element_type 기준)
+    private static final Map<String, String> ELEMENT_REFERENCE_SECTIONS = Map.of(
+        "room", "classroom",
+        "seat_layout", "classroom",
+        "building", "building",
+        "wireless_ap", "wireless_ap"
+    );
+
+    // floor_plan_elements.element_data JSON 안의 ID 키 → 섹션 (referenceId는 element_type 기준)
+    private static final Map<String, String> ELEMENT_DATA_ID_SECTIONS = Map.of(
+        "schoolId", SCHOOL,
+        "classroomId", "classroom",
+        "buildingId", "building",
+        "wirelessApId", "wireless_ap",
+        "apId", "wireless_ap",
+        "deviceId", "device",
+        "seatId", "room_seat",
+        "floorRoomId", "floor_room"
+    );
+
+    /**
+     * 복원 결과
+     */
+    public record RestoreResult(Long schoolId, String schoolName, Map<String, Integer> rowsBySection, long totalRows) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingTemplate;
+    private final SchoolRepository schoolRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SchoolPermissionService schoolPermissionService;
+    private final ClassroomRankService classroomRankService;
+    private final ObjectMapper objectMapper;
+
+    public SchoolSnapshotService(JdbcTemplate jdbcTemplate, SchoolRepository schoolRepository,
+                                 EntityManagerFactory entityManagerFactory,
+                                 SchoolPermissionService schoolPermissionService,
+                                 ClassroomRankService classroomRankService,
+                                 StreamingFetchSize streamingFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schoolRepository = schoolRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.schoolPermissionService = schoolPermissionService;
+        this.classroomRankService = classroomRankService;
+
+        // MySQL이면 결과를 한 행씩 스트리밍 (다른 DB는 고정 fetch size)
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(streamingFetchSize.value());
+        this.streamingTemplate = new NamedParameterJdbcTemplate(streaming);
+
+        this.objectMapper = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    /**
+     * 학교 스냅샷을 출력 스트림에 기록
+     * @return 기록한 전체 행 수
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportSnapshot(Long schoolId, OutputStream outputStream) throws IOException {
+        School school = schoolRepository.findById(schoolId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학교입니다: " + schoolId));
+
+        long startTime = System.currentTimeMillis();
+        GZIPOutputStream gzip = new GZIPOutputStream(outputStream, 64 * 1024);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024);
+
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("format", FORMAT);
+        header.put("version", VERSION);
+        header.put("schoolId", school.getSchoolId());
+        header.put("schoolName", school.getSchoolName());
+        header.put("ip", school.getIp());
+        header.put("exportedAt", LocalDateTime.now().toString());
+        writeLine(writer, header);
+
+        long totalRows = 0;
+        Map<String, Object> params = Map.of("schoolId", schoolId);
+        for (Section section : SECTIONS) {
+            long[] rowCount = {0};
+            boolean[] headerWritten = {false};
+            String sql = "SELECT * FROM " + section.name() + " WHERE " + section.condition()
+                + " ORDER BY " + section.idColumn();
+
+            streamingTemplate.query(sql, params, rs -> {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columnCount = meta.getColumnCount();
+                if (!headerWritten[0]) {
+                    List<String> columns = new ArrayList<>(columnCount);
+                    for (int i = 1; i <= columnCount; i++) {
+                        columns.add(meta.getColumnLabel(i));
+                    }
+                    writeSectionHeader(writer, section.name(), columns);
+                    headerWritten[0] = true;
+                }
+                Object[] values = new Object[columnCount];
+                for (int i = 1; i <= columnCount; i++) {
+                    values[i - 1] = toJsonValue(rs.getObject(i));
+                }
+                writeLine(writer, values);
+                rowCount[0]++;
+            });
+
+            if (headerWritten[0]) {
+                writeLine(writer, Map.of("end", section.name(), "rows", rowCount[0]));
+            }
+            totalRows += rowCount[0];
+        }
+
+        writer.flush();
+        gzip.finish();
+        logger.info("School snapshot exported - schoolId: {}, rows: {}, {}ms",
+            schoolId, totalRows, System.currentTimeMillis() - startTime);
+        return totalRows;
+    }
+
+    /**
+     * 스냅샷을 새 학교로 복원
+     * @param schoolName 새 학교명 (비어 있으면 스냅샷의 학교명 사용)
+     * @param restoredBy 복원한 사용자 (새 학교 접근 권한 부여)
+     */
+    @Transactional
+    public RestoreResult restoreSnapshot(InputStream inputStream, String schoolName, User restoredBy) throws IOException {
+        long startTime = System.currentTimeMillis();
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(new GZIPInputStream(inputStream, 64 * 1024), StandardCharsets.UTF_8), 64 * 1024);
+
+        JsonNode header = readLine(reader);
+        if (header == null || !FORMAT.equals(header.path("format").asText()) || header.path("version").asInt() > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 파일입니다.");
+        }
+
+        School school = new School();
+        school.setSchoolName(schoolName != null && !schoolName.isBlank()
+            ? schoolName.trim() : header.path("schoolName").asText());
+        school.setIp(header.hasNonNull("ip") ? header.get("ip").asInt() : null);
+        school = schoolRepository.saveAndFlush(school);
+        Long newSchoolId = school.getSchoolId();
+        if (restoredBy != null) {
+            schoolPermissionService.grantSchoolPermission(restoredBy, school);
+        }
+
+        Map<String, Section> sectionsByName = new HashMap<>();
+        for (Section section : SECTIONS) {
+            sectionsByName.put(section.name(), section);
+        }
+
+        Map<String, Integer> rowsBySection = jdbcTemplate.execute((ConnectionCallback<Map<String, Integer>>) connection -> {
+            Map<String, Integer> restored = new LinkedHashMap<>();
+            // 섹션 → (기존 ID → 새 ID)
+            Map<String, Map<Long, Long>> idMaps = new HashMap<>();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            }
+            try {
+                JsonNode line;
+                while ((line = readLine(reader)) != null) {
+                    if (!line.has("section")) {
+                        continue;
+                    }
+                    String name = line.get("section").asText();
+                    Section section = sectionsByName.get(name);
+                    if (section == null) {
+                        throw new IllegalArgumentException("알 수 없는 스냅샷 섹션입니다: " + name);
+                    }
+                    List<String> columns = new ArrayList<>();
+                    line.get("columns").forEach(column -> columns.add(column.asText()));
+
+                    int rows = restoreSection(connection, reader, section, columns, newSchoolId, idMaps);
+                    restored.merge(name, rows, Integer::sum);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+            return restored;
+        });
+
+        // sort_rank 이전 스냅샷의 교실은 순위가 없으므로 학교 마지막 순서로 채움
+        classroomRankService.assignMissingRanks(newSchoolId);
+
+        // JDBC로 직접 넣은 행은 Hibernate가 모르므로 커밋 후 쿼리 캐시 비움
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+            }
+        });
+
+        long totalRows = rowsBySection.values().stream().mapToLong(Integer::longValue).sum();
+        logger.info("School snapshot restored - new schoolId: {}, rows: {}, {}ms",
+            newSchoolId, totalRows, System.currentTimeMillis() - startTime);
+        return new RestoreResult(newSchoolId, school.getSchoolName(), rowsBySection, totalRows);
+    }
+
+    /**
+     * 섹션 하나를 BATCH_SIZE 단위 일괄 INSERT 로 복원하고 기존 ID → 새 ID 매핑을 기록
+     */
+    private int restoreSection(Connection connection, BufferedReader reader, Section section, List<String> columns,
+                               Long newSchoolId, Map<String, Map<Long, Long>> idMaps) throws SQLException, IOException {
+        // 현재 스키마에 있는 컬럼만 복원 (파일의 컬럼명을 그대로 SQL에 쓰지 않도록 검증 겸용)
+        Set<String> tableColumns = loadTableColumns(connection, section.name());
+        int idIndex = columns.indexOf(section.idColumn());
+        int elementTypeIndex = columns.indexOf("element_type");
+        boolean floorPlanElements = "floor_plan_elements".equals(section.name());
+        int parentIndex = floorPlanElements ? columns.indexOf("parent_element_id") : -1;
+        int elementDataIndex = floorPlanElements ? columns.indexOf("element_data") : -1;
+
+        List<Integer> insertIndexes = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i != idIndex && tableColumns.contains(columns.get(i))) {
+                insertIndexes.add(i);
+            }
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(section.name()).append(" (");
+        for (int i = 0; i < insertIndexes.size(); i++) {
+            sql.append(i > 0 ? ", " : "").append(columns.get(insertIndexes.get(i)));
+        }
+        sql.append(") VALUES (").append("?, ".repeat(Math.max(0, insertIndexes.size() - 1))).append("?)");
+
+        Map<Long, Long> idMap = idMaps.computeIfAbsent(section.name(), key -> new HashMap<>());
+        // 평면도 요소의 상위 요소 참조는 같은 섹션을 모두 넣은 뒤 연결 (새 ID → 기존 상위 ID)
+        Map<Long, Long> pendingParents = new HashMap<>();
+        int rows = 0;
+
+        try (PreparedStatement insert = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+            List<Long> batchOldIds = new ArrayList<>(BATCH_SIZE);
+            List<Long> batchOldParents = new ArrayList<>(BATCH_SIZE);
+
+            JsonNode line;
+            while ((line = readLine(reader)) != null && line.isArray()) {
+                String elementType = elementTypeIndex >= 0 ? line.get(elementTypeIndex).asText(null) : null;
+                for (int p = 0; p < insertIndexes.size(); p++) {
+                    int index = insertIndexes.get(p);
+                    String column = columns.get(index);
+                    Object value = fromJsonValue(line.get(index));
+
+                    if (index == parentIndex) {
+                        value = null;
+                    } else if (SCHOOL.equals(section.foreignKeys().get(column))) {
+                        value = newSchoolId;
+                    } else if (section.foreignKeys().containsKey(column)) {
+                        value = remap(idMaps.get(section.foreignKeys().get(column)), value);
+                    } else if ("reference_id".equals(column) && elementType != null
+                            && ELEMENT_REFERENCE_SECTIONS.containsKey(elementType)) {
+                        value = remap(idMaps.get(ELEMENT_REFERENCE_SECTIONS.get(elementType)), value);
+                    } else if (index == elementDataIndex && value instanceof String json) {
+                        value = remapElementData(json, elementType, newSchoolId, idMaps);
+                    }
+                    insert.setObject(p + 1, value);
+                }
+                insert.addBatch();
+                batchOldIds.add(idIndex >= 0 ? toLong(fromJsonValue(line.get(idIndex))) : null);
+                batchOldParents.add(parentIndex >= 0 ? toLong(fromJsonValue(line.get(parentIndex))) : null);
+
+                if (batchOldIds.size() >= BATCH_SIZE) {
+                    rows += flushBatch(insert, batchOldIds, batchOldParents, idMap, pendingParents);
+                }
+            }
+            if (!batchOldIds.isEmpty()) {
+                rows += flushBatch(insert, batchOldIds, batchOldParents, idMap, pendingParents);
+            }
+        }
+
+        if (!pendingParents.isEmpty()) {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE floor_plan_elements SET parent_element_id = ? WHERE id = ?")) {
+                for (Map.Entry<Long, Long> entry : pendingParents.entrySet()) {
+                    update.setObject(1, idMap.get(entry.getValue()));
+                    update.setLong(2, entry.getKey());
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    private int flushBatch(PreparedStatement insert, List<Long> oldIds, List<Long> oldParents,
+                           Map<Long, Long> idMap, Map<Long, Long> pendingParents) throws SQLException {
+        insert.executeBatch();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+            int i = 0;
+            while (keys.next() && i < oldIds.size()) {
+                long newId = keys.getLong(1);
+                if (oldIds.get(i) != null) {
+                    idMap.put(oldIds.get(i), newId);
+                }
+                if (oldParents.get(i) != null) {
+                    pendingParents.put(newId, oldParents.get(i));
+                }
+                i++;
+            }
+        }
+        int count = oldIds.size();
+        oldIds.clear();
+        oldParents.clear();
+        return count;
+    }
+
+    private Set<String> loadTableColumns(Connection connection, String table) throws SQLException {
+        Set<String> columns = new LinkedHashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                columns.add(meta.getColumnLabel(i));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 평면도 요소 element_data JSON의 ID 값을 새 ID로 변경
+     * - 숫자/숫자 문자열만 변경하고 형식(숫자, 문자열)은 유지, 임시 ID(temp-... 등)는 그대로
+     * - 스냅샷에 없는 대상을 가리키면 null (reference_id와 같음), 파싱할 수 없는 JSON은 그대로 둠
+     */
+    private String remapElementData(String json, String elementType, Long newSchoolId,
+                                    Map<String, Map<Long, Long>> idMaps) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (IOException e) {
+            return json;
+        }
+        if (!(root instanceof ObjectNode data)) {
+            return json;
+        }
+
+        Map<String, String> idSections = new HashMap<>(ELEMENT_DATA_ID_SECTIONS);
+        if (elementType != null && ELEMENT_REFERENCE_SECTIONS.containsKey(elementType)) {
+            idSections.put("referenceId", ELEMENT_REFERENCE_SECTIONS.get(elementType));
+        }
+        for (Map.Entry<String, String> entry : idSections.entrySet()) {
+            JsonNode node = data.get(entry.getKey());
+            Long oldId = node == null ? null
+                : node.isIntegralNumber() ? Long.valueOf(node.longValue())
+                : node.isTextual() && node.asText().matches("\\d{1,18}") ? Long.valueOf(node.asText())
+                : null;
+            if (oldId == null) {
+                continue;
+            }
+            Long newId = SCHOOL.equals(entry.getValue()) ? newSchoolId
+                : (Long) remap(idMaps.get(entry.getValue()), oldId);
+            if (newId == null) {
+                data.putNull(entry.getKey());
+            } else if (node.isTextual()) {
+                data.put(entry.getKey(), newId.toString());
+            } else {
+                data.put(entry.getKey(), newId);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (IOException e) {
+            return json;
+        }
+    }
+
+    private Object remap(Map<Long, Long> idMap, Object oldValue) {
+        Long oldId = toLong(oldValue);
+        if (oldId == null || idMap == null) {
+            return null;
+        }
+        // 스냅샷에 없는 대상(다른 학교 데이터 등)을 가리키면 참조를 비움
+        return idMap.get(oldId);
+    }
+
+    private Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return null;
+    }
+
+    private Object toJsonValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof String) {
+            return value;
+        }
+        if (value instanceof byte[] bytes) {
+            return Map.of(BINARY_KEY, Base64.getEncoder().encodeToString(bytes));
+        }
+        // 날짜/시간 등은 MySQL이 그대로 읽을 수 있는 문자열로 저장
+        return value.toString();
+    }
+
+    private Object fromJsonValue(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToLong() ? (Object) node.longValue() : node.bigIntegerValue();
+        }
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isObject() && node.has(BINARY_KEY)) {
+            return Base64.getDecoder().decode(node.get(BINARY_KEY).asText());
+        }
+        return node.asText();
+    }
+
+    private void writeSectionHeader(Writer writer, String name, List<String> columns) {
+        Map<String, Object> sectionHeader = new LinkedHashMap<>();
+        sectionHeader.put("section", name);
+        sectionHeader.put("columns", columns);
+        writeLine(writer, sectionHeader);
+    }
+
+    private void writeLine(Writer writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readLine(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        return objectMapper.readTree(line);
+    }
+}
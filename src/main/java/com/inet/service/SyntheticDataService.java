@@ -0,0 +1,496 @@
+package com.inet.service;
+
+import com.inet.util.ClassroomNameUtils;
+import com.inet.util.IpAddressUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하/규모 테스트용 가상 학교 데이터 생성
+ * - 학교마다 교실, 담당자, 관리번호, 고유번호(모든 분류), 장비, 무선AP, 여러 페이지 평면도, 수개월 수정내역 생성
+ * - 테이블마다 BATCH_SIZE 단위 일괄 INSERT (MySQL, H2 MySQL 모드 공통 SQL), 학교 하나당 트랜잭션 하나
+ * - 같은 seed면 같은 데이터가 만들어짐 (학교명/ID 제외)
+ * - seed(SyntheticDataRunner), h2(로컬 실행/QueryPlanTest), loadtest(HttpLoadTest) 프로필에서만 생성
+ */
+@Service
+@Profile({"seed", "h2", "loadtest"})
+public class SyntheticDataService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 장비 분류 (고유번호 분류, 장비구분, 관리번호 분류, 교실당 평균 대수)
+     */
+    private record DeviceKind(String uidCate, String type, String manageCate, double perClassroom) {}
+
+    private static final List<DeviceKind> DEVICE_KINDS = List.of(
+        new DeviceKind("DW", "데스크톱", "업무", 1.0),
+        new DeviceKind("DE", "데스크톱", "교육", 3.0),
+        new DeviceKind("DK", "데스크톱", "기타", 0.3),
+        new DeviceKind("DC", "데스크톱", "컴퓨터교육", 1.5),
+        new DeviceKind("DS", "데스크톱", "학교구매", 0.3),
+        new DeviceKind("DD", "데스크톱", "기증품", 0.1),
+        new DeviceKind("MO", "모니터", "교육", 3.0),
+        new DeviceKind("PR", "프린터", "업무", 0.4),
+        new DeviceKind("TV", "TV", "교육", 0.8),
+        new DeviceKind("ID", "전자칠판", "교육", 0.6),
+        new DeviceKind("ED", "전자교탁", "교육", 0.5),
+        new DeviceKind("DI", "DID", "업무", 0.05),
+        new DeviceKind("TB", "태블릿", "교육", 2.0),
+        new DeviceKind("PJ", "프로젝터", "교육", 0.3),
+        new DeviceKind("ET", "기타", "기타", 0.2)
+    );
+
+    private static final String[] MANUFACTURERS = {"삼성전자", "LG전자", "HP", "레노버", "델", "에이수스", "엡손", "주연테크"};
+    private static final String[] PURPOSES = {"교사용", "학생용", "행정용", "기타", "컴퓨터교육"};
+    private static final String[] SET_TYPES = {"교사용 세트", "학생용 세트", "전자칠판 세트", "방송 세트"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수아", "현우", "지민", "예준", "채원"};
+    private static final String[] POSITIONS = {"교사", "부장교사", "정보부장", "교감", "행정실장", "주무관"};
+    private static final String[] SPECIAL_ROOMS = {"교무실", "행정실", "과학실", "음악실", "미술실", "도서실", "컴퓨터실",
+        "방송실", "보건실", "상담실", "영어실", "시청각실", "체육관", "급식실"};
+    private static final String[] DEVICE_HISTORY_FIELDS = {"classroom", "operator", "ipAddress", "purpose", "setType", "note", "unused"};
+    private static final String[] AP_HISTORY_FIELDS = {"location", "newLabelNumber", "model", "speed"};
+
+    /**
+     * 생성 옵션
+     * @param schools 학교 수
+     * @param seed 난수 seed
+     * @param minClassrooms 학교당 최소 교실 수
+     * @param maxClassrooms 학교당 최대 교실 수
+     * @param floorPlanPages 평면도 페이지 수 (층)
+     * @param elementsPerRoom 교실 하나에 배치할 도형 수 (책상/좌석 등)
+     * @param historyMonths 수정내역을 만들 기간 (개월)
+     * @param schoolNamePrefix 학교명 접두어
+     */
+    public record Options(int schools, long seed, int minClassrooms, int maxClassrooms, int floorPlanPages,
+                          int elementsPerRoom, int historyMonths, String schoolNamePrefix) {}
+
+    /**
+     * 생성 결과
+     */
+    public record Result(List<Long> schoolIds, Map<String, Long> rowsByTable, long elapsedMillis) {
+        public long getTotalRows() {
+            return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SyntheticDataService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 가상 학교 데이터 생성 (학교 하나씩 별도 트랜잭션으로 커밋)
+     */
+    public Result generate(Options options) {
+        long startTime = System.currentTimeMillis();
+        Random random = new Random(options.seed());
+        List<Long> schoolIds = new ArrayList<>();
+        Map<String, Long> rowsByTable = new LinkedHashMap<>();
+
+        for (int i = 0; i < options.schools(); i++) {
+            long schoolSeed = random.nextLong();
+            String schoolName = options.schoolNamePrefix() + String.format("%03d", i + 1);
+            int schoolCode = i % 99 + 1;
+            Long schoolId = transactionTemplate.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<Long>) connection ->
+                    generateSchool(connection, options, new Random(schoolSeed), schoolName, schoolCode, rowsByTable)));
+            schoolIds.add(schoolId);
+            logger.info("Synthetic school generated - {} ({}/{}), schoolId: {}", schoolName, i + 1, options.schools(), schoolId);
+        }
+
+        // JDBC로 직접 넣은 행은 Hibernate가 모르므로 쿼리 캐시 비움
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+
+        return new Result(schoolIds, rowsByTable, System.currentTimeMillis() - startTime);
+    }
+
+    private Long generateSchool(Connection connection, Options options, Random random, String schoolName, int schoolCode,
+                                Map<String, Long> rowsByTable) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+
+        Long schoolId;
+        try (BatchInsert school = new BatchInsert(connection, "school", "school_name", "ip", "deleting")) {
+            school.add(schoolName, schoolCode, false);
+            schoolId = school.finish().get(0);
+            count(rowsByTable, school);
+        }
+
+        // 교실 (일반 교실 학년-반 + 특별실)
+        int classroomCount = options.minClassrooms()
+            + random.nextInt(Math.max(1, options.maxClassrooms() - options.minClassrooms() + 1));
+        List<String> roomNames = new ArrayList<>(classroomCount);
+        int specialCount = Math.min(SPECIAL_ROOMS.length, Math.max(1, classroomCount / 5));
+        int classesPerGrade = Math.max(1, (classroomCount - specialCount + 5) / 6);
+        for (int i = 0; roomNames.size() < classroomCount - specialCount; i++) {
+            roomNames.add((i / classesPerGrade + 1) + "-" + (i % classesPerGrade + 1));
+        }
+        for (int i = 0; i < specialCount; i++) {
+            roomNames.add(SPECIAL_ROOMS[i]);
+        }
+        List<Long> classroomIds;
+        try (BatchInsert classroom = new BatchInsert(connection, "classroom",
+                "room_name", "normalized_name", "x_coordinate", "y_coordinate", "width", "height",
+                "display_order", "sort_rank", "school_id")) {
+            for (int i = 0; i < roomNames.size(); i++) {
+                String roomName = roomNames.get(i);
+                classroom.add(roomName, ClassroomNameUtils.normalize(roomName), (i % 10) * 120, (i / 10) * 120, 100, 100,
+                    i + 1, (long) (i + 1) * ClassroomRankService.RANK_GAP, schoolId);
+            }
+            classroomIds = classroom.finish();
+            count(rowsByTable, classroom);
+        }
+
+        // 담당자 (교실 2개당 1명 정도)
+        List<Long> operatorIds;
+        List<String> operatorNames = new ArrayList<>();
+        try (BatchInsert operator = new BatchInsert(connection, "operator", "name", "position", "school_id")) {
+            int operatorCount = Math.max(3, classroomCount / 2);
+            for (int i = 0; i < operatorCount; i++) {
+                String name = pick(random, FAMILY_NAMES) + pick(random, GIVEN_NAMES);
+                operatorNames.add(name);
+                operator.add(name, pick(random, POSITIONS), schoolId);
+            }
+            operatorIds = operator.finish();
+            count(rowsByTable, operator);
+        }
+
+        // 장비 사양 (교실마다 분류별 평균 대수를 중심으로 분포)
+        List<DeviceSpec> specs = new ArrayList<>();
+        for (int c = 0; c < classroomIds.size(); c++) {
+            for (DeviceKind kind : DEVICE_KINDS) {
+                int quantity = (int) Math.floor(kind.perClassroom() * (0.5 + random.nextDouble()) + random.nextDouble());
+                for (int q = 0; q < quantity; q++) {
+                    specs.add(new DeviceSpec(kind, c, 2014 + random.nextInt(11)));
+                }
+            }
+        }
+
+        // 관리번호, 고유번호 (분류별 일련번호)
+        Map<String, Long> manageSerials = new LinkedHashMap<>();
+        Map<String, Long> uidSerials = new LinkedHashMap<>();
+        List<Long> manageIds;
+        List<Long> uidIds;
+        try (BatchInsert manage = new BatchInsert(connection, "manage", "school_id", "manage_cate", "year", "manage_num");
+             BatchInsert uid = new BatchInsert(connection, "uid", "cate", "id_number", "mfg_year", "display_uid", "school_id")) {
+            for (DeviceSpec spec : specs) {
+                String manageKey = spec.kind().manageCate() + ":" + spec.year();
+                long manageNum = manageSerials.merge(manageKey, 1L, Long::sum);
+                manage.add(schoolId, spec.kind().manageCate(), spec.year(), manageNum);
+
+                long idNumber = uidSerials.merge(spec.kind().uidCate(), 1L, Long::sum);
+                String mfgYear = String.format("%02d", spec.year() % 100);
+                String displayUid = spec.kind().uidCate() + String.format("%02d", schoolCode) + mfgYear + String.format("%04d", idNumber);
+                uid.add(spec.kind().uidCate(), idNumber, mfgYear, displayUid, schoolId);
+            }
+            manageIds = manage.finish();
+            uidIds = uid.finish();
+            count(rowsByTable, manage);
+            count(rowsByTable, uid);
+        }
+
+        // 장비 (교실 단위 /24 대역에 순서대로 IP 배정, 일부는 IP 없음)
+        List<Long> deviceIds;
+        try (BatchInsert device = new BatchInsert(connection, "device",
+                "type", "manufacturer", "model_name", "purchase_date", "ip_address", "ip_numeric", "classroom_id",
+                "purpose", "set_type", "unused", "note", "school_id", "operator_id", "manage_id", "uid_id")) {
+            int[] nextHost = new int[classroomIds.size()];
+            for (int i = 0; i < specs.size(); i++) {
+                DeviceSpec spec = specs.get(i);
+                String ipAddress = null;
+                boolean networked = !"모니터".equals(spec.kind().type()) && random.nextInt(10) != 0;
+                if (networked && nextHost[spec.classroomIndex()] < IpOccupancyService.LAST_HOST) {
+                    int host = ++nextHost[spec.classroomIndex()];
+                    ipAddress = IpAddressUtils.toDotted(IpAddressUtils.of(10, schoolCode, spec.classroomIndex() % 256, host));
+                }
+                device.add(
+                    spec.kind().type(),
+                    pick(random, MANUFACTURERS),
+                    spec.kind().uidCate() + "-" + (1000 + random.nextInt(9000)),
+                    Date.valueOf(LocalDate.of(spec.year(), 1 + random.nextInt(12), 1 + random.nextInt(28))),
+                    ipAddress,
+                    IpAddressUtils.toNumeric(ipAddress),
+                    classroomIds.get(spec.classroomIndex()),
+                    pick(random, PURPOSES),
+                    random.nextInt(3) == 0 ? null : pick(random, SET_TYPES),
+                    random.nextInt(25) == 0,
+                    random.nextInt(6) == 0 ? "수리 이력 있음" : null,
+                    schoolId,
+                    operatorIds.get(random.nextInt(operatorIds.size())),
+                    manageIds.get(i),
+                    uidIds.get(i));
+            }
+            deviceIds = device.finish();
+            count(rowsByTable, device);
+        }
+
+        // 무선AP (교실당 0~2대)
+        List<Long> apIds;
+        List<Integer> apClassroomIndexes = new ArrayList<>();
+        try (BatchInsert ap = new BatchInsert(connection, "wireless_ap",
+                "location", "school_id", "new_label_number", "device_number", "ap_year", "manufacturer", "model",
+                "mac_address", "prev_location", "prev_label_number", "classroom_type", "speed")) {
+            int label = 0;
+            for (int c = 0; c < classroomIds.size(); c++) {
+                int quantity = random.nextInt(10) < 7 ? 1 : random.nextInt(2) * 2;
+                for (int q = 0; q < quantity; q++) {
+                    label++;
+                    apClassroomIndexes.add(c);
+                    ap.add(classroomIds.get(c), schoolId, "AP-" + String.format("%03d", label), String.valueOf(label),
+                        Date.valueOf(LocalDate.of(2018 + random.nextInt(7), 3, 1)), pick(random, MANUFACTURERS),
+                        "WAP-" + (100 + random.nextInt(900)), macAddress(random), roomNames.get(c),
+                        "OLD-" + String.format("%03d", label), c < classroomCount - specialCount ? "일반교실" : "특별실",
+                        random.nextBoolean() ? "1G" : "2.5G");
+                }
+            }
+            apIds = ap.finish();
+            count(rowsByTable, ap);
+        }
+
+        generateFloorPlan(connection, options, random, schoolId, schoolName, roomNames, classroomIds,
+            apIds, apClassroomIndexes, now, rowsByTable);
+        generateHistory(connection, options, random, deviceIds, apIds, roomNames, operatorNames, now, rowsByTable);
+        return schoolId;
+    }
+
+    /**
+     * 평면도 1개 (페이지 = 층, 교실을 층별로 나누어 배치) + 교실/무선AP/이름표/도형 요소
+     */
+    private void generateFloorPlan(Connection connection, Options options, Random random, Long schoolId, String schoolName,
+                                   List<String> roomNames, List<Long> classroomIds, List<Long> apIds,
+                                   List<Integer> apClassroomIndexes, LocalDateTime now,
+                                   Map<String, Long> rowsByTable) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Long floorPlanId;
+        try (BatchInsert plan = new BatchInsert(connection, "floor_plans",
+                "school_id", "name", "description", "canvas_width", "canvas_height", "zoom_level", "pan_x", "pan_y",
+                "grid_size", "show_grid", "snap_to_grid", "version", "created_at", "updated_at", "is_active")) {
+            plan.add(schoolId, schoolName + " 평면도", "가상 데이터", 16000, 12000, 0.15, 0.0, 0.0,
+                20, true, true, 0L, timestamp, timestamp, true);
+            floorPlanId = plan.finish().get(0);
+            count(rowsByTable, plan);
+        }
+
+        int pages = Math.max(1, options.floorPlanPages());
+        int roomsPerPage = (classroomIds.size() + pages - 1) / pages;
+        double roomWidth = 1000;
+        double roomHeight = 800;
+
+        try (BatchInsert element = new BatchInsert(connection, "floor_plan_elements",
+                "floor_plan_id", "element_type", "reference_id", "x_coordinate", "y_coordinate", "width", "height",
+                "z_index", "rotation", "layer_order", "is_locked", "shape_type", "label", "show_label",
+                "background_color", "border_color", "border_width", "page_number", "version", "created_at", "updated_at")) {
+            for (int page = 1; page <= pages; page++) {
+                // 층 건물 외곽
+                element.add(floorPlanId, "building", null, 200.0, 200.0, 11000.0, roomHeight * 2 + 1400, 0, 0.0, 0, false,
+                    null, page + "층", true, "#f9fafb", "#111827", 3.0, page, 0L, timestamp, timestamp);
+                for (int slot = 0; slot < roomsPerPage; slot++) {
+                    int index = (page - 1) * roomsPerPage + slot;
+                    if (index >= classroomIds.size()) {
+                        break;
+                    }
+                    // 복도를 사이에 두고 위/아래 두 줄로 배치
+                    double x = 400 + (slot / 2) * (roomWidth + 50);
+                    double y = 400 + (slot % 2) * (roomHeight + 600);
+                    element.add(floorPlanId, "room", classroomIds.get(index), x, y, roomWidth, roomHeight, 1, 0.0, 1, false,
+                        null, roomNames.get(index), true, "#ffffff", "#000000", 2.0, page, 0L, timestamp, timestamp);
+                    element.add(floorPlanId, "name_box", classroomIds.get(index), x + 300, y + 20, 400.0, 120.0, 2, 0.0, 2,
+                        false, null, roomNames.get(index), true, "#ffffff", "#000000", 1.0, page, 0L, timestamp, timestamp);
+                    // 책상/좌석 도형 (격자 배치)
+                    for (int e = 0; e < options.elementsPerRoom(); e++) {
+                        double desk = 80;
+                        element.add(floorPlanId, "shape", null, x + 60 + (e % 8) * (desk + 30), y + 200 + (e / 8) * (desk + 30),
+                            desk, desk, 3, 0.0, 3, false, "rectangle", null, false, "#e5e7eb", "#6b7280", 1.0,
+                            page, 0L, timestamp, timestamp);
+                    }
+                }
+                // 층 공용 공간
+                element.add(floorPlanId, "stairs", null, 300.0, 1250.0, 300.0, 300.0, 1, 0.0, 1, false,
+                    null, "계단", true, null, null, null, page, 0L, timestamp, timestamp);
+                element.add(floorPlanId, "toilet", null, 700.0, 1250.0, 300.0, 300.0, 1, 0.0, 1, false,
+                    null, "화장실", true, null, null, null, page, 0L, timestamp, timestamp);
+            }
+            for (int i = 0; i < apIds.size(); i++) {
+                int index = apClassroomIndexes.get(i);
+                int page = Math.min(pages, index / Math.max(1, roomsPerPage) + 1);
+                element.add(floorPlanId, "wireless_ap", apIds.get(i), 500.0 + random.nextInt(9000), 500.0 + random.nextInt(2000),
+                    60.0, 60.0, 5, 0.0, 5, false, "circle", null, true, "#ef4444", "#000000", 1.0,
+                    page, 0L, timestamp, timestamp);
+            }
+            element.finish();
+            count(rowsByTable, element);
+        }
+    }
+
+    /**
+     * 최근 historyMonths개월 동안의 장비/무선AP 수정내역 (수정자 없음)
+     */
+    private void generateHistory(Connection connection, Options options, Random random, List<Long> deviceIds, List<Long> apIds,
+                                 List<String> roomNames, List<String> operatorNames, LocalDateTime now,
+                                 Map<String, Long> rowsByTable) throws SQLException {
+        if (options.historyMonths() <= 0) {
+            return;
+        }
+        long periodMinutes = options.historyMonths() * 30L * 24 * 60;
+
+        try (BatchInsert history = new BatchInsert(connection, "device_history",
+                "device_id", "field_name", "before_value", "after_value", "modified_at", "modified_by")) {
+            for (Long deviceId : deviceIds) {
+                int changes = random.nextInt(4);
+                for (int c = 0; c < changes; c++) {
+                    String field = pick(random, DEVICE_HISTORY_FIELDS);
+                    String[] values = historyValues(random, field, roomNames, operatorNames);
+                    history.add(deviceId, field, values[0], values[1],
+                        Timestamp.valueOf(now.minusMinutes(random.nextLong(periodMinutes))), null);
+                }
+            }
+            history.finish();
+            count(rowsByTable, history);
+        }
+
+        try (BatchInsert history = new BatchInsert(connection, "wireless_ap_history",
+                "ap_id", "field_name", "before_value", "after_value", "modified_at", "modified_by")) {
+            for (Long apId : apIds) {
+                int changes = random.nextInt(3);
+                for (int c = 0; c < changes; c++) {
+                    String field = pick(random, AP_HISTORY_FIELDS);
+                    String[] values = "location".equals(field)
+                        ? new String[] {pick(random, roomNames), pick(random, roomNames)}
+                        : new String[] {field + "-" + random.nextInt(100), field + "-" + random.nextInt(100)};
+                    history.add(apId, field, values[0], values[1],
+                        Timestamp.valueOf(now.minusMinutes(random.nextLong(periodMinutes))), null);
+                }
+            }
+            history.finish();
+            count(rowsByTable, history);
+        }
+    }
+
+    private String[] historyValues(Random random, String field, List<String> roomNames, List<String> operatorNames) {
+        switch (field) {
+            case "classroom":
+                return new String[] {pick(random, roomNames), pick(random, roomNames)};
+            case "operator":
+                return new String[] {pick(random, operatorNames), pick(random, operatorNames)};
+            case "ipAddress":
+                return new String[] {"10.1.1." + (1 + random.nextInt(254)), "10.1.2." + (1 + random.nextInt(254))};
+            case "purpose":
+                return new String[] {pick(random, PURPOSES), pick(random, PURPOSES)};
+            case "setType":
+                return new String[] {null, pick(random, SET_TYPES)};
+            case "unused":
+                return new String[] {"false", "true"};
+            default:
+                return new String[] {null, "점검 완료"};
+        }
+    }
+
+    private record DeviceSpec(DeviceKind kind, int classroomIndex, int year) {}
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String macAddress(Random random) {
+        StringBuilder mac = new StringBuilder("00:1A");
+        for (int i = 0; i < 4; i++) {
+            mac.append(':').append(String.format("%02X", random.nextInt(256)));
+        }
+        return mac.toString();
+    }
+
+    private static void count(Map<String, Long> rowsByTable, BatchInsert insert) {
+        rowsByTable.merge(insert.table, (long) insert.rows, Long::sum);
+    }
+
+    /**
+     * 테이블 하나에 대한 BATCH_SIZE 단위 일괄 INSERT (생성된 ID는 추가 순서대로 보관)
+     */
+    private static final class BatchInsert implements AutoCloseable {
+
+        private final String table;
+        private final PreparedStatement statement;
+        private final List<Long> ids = new ArrayList<>();
+        private int pending;
+        private int rows;
+
+        BatchInsert(Connection connection, String table, String... columns) throws SQLException {
+            this.table = table;
+            String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + "?, ".repeat(columns.length - 1) + "?)";
+            this.statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 남은 행을 기록하고 생성된 ID 목록 반환
+         */
+        List<Long> finish() throws SQLException {
+            flush();
+            return ids;
+        }
+
+        private void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            statement.executeBatch();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+            rows += pending;
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
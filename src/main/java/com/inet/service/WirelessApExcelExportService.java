@@ -15,6 +15,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -30,6 +31,7 @@ import java.util.Optional;
 import java.util.Set;
 
 @Service
+@Lazy
 public class WirelessApExcelExportService {
 
     private static final String UNASSIGNED_CLASSROOM_TYPE = "미지정";
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class WirelessApHistoryService {
@@ -86,6 +87,17 @@ public class WirelessApHistoryService {
         return wirelessApHistoryRepository.findBySchoolIdAndKeyword(schoolId, keyword, mapped, pageable);
     }
 
+    /**
+     * 엑셀 내보내기용 수정내역 스트림 (호출자의 읽기 전용 트랜잭션 안에서 닫아야 함)
+     */
+    public Stream<WirelessApHistoryRepository.ExcelRow> streamWirelessApHistoryForExcel(Long schoolId, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return wirelessApHistoryRepository.streamExcelRowsBySchoolId(schoolId);
+        }
+        String cleanKeyword = keyword.trim();
+        return wirelessApHistoryRepository.streamExcelRowsBySchoolIdAndKeyword(schoolId, cleanKeyword, mapKoreanFieldToEnglish(cleanKeyword));
+    }
+
     // 한글 표시 필드명을 실제 저장된 영문 필드명으로 매핑하여 검색 정확도 향상
     private String mapKoreanFieldToEnglish(String keyword) {
         if (keyword == null) return null;
@@ -0,0 +1,56 @@
+package com.inet.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 교실명 정규화 (중복 교실 검사용 classroom.normalized_name)
+ */
+public final class ClassroomNameUtils {
+
+    // 공백, "학"/"년"/"반", 구분용 특수문자 (-, _, 괄호, 대괄호)
+    private static final Pattern IGNORED_CHARACTERS = Pattern.compile("[\\s학년반\\-_()\\[\\]]+");
+
+    private ClassroomNameUtils() {
+    }
+
+    /**
+     * 교실명 정규화 (소문자 변환 후 공백, 특수문자 제거하여 비교용 키 생성)
+     */
+    public static String normalize(String roomName) {
+        if (roomName == null) {
+            return "";
+        }
+        return IGNORED_CHARACTERS.matcher(roomName.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    /**
+     * 두 키의 편집 거리 (maxDistance를 넘으면 maxDistance + 1 반환)
+     */
+    public static int editDistance(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+}
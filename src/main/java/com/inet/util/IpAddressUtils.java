@@ -0,0 +1,75 @@
+package com.inet.util;
+
+/**
+ * IPv4 주소 ↔ 정수 변환 (device.ip_numeric 컬럼용)
+ * - 10.101.36.227 → 10 * 2^24 + 101 * 2^16 + 36 * 2^8 + 227
+ * - /24 대역은 (값 >> 8), 호스트 번호는 (값 & 0xFF)
+ */
+public final class IpAddressUtils {
+
+    private IpAddressUtils() {
+    }
+
+    /**
+     * 점 표기 IPv4 주소를 정수로 변환 (앞뒤 공백 허용, 형식이 맞지 않으면 null)
+     */
+    public static Long toNumeric(String ipAddress) {
+        if (ipAddress == null) {
+            return null;
+        }
+        String ip = ipAddress.trim();
+        if (ip.isEmpty()) {
+            return null;
+        }
+
+        long value = 0;
+        int octet = -1;
+        int octetCount = 0;
+        for (int i = 0; i <= ip.length(); i++) {
+            char c = i < ip.length() ? ip.charAt(i) : '.';
+            if (c == '.') {
+                if (octet < 0 || ++octetCount > 4) {
+                    return null;
+                }
+                value = (value << 8) | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return octetCount == 4 ? value : null;
+    }
+
+    /**
+     * 정수를 점 표기 IPv4 주소로 변환
+     */
+    public static String toDotted(long value) {
+        return ((value >> 24) & 0xFF) + "." + ((value >> 16) & 0xFF) + "." + ((value >> 8) & 0xFF) + "." + (value & 0xFF);
+    }
+
+    /**
+     * 옥텟 값으로 정수 IPv4 주소 생성
+     */
+    public static long of(int a, int b, int c, int d) {
+        return ((long) (a & 0xFF) << 24) | ((b & 0xFF) << 16) | ((c & 0xFF) << 8) | (d & 0xFF);
+    }
+
+    /**
+     * 두 번째 옥텟 (10.X.y.z 의 X)
+     */
+    public static int secondOctet(long value) {
+        return (int) ((value >> 16) & 0xFF);
+    }
+
+    /**
+     * 호스트 번호 (마지막 옥텟)
+     */
+    public static int hostOctet(long value) {
+        return (int) (value & 0xFF);
+    }
+}
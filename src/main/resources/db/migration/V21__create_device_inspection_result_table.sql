@@ -0,0 +1,41 @@
+-- 장비검사 결과 정규화 테이블
+-- device_inspection_history.inspection_details(JSON TEXT)에 담던 장비별 검사 결과를 행 단위로 저장
+
+CREATE TABLE IF NOT EXISTS device_inspection_result (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    history_id BIGINT NOT NULL,
+    device_id BIGINT NOT NULL,
+    school_id BIGINT NOT NULL,
+    inspection_status VARCHAR(20) NOT NULL, -- 'CONFIRMED', 'MODIFIED', 'UNCHECKED'
+    inspected_at DATETIME NOT NULL,          -- 검사 이력의 inspection_date
+    INDEX idx_inspection_result_history (history_id),
+    INDEX idx_inspection_result_device (device_id, inspection_status, inspected_at),
+    INDEX idx_inspection_result_school (school_id, device_id),
+    FOREIGN KEY (history_id) REFERENCES device_inspection_history(id) ON DELETE CASCADE
+);
+
+-- 기존 JSON 데이터 이관
+-- 지원 형식: {"statuses": {"5965": "confirmed", ...}} 또는 {"5965": "confirmed", ...}
+INSERT INTO device_inspection_result (history_id, device_id, school_id, inspection_status, inspected_at)
+SELECT h.id,
+       CAST(k.device_key AS UNSIGNED),
+       h.school_id,
+       CASE UPPER(JSON_UNQUOTE(JSON_EXTRACT(h.details, CONCAT('$."', k.device_key, '"'))))
+           WHEN 'CONFIRMED' THEN 'CONFIRMED'
+           WHEN 'MODIFIED' THEN 'MODIFIED'
+           ELSE 'UNCHECKED'
+       END,
+       h.inspection_date
+FROM (
+    SELECT id, school_id, inspection_date,
+           COALESCE(JSON_EXTRACT(inspection_details, '$.statuses'), CAST(inspection_details AS JSON)) AS details
+    FROM device_inspection_history
+    WHERE inspection_details IS NOT NULL
+      AND JSON_VALID(inspection_details)
+      AND NOT EXISTS (SELECT 1 FROM device_inspection_result r WHERE r.history_id = device_inspection_history.id)
+) h
+JOIN JSON_TABLE(JSON_KEYS(h.details), '$[*]' COLUMNS (device_key VARCHAR(32) PATH '$')) k
+WHERE k.device_key REGEXP '^[0-9]+$';
+
+-- 완료 확인
+SELECT '장비검사 결과 테이블 생성 및 기존 데이터 이관 완료' AS Status;
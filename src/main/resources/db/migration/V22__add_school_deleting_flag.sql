@@ -0,0 +1,4 @@
+-- 백그라운드 학교 데이터 삭제 진행 표시
+-- 삭제 중인 학교(deleting = 1)는 학교 목록 조회에서 제외됨
+
+ALTER TABLE school ADD COLUMN deleting TINYINT(1) NOT NULL DEFAULT 0;
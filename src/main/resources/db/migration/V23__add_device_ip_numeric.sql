@@ -0,0 +1,13 @@
+-- IP 주소 정수 컬럼 (중복 검사 인덱스 조회 및 대역별 범위 조회용)
+-- 애플리케이션에서 저장 시 ip_address 로부터 자동 갱신됨
+
+ALTER TABLE device ADD COLUMN ip_numeric BIGINT NULL;
+
+-- 기존 데이터 채우기 (올바른 IPv4 형식만, 나머지는 NULL 유지)
+UPDATE device
+SET ip_numeric = INET_ATON(TRIM(ip_address))
+WHERE ip_address IS NOT NULL
+  AND TRIM(ip_address) REGEXP '^[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}$';
+
+CREATE INDEX idx_device_ip_numeric ON device (ip_numeric);
+CREATE INDEX idx_device_school_ip_numeric ON device (school_id, ip_numeric);
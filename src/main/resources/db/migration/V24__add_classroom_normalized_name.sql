@@ -0,0 +1,6 @@
+-- 중복 교실 검사용 정규화 교실명
+-- 값은 애플리케이션에서 저장 시 계산하며, 기존 교실은 애플리케이션 시작 시 채움
+
+ALTER TABLE classroom ADD COLUMN normalized_name VARCHAR(255) NULL;
+
+CREATE INDEX idx_classroom_school_normalized_name ON classroom (school_id, normalized_name);
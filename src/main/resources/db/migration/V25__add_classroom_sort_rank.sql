@@ -0,0 +1,17 @@
+-- 교실 정렬 키 (간격 기반 순위)
+-- 기존 순서(display_order, 없으면 교실명 순)를 학교별로 1,048,576 간격의 순위로 옮김
+
+ALTER TABLE classroom ADD COLUMN sort_rank BIGINT NULL;
+
+UPDATE classroom c
+JOIN (
+    SELECT classroom_id,
+           ROW_NUMBER() OVER (
+               PARTITION BY school_id
+               ORDER BY display_order IS NULL, display_order, room_name, classroom_id
+           ) * 1048576 AS new_rank
+    FROM classroom
+) ranked ON ranked.classroom_id = c.classroom_id
+SET c.sort_rank = ranked.new_rank;
+
+CREATE INDEX idx_classroom_school_sort_rank ON classroom (school_id, sort_rank);
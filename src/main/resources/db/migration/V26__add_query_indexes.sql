@@ -0,0 +1,19 @@
+-- 주요 조회 조건 인덱스 (FK 인덱스만 있거나 인덱스가 없던 조회)
+-- 엔티티 @Table(indexes)와 이름/컬럼 일치, 실행 계획 검사: QueryPlanTest
+
+-- 장비: 학교+유형 필터, 교실별 조회, IP 주소 중복 검사
+CREATE INDEX idx_device_school_type ON device (school_id, type);
+CREATE INDEX idx_device_classroom ON device (classroom_id);
+CREATE INDEX idx_device_ip_address ON device (ip_address);
+
+-- 고유번호/관리번호: 학교별 분류+연도+번호 조회와 다음 번호 계산 (번호 내림차순)
+CREATE INDEX idx_uid_school_cate_year_number ON uid (school_id, cate, mfg_year, id_number);
+CREATE INDEX idx_manage_school_cate_year_num ON manage (school_id, manage_cate, year, manage_num);
+
+-- 담당자: 학교별 이름+직위 조회
+CREATE INDEX idx_operator_school_name_position ON operator (school_id, name, position);
+
+-- 수정내역: 장비별 최근 순 조회 (device_id 단일 인덱스는 새 인덱스가 대신하므로 삭제, FK도 새 인덱스 사용)
+-- 무선AP 수정내역은 V9의 idx_ap_modified_at (ap_id, modified_at) 사용
+CREATE INDEX idx_device_history_device_modified_at ON device_history (device_id, modified_at);
+DROP INDEX idx_device_history_device_id ON device_history;
@@ -1010,7 +1010,32 @@ class FloorPlanApp {
                 console.log(`📤 PPT 다운로드: 장비 폰트 크기 ${fontSize}px 전달`);
             }
             
-            window.location.href = url;
+            // 내보내기 작업으로 등록 후 완료되면 파일 받기
+            const response = await fetch(`${url}&async=true`);
+            if (response.status === 429 || response.status === 503) {
+                this.uiManager.showNotification('PPT 다운로드', '내보내기 요청이 많습니다. 잠시 후 다시 시도하세요', 'warning');
+                return;
+            }
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            const { job } = await response.json();
+            this.uiManager.showNotification('PPT 다운로드', 'PPT 파일을 생성하는 중입니다...', 'info');
+            
+            let current = job;
+            while (current.status === 'QUEUED' || current.status === 'RUNNING') {
+                await new Promise(resolve => setTimeout(resolve, 1000));
+                const statusResponse = await fetch(`/export-jobs/${job.jobId}`);
+                if (!statusResponse.ok) {
+                    throw new Error(`HTTP ${statusResponse.status}`);
+                }
+                current = (await statusResponse.json()).job;
+            }
+            if (current.status !== 'COMPLETED') {
+                throw new Error(current.errorMessage || 'PPT 생성 실패');
+            }
+            
+            window.location.href = `/export-jobs/${job.jobId}/file`;
             
             this.uiManager.showNotification('PPT 다운로드 시작', 'success');
         } catch (error) {
@@ -0,0 +1,124 @@
+package com.inet.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DB 분리 (H2 메모리 DB 2개를 기본/복제 DB 대신 사용)
+ * - 각 DB의 db_role 테이블에 DB 이름을 넣어 두고 어느 쪽에서 읽었는지 확인
+ * - 복제 지연은 복제 DB의 replica_lag 테이블 값으로 흉내
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE db_role (name VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO db_role VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE db_role (name VARCHAR(20))");
+        new JdbcTemplate(replica).update("INSERT INTO db_role VALUES ('replica')");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds INT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        ReadWriteRoutingDataSource routing = routing(replica);
+        assertThat(routing.checkReplica()).isTrue();
+
+        assertThat(readRole(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionAndNoTransactionUsePrimary() {
+        ReadWriteRoutingDataSource routing = routing(replica);
+        routing.checkReplica();
+
+        assertThat(readRole(routing, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(new LazyConnectionDataSourceProxy(routing))
+            .queryForObject("SELECT name FROM db_role", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void replicaIsNotUsedBeforeFirstCheck() {
+        ReadWriteRoutingDataSource routing = routing(replica);
+
+        assertThat(readRole(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilCaughtUp() {
+        ReadWriteRoutingDataSource routing = routing(replica);
+        routing.checkReplica();
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        assertThat(routing.checkReplica()).isFalse();
+        assertThat(routing.getReplicaLagSeconds()).isEqualTo(30);
+        assertThat(readRole(routing, true)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 1");
+        assertThat(routing.checkReplica()).isTrue();
+        assertThat(readRole(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    void failingLagQueryFallsBackToPrimary() {
+        ReadWriteRoutingDataSource routing = routing(replica);
+        routing.checkReplica();
+
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        assertThat(routing.checkReplica()).isFalse();
+        assertThat(routing.getReplicaLagSeconds()).isEqualTo(-1);
+        assertThat(readRole(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        DriverManagerDataSource missing = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        ReadWriteRoutingDataSource routing = routing(missing);
+
+        assertThat(routing.checkReplica()).isFalse();
+        assertThat(readRole(routing, true)).isEqualTo("primary");
+    }
+
+    private ReadWriteRoutingDataSource routing(DataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicaDataSource, LAG_QUERY, 5);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    // ReadWriteDataSourceConfig와 같이 LazyConnectionDataSourceProxy로 감싸서 트랜잭션 안에서 조회
+    private static String readRole(ReadWriteRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+            new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,197 @@
+package com.inet.repository;
+
+import com.inet.entity.Classroom;
+import com.inet.service.ClassroomRankService;
+import com.inet.service.SyntheticDataService;
+import com.inet.support.QueryBudget;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * 주요 리포지토리 조회의 실행 계획 검사 (./gradlew queryPlanTest)
+ * - 기본: H2(MySQL 모드) 메모리 DB에 엔티티 기준 스키마와 가상 데이터를 만들고 EXPLAIN
+ * - -Pqueryplan.url=jdbc:mysql://... : 마이그레이션이 적용된 로컬 MySQL의 기존 데이터로 EXPLAIN
+ *   (queryplan.username, queryplan.password)
+ * - 기대한 인덱스(V26 마이그레이션/엔티티 @Index)를 쓰지 않으면 실패
+ * - 교실 순서 변경은 SQL 문 수도 확인 (QueryBudget, H2 가상 데이터에서만)
+ *   (FK 단일 컬럼 인덱스만으로도 전체 스캔은 피하므로 전체 스캔 여부가 아니라 인덱스 이름으로 확인)
+ *
+ * 각 SQL은 이름의 리포지토리 메서드가 만드는 조건과 정렬을 그대로 옮긴 것이고,
+ * 값은 실제 행에서 가져옴 (행이 없으면 임의 값)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=YEAR,VALUE,USER;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.inet=WARN"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final String MYSQL_URL = System.getProperty("queryplan.url", "");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private ClassroomRankService classroomRankService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        if (!isMySql()) {
+            return;
+        }
+        registry.add("spring.datasource.url", () -> MYSQL_URL);
+        registry.add("spring.datasource.username", () -> System.getProperty("queryplan.username", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("queryplan.password", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @BeforeAll
+    void seed() {
+        if (isMySql()) {
+            return;
+        }
+        syntheticDataService.generate(new SyntheticDataService.Options(3, 20240301L, 20, 40, 2, 4, 3, "계획검사학교"));
+        // 행 수/선택도 통계 갱신 (없으면 빈 테이블 기준으로 계획)
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+            query("DeviceRepository.findBySchoolSchoolIdAndType",
+                "SELECT * FROM device WHERE school_id = ? AND type = ?",
+                "SELECT school_id, type FROM device WHERE type IS NOT NULL",
+                "idx_device_school_type"),
+            query("DeviceRepository.findByClassroom",
+                "SELECT * FROM device WHERE classroom_id = ?",
+                "SELECT classroom_id FROM device WHERE classroom_id IS NOT NULL",
+                "idx_device_classroom"),
+            query("DeviceRepository.findByIpAddress",
+                "SELECT * FROM device WHERE ip_address = ?",
+                "SELECT ip_address FROM device WHERE ip_address IS NOT NULL",
+                "idx_device_ip_address"),
+            query("UidRepository.findBySchoolAndCateAndMfgYearAndIdNumber",
+                "SELECT * FROM uid WHERE school_id = ? AND cate = ? AND mfg_year = ? AND id_number = ?",
+                "SELECT school_id, cate, mfg_year, id_number FROM uid WHERE mfg_year IS NOT NULL AND id_number IS NOT NULL",
+                "idx_uid_school_cate_year_number"),
+            query("UidRepository.findTopBySchoolAndCateAndMfgYearOrderByIdNumberDesc",
+                "SELECT * FROM uid WHERE school_id = ? AND cate = ? AND mfg_year = ? ORDER BY id_number DESC LIMIT 1",
+                "SELECT school_id, cate, mfg_year FROM uid WHERE mfg_year IS NOT NULL",
+                "idx_uid_school_cate_year_number"),
+            query("ManageRepository.findBySchoolAndManageCateAndYearAndManageNum",
+                "SELECT * FROM manage WHERE school_id = ? AND manage_cate = ? AND year = ? AND manage_num = ?",
+                "SELECT school_id, manage_cate, year, manage_num FROM manage WHERE year IS NOT NULL AND manage_num IS NOT NULL",
+                "idx_manage_school_cate_year_num"),
+            query("ManageRepository.findBySchoolAndManageCateAndYearOrderByManageNumDesc",
+                "SELECT * FROM manage WHERE school_id = ? AND manage_cate = ? AND year = ? ORDER BY manage_num DESC",
+                "SELECT school_id, manage_cate, year FROM manage WHERE year IS NOT NULL",
+                "idx_manage_school_cate_year_num"),
+            query("OperatorRepository.findByNameAndPositionAndSchool",
+                "SELECT * FROM operator WHERE school_id = ? AND name = ? AND position = ?",
+                "SELECT school_id, name, position FROM operator WHERE position IS NOT NULL",
+                "idx_operator_school_name_position"),
+            query("DeviceHistoryRepository.findByDeviceOrderByModifiedAtDesc",
+                "SELECT * FROM device_history WHERE device_id = ? ORDER BY modified_at DESC",
+                "SELECT device_id FROM device_history",
+                "idx_device_history_device_modified_at"),
+            query("WirelessApHistoryRepository.findByWirelessApOrderByModifiedAtDesc",
+                "SELECT * FROM wireless_ap_history WHERE ap_id = ? ORDER BY modified_at DESC",
+                "SELECT ap_id FROM wireless_ap_history",
+                "idx_ap_modified_at")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void usesIndex(String name, String sql, String sampleSql, String expectedIndex) {
+        Object[] params = sampleParams(sql, sampleSql);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        String planText = plan.stream()
+            .map(row -> row.values().toString())
+            .collect(Collectors.joining("\n"));
+
+        if (isMySql()) {
+            assertThat(plan)
+                .as("%s 인덱스 %s 미사용\n%s", name, expectedIndex, planText)
+                .anyMatch(row -> expectedIndex.equalsIgnoreCase(String.valueOf(row.get("key"))));
+        } else {
+            // H2 계획: /* public.인덱스명: 조건 */ (전체 스캔은 /* public.테이블.tableScan */)
+            assertThat(planText.toLowerCase(Locale.ROOT))
+                .as("%s 인덱스 %s 미사용\n%s", name, expectedIndex, planText)
+                .contains("." + expectedIndex + ":");
+        }
+    }
+
+    // 학교 잠금 + 순위 조회 + 대상 교실 한 행 갱신 (변경은 롤백)
+    @Test
+    void classroomMoveWritesOneRow() {
+        assumeFalse(isMySql(), "기존 MySQL 데이터는 순위가 비어 있을 수 있음");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Long schoolId = jdbcTemplate.queryForObject("SELECT MIN(school_id) FROM classroom", Long.class);
+            List<Classroom> classrooms = classroomRepository.findBySchoolSchoolIdOrderBySortRank(schoolId);
+            Classroom last = classrooms.get(classrooms.size() - 1);
+
+            int written = QueryBudget.assertAtMost(3, () -> classroomRankService.moveTo(last, 1));
+
+            assertThat(written).isEqualTo(1);
+            assertThat(classroomRepository.findRankRowsBySchoolSchoolId(schoolId).get(0).getClassroomId())
+                .isEqualTo(last.getClassroomId());
+            status.setRollbackOnly();
+        });
+    }
+
+    private Object[] sampleParams(String sql, String sampleSql) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sampleSql + " LIMIT 1");
+        if (!rows.isEmpty()) {
+            return rows.get(0).values().toArray();
+        }
+        // 데이터가 없는 테이블은 임의 값 (실행 계획 확인용)
+        Object[] params = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(params, "1");
+        return params;
+    }
+
+    private static Arguments query(String name, String sql, String sampleSql, String expectedIndex) {
+        return Arguments.of(name, sql, sampleSql, expectedIndex);
+    }
+
+    private static boolean isMySql() {
+        return !MYSQL_URL.isBlank();
+    }
+}
@@ -0,0 +1,39 @@
+package com.inet.support;
+
+import com.inet.config.SqlStatementStats;
+
+import java.util.function.Supplier;
+
+/**
+ * 쿼리 예산 검사 (테스트용)
+ * - 작업 중 Hibernate가 실행한 SQL 문 수가 예산을 넘으면 실행된 SQL 목록과 함께 AssertionError
+ *
+ * 예: List<Device> devices = QueryBudget.assertAtMost(2, () -> deviceService.findBySchoolInClassroomOrder(schoolId, null));
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        T result;
+        int count;
+        String statements;
+        try (SqlStatementStats.Scope scope = SqlStatementStats.begin(true)) {
+            result = action.get();
+            count = scope.getStatementCount();
+            statements = String.join("\n  ", scope.getStatements());
+        }
+        if (count > maxStatements) {
+            throw new AssertionError("SQL 문 " + count + "건 실행 (예산 " + maxStatements + "건)\n  " + statements);
+        }
+        return result;
+    }
+
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        assertAtMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}